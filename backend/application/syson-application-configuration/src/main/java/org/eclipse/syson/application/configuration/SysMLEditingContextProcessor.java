@@ -14,11 +14,17 @@ package org.eclipse.syson.application.configuration;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -27,6 +33,8 @@ import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.util.ContentHash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -43,6 +51,12 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
     private final Logger logger = LoggerFactory.getLogger(SysMLEditingContextProcessor.class);
 
     private final SysMLStandardLibrariesConfiguration standardLibraries;
+
+    /**
+     * The content hashes of the roots of the standard libraries, by library. The standard libraries are loaded once,
+     * their hashes are computed the first time they are needed and reused by the next editing contexts.
+     */
+    private final Map<URI, List<Long>> sourceContentHashes = new ConcurrentHashMap<>();
     
     public SysMLEditingContextProcessor(SysMLStandardLibrariesConfiguration standardLibraries) {
         this.standardLibraries = Objects.requireNonNull(standardLibraries);
@@ -70,6 +84,10 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
                     for (EObject eObject : contents) {
                         targetResource.getContents().add(EcoreUtil.copy(eObject));
                     }
+                } else if (!this.haveSameContents(sourceResource, targetResource)) {
+                    // The library has changed since it has been copied in the editing context
+                    this.logger.info("Update the standard library {} in the editing context", sourceResource.getURI());
+                    this.replaceContents(sourceResource, targetResource);
                 }
             });
         }
@@ -81,4 +99,90 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
     @Override
     public void postProcess(IEditingContext editingContext) {
     }
+
+    /**
+     * Check whether the given resources have the same contents, comparing the content hashes of their roots. The
+     * hashes of the copies are not cached, to avoid adding an adapter to each element of the libraries.
+     */
+    private boolean haveSameContents(Resource sourceResource, Resource targetResource) {
+        List<Long> sourceHashes = this.sourceContentHashes.computeIfAbsent(sourceResource.getURI(), uri -> this.computeContentHashes(sourceResource));
+        EList<EObject> targetContents = targetResource.getContents();
+        boolean haveSameContents = sourceHashes.size() == targetContents.size();
+        for (int i = 0; i < sourceHashes.size() && haveSameContents; i++) {
+            haveSameContents = sourceHashes.get(i) != null && targetContents.get(i) instanceof Element targetElement && sourceHashes.get(i) == ContentHash.compute(targetElement);
+        }
+        return haveSameContents;
+    }
+
+    /**
+     * Compute the content hashes of the roots of the given resource, <code>null</code> standing for the roots which are
+     * not {@link Element}s.
+     */
+    private List<Long> computeContentHashes(Resource resource) {
+        return resource.getContents().stream()
+                .map(root -> root instanceof Element element ? Long.valueOf(ContentHash.compute(element)) : null)
+                .toList();
+    }
+
+    /**
+     * Replace the contents of the given copy of a library by a new copy of the library. The references of the other
+     * resources to the elements of the former copy are moved to the elements of the new copy with the same elementId,
+     * so that the models of the users do not reference detached elements.
+     */
+    private void replaceContents(Resource sourceResource, Resource targetResource) {
+        Map<String, EObject> formerElements = this.getElementsById(targetResource);
+        targetResource.getContents().clear();
+        for (EObject eObject : sourceResource.getContents()) {
+            targetResource.getContents().add(EcoreUtil.copy(eObject));
+        }
+        Map<String, EObject> newElements = this.getElementsById(targetResource);
+        Map<EObject, EObject> replacements = new HashMap<>();
+        formerElements.forEach((elementId, formerElement) -> {
+            EObject newElement = newElements.get(elementId);
+            if (newElement != null) {
+                replacements.put(formerElement, newElement);
+            }
+        });
+        ResourceSet resourceSet = targetResource.getResourceSet();
+        for (Resource resource : resourceSet.getResources()) {
+            if (resource != targetResource) {
+                resource.getAllContents().forEachRemaining(eObject -> this.replaceReferences(eObject, replacements));
+            }
+        }
+    }
+
+    private Map<String, EObject> getElementsById(Resource resource) {
+        Map<String, EObject> elementsById = new HashMap<>();
+        resource.getAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Element element && element.getElementId() != null) {
+                elementsById.put(element.getElementId(), element);
+            }
+        });
+        return elementsById;
+    }
+
+    /**
+     * Replace the values of the stored cross references of the given element by their replacements, if any.
+     */
+    @SuppressWarnings("unchecked")
+    private void replaceReferences(EObject eObject, Map<EObject, EObject> replacements) {
+        for (EReference reference : eObject.eClass().getEAllReferences()) {
+            if (!reference.isContainment() && !reference.isContainer() && !reference.isDerived() && !reference.isTransient() && reference.isChangeable()) {
+                if (reference.isMany()) {
+                    EList<EObject> values = (EList<EObject>) eObject.eGet(reference, false);
+                    for (int i = 0; i < values.size(); i++) {
+                        EObject replacement = replacements.get(values.get(i));
+                        if (replacement != null) {
+                            values.set(i, replacement);
+                        }
+                    }
+                } else {
+                    EObject replacement = replacements.get(eObject.eGet(reference, false));
+                    if (replacement != null) {
+                        eObject.eSet(reference, replacement);
+                    }
+                }
+            }
+        }
+    }
 }
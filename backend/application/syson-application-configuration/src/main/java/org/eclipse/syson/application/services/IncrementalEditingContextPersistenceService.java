@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.eclipse.sirius.web.services.api.id.IDParser;
+import org.eclipse.syson.application.configuration.SysMLStandardLibrariesConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Optional {@link IEditingContextPersistenceService}, enabled with
+ * <code>org.eclipse.syson.persistence.incremental.enabled=true</code>, which only persists the documents modified since
+ * they have been persisted for the last time.
+ * <p>
+ * The modifications of the documents are tracked by their resources (see {@link Resource#isModified()}), the tracking
+ * being enabled on each document the first time it is persisted. This first time, the document is persisted as usual.
+ * Then, only the modified documents are serialized and saved, and they are marked as unmodified once saved. The
+ * documents of the standard libraries, which are read-only and not stored in the database, are neither tracked nor
+ * persisted.
+ * </p>
+ *
+ * @author arichard
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "org.eclipse.syson.persistence.incremental.enabled", havingValue = "true")
+public class IncrementalEditingContextPersistenceService implements IEditingContextPersistenceService {
+
+    private final Logger logger = LoggerFactory.getLogger(IncrementalEditingContextPersistenceService.class);
+
+    private final IDocumentRepository documentRepository;
+
+    private final Timer timer;
+
+    private final Counter savedDocuments;
+
+    private final Counter skippedDocuments;
+
+    public IncrementalEditingContextPersistenceService(IDocumentRepository documentRepository, MeterRegistry meterRegistry) {
+        this.documentRepository = Objects.requireNonNull(documentRepository);
+        this.timer = Timer.builder("syson.persistence.incremental.duration")
+                .description("Duration of the persistence of the modified documents of an editing context")
+                .register(meterRegistry);
+        this.savedDocuments = Counter.builder("syson.persistence.incremental.saved")
+                .description("Number of documents saved")
+                .register(meterRegistry);
+        this.skippedDocuments = Counter.builder("syson.persistence.incremental.skipped")
+                .description("Number of unmodified documents not saved")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void persist(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            this.timer.record(() -> this.persist(emfEditingContext.getDomain().getResourceSet()));
+        }
+    }
+
+    private void persist(ResourceSet resourceSet) {
+        List<Resource> resources = new ArrayList<>(resourceSet.getResources());
+        for (Resource resource : resources) {
+            Optional<UUID> documentId = new IDParser().parse(resource.getURI().path().substring(1));
+            if (documentId.isPresent() && !this.isLibrary(resource)) {
+                if (!resource.isTrackingModification()) {
+                    // Only the modifications made after the first successful persistence are tracked
+                    if (this.save(documentId.get(), resource)) {
+                        resource.setTrackingModification(true);
+                    }
+                } else if (resource.isModified()) {
+                    if (this.save(documentId.get(), resource)) {
+                        resource.setModified(false);
+                    }
+                } else {
+                    this.skippedDocuments.increment();
+                }
+            }
+        }
+    }
+
+    private boolean isLibrary(Resource resource) {
+        String scheme = resource.getURI().scheme();
+        return SysMLStandardLibrariesConfiguration.KERML_LIBRARY_SCHEME.equals(scheme) || SysMLStandardLibrariesConfiguration.SYSML_LIBRARY_SCHEME.equals(scheme);
+    }
+
+    private boolean save(UUID documentId, Resource resource) {
+        boolean saved = false;
+        Map<String, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ENCODING, JsonResource.ENCODING_UTF_8);
+        options.put(JsonResource.OPTION_SCHEMA_LOCATION, Boolean.TRUE);
+        try (var outputStream = new ByteArrayOutputStream()) {
+            resource.save(outputStream, options);
+            for (Resource.Diagnostic warning : resource.getWarnings()) {
+                this.logger.warn(warning.getMessage());
+            }
+            for (Resource.Diagnostic error : resource.getErrors()) {
+                this.logger.warn(error.getMessage());
+            }
+            var optionalDocumentEntity = this.documentRepository.findById(documentId);
+            if (optionalDocumentEntity.isPresent()) {
+                var documentEntity = optionalDocumentEntity.get();
+                documentEntity.setContent(outputStream.toString(StandardCharsets.UTF_8));
+                this.documentRepository.save(documentEntity);
+                this.savedDocuments.increment();
+                saved = true;
+            }
+        } catch (IllegalArgumentException | IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return saved;
+    }
+}
@@ -12,22 +12,40 @@
  *******************************************************************************/
 package org.eclipse.syson.application.configuration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.services.documents.EditingDomainFactory;
 import org.eclipse.sirius.web.services.editingcontext.EditingContext;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -39,9 +57,16 @@ import org.springframework.core.io.support.ResourcePatternResolver;
  */
 public class SysMLEditingContextProcessorTest {
 
-    
+    /**
+     * The approximate overhead in bytes of a duplicated name, besides its characters: the header and fields of the
+     * String (24 bytes) and the header and length of its Latin-1 byte array (16 bytes), with compressed references.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
     private static ResourceSet resourceSet;
 
+    private final Logger logger = LoggerFactory.getLogger(SysMLEditingContextProcessorTest.class);
+
     @BeforeAll
     static void loadLibraries() {
         AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
@@ -79,4 +104,90 @@ public class SysMLEditingContextProcessorTest {
             assertNotNull(emfResource, "Unable to load " + libraryFilePath);
         }
     }
+
+    @Test
+    void skipUnchangedLibraries() {
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
+        ResourceSet targetResourceSet = editingDomain.getResourceSet();
+        SysMLStandardLibrariesConfiguration standardLibraries = new SysMLStandardLibrariesConfiguration();
+        List<Resource> sourceResources = standardLibraries.getLibrariesResourceSet().getResources();
+        Resource unchangedLibrary = this.copyLibrary(sourceResources.get(0), targetResourceSet);
+        EObject unchangedRoot = unchangedLibrary.getContents().get(0);
+        Resource changedLibrary = this.copyLibrary(sourceResources.get(1), targetResourceSet);
+        Element changedRoot = (Element) changedLibrary.getContents().get(0);
+        changedRoot.setDeclaredName(changedRoot.getDeclaredName() + "Changed");
+
+        new SysMLEditingContextProcessor(standardLibraries).preProcess(new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of()));
+
+        assertEquals(sourceResources.size(), targetResourceSet.getResources().size());
+        assertSame(unchangedRoot, unchangedLibrary.getContents().get(0));
+        assertNotSame(changedRoot, changedLibrary.getContents().get(0));
+        assertEquals(((Element) sourceResources.get(1).getContents().get(0)).getDeclaredName(), ((Element) changedLibrary.getContents().get(0)).getDeclaredName());
+    }
+
+    @Test
+    void remapReferencesToUpdatedLibraries() {
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
+        ResourceSet targetResourceSet = editingDomain.getResourceSet();
+        SysMLStandardLibrariesConfiguration standardLibraries = new SysMLStandardLibrariesConfiguration();
+        Resource changedLibrary = this.copyLibrary(standardLibraries.getLibrariesResourceSet().getResources().get(0), targetResourceSet);
+        Element changedRoot = (Element) changedLibrary.getContents().get(0);
+        changedRoot.setDeclaredName(changedRoot.getDeclaredName() + "Changed");
+        Type libraryType = null;
+        var iterator = changedLibrary.getAllContents();
+        while (libraryType == null && iterator.hasNext()) {
+            if (iterator.next() instanceof Type type) {
+                libraryType = type;
+            }
+        }
+        assertNotNull(libraryType);
+        Resource userModel = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        targetResourceSet.getResources().add(userModel);
+        FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setType(libraryType);
+        userModel.getContents().add(featureTyping);
+
+        new SysMLEditingContextProcessor(standardLibraries).preProcess(new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of()));
+
+        // The user model references the element of the new copy of the library with the same elementId
+        assertNotSame(libraryType, featureTyping.getType());
+        assertSame(changedLibrary, featureTyping.getType().eResource());
+        assertEquals(libraryType.getElementId(), featureTyping.getType().getElementId());
+        assertTrue(EcoreUtil.isAncestor(changedLibrary, featureTyping.getType()));
+    }
+
+    @Test
+    void internKerMLLibrariesNames() {
+        int nameCount = 0;
+        long duplicatedNameBytes = 0;
+        Set<String> names = new HashSet<>();
+        Set<String> nameInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Resource resource : resourceSet.getResources()) {
+            if (SysMLStandardLibrariesConfiguration.KERML_LIBRARY_SCHEME.equals(resource.getURI().scheme())) {
+                var iterator = resource.getAllContents();
+                while (iterator.hasNext()) {
+                    if (iterator.next() instanceof Element element && element.getDeclaredName() != null) {
+                        String name = element.getDeclaredName();
+                        nameCount++;
+                        if (!names.add(name)) {
+                            // The String and its byte array, which would have been retained without interning
+                            duplicatedNameBytes += STRING_OVERHEAD + name.length();
+                        }
+                        nameInstances.add(name);
+                    }
+                }
+            }
+        }
+        assertEquals(names.size(), nameInstances.size());
+        this.logger.info("{} names in the KerML libraries, {} distinct ones, about {} bytes saved by interning them", nameCount, names.size(), duplicatedNameBytes);
+    }
+
+    private Resource copyLibrary(Resource sourceResource, ResourceSet targetResourceSet) {
+        Resource targetResource = new JSONResourceFactory().createResource(sourceResource.getURI());
+        targetResourceSet.getResources().add(targetResource);
+        for (EObject eObject : sourceResource.getContents()) {
+            targetResource.getContents().add(EcoreUtil.copy(eObject));
+        }
+        return targetResource;
+    }
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.eclipse.sirius.web.services.documents.EditingDomainFactory;
+import org.eclipse.sirius.web.services.editingcontext.EditingContext;
+import org.eclipse.syson.application.configuration.SysMLStandardLibrariesConfiguration;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link IncrementalEditingContextPersistenceService} tests.
+ *
+ * @author arichard
+ */
+public class IncrementalEditingContextPersistenceServiceTest {
+
+    private final Map<UUID, DocumentEntity> documents = new HashMap<>();
+
+    private final List<UUID> savedDocumentIds = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+
+    private IncrementalEditingContextPersistenceService persistenceService;
+
+    @BeforeEach
+    void setUp() {
+        // Only the methods used by the service are implemented
+        IDocumentRepository documentRepository = (IDocumentRepository) Proxy.newProxyInstance(IDocumentRepository.class.getClassLoader(), new Class<?>[] { IDocumentRepository.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    if ("findById".equals(method.getName())) {
+                        result = Optional.ofNullable(this.documents.get(args[0]));
+                    } else if ("save".equals(method.getName())) {
+                        this.savedDocumentIds.add(((DocumentEntity) args[0]).getId());
+                        result = args[0];
+                    } else {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return result;
+                });
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.persistenceService = new IncrementalEditingContextPersistenceService(documentRepository, this.meterRegistry);
+    }
+
+    @Test
+    void testOnlyModifiedDocumentsArePersisted() {
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
+        ResourceSet resourceSet = editingDomain.getResourceSet();
+        UUID documentId = UUID.randomUUID();
+        Resource document = this.createResource(resourceSet, URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + documentId));
+        Package root = (Package) document.getContents().get(0);
+        DocumentEntity documentEntity = new DocumentEntity();
+        documentEntity.setId(documentId);
+        this.documents.put(documentId, documentEntity);
+        UUID otherDocumentId = UUID.randomUUID();
+        this.createResource(resourceSet, URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + otherDocumentId));
+        DocumentEntity otherDocumentEntity = new DocumentEntity();
+        otherDocumentEntity.setId(otherDocumentId);
+        this.documents.put(otherDocumentId, otherDocumentEntity);
+        Resource library = this.createResource(resourceSet, URI.createURI(SysMLStandardLibrariesConfiguration.KERML_LIBRARY_SCHEME + ":///" + UUID.randomUUID()));
+        EditingContext editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
+
+        // The first time, all the documents are saved
+        this.persistenceService.persist(editingContext);
+        assertEquals(List.of(documentId, otherDocumentId), this.savedDocumentIds);
+        assertTrue(documentEntity.getContent().contains(root.getElementId()));
+        assertFalse(library.isTrackingModification());
+
+        // Then only the modified ones
+        this.savedDocumentIds.clear();
+        root.setDeclaredName("renamed");
+        ((Package) library.getContents().get(0)).setDeclaredName("renamed");
+        this.persistenceService.persist(editingContext);
+        assertEquals(List.of(documentId), this.savedDocumentIds);
+        assertTrue(documentEntity.getContent().contains("renamed"));
+        assertFalse(document.isModified());
+
+        this.savedDocumentIds.clear();
+        this.persistenceService.persist(editingContext);
+        assertEquals(List.of(), this.savedDocumentIds);
+        assertEquals(3, this.meterRegistry.get("syson.persistence.incremental.saved").counter().count());
+        assertEquals(3, this.meterRegistry.get("syson.persistence.incremental.skipped").counter().count());
+    }
+
+    private Resource createResource(ResourceSet resourceSet, URI uri) {
+        Resource resource = new JSONResourceFactory().createResource(uri);
+        resourceSet.getResources().add(resource);
+        resource.getContents().add(SysmlFactory.eINSTANCE.createPackage());
+        return resource;
+    }
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.syson.application.configuration.SysMLEditingContextProcessor;
+import org.eclipse.syson.diagram.general.view.GeneralViewDescriptionProvider;
+import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDescriptionProvider;
+import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
+import org.eclipse.syson.services.MultiLineLabelSwitch;
+import org.eclipse.syson.services.grammars.DirectEditLexer;
+import org.eclipse.syson.services.grammars.DirectEditParser;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PartUsage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Optional warm-up stage, enabled with <code>org.eclipse.syson.warmup.enabled=true</code>.
+ * <p>
+ * Once the application is ready, the Batmobile template is loaded in an in-memory editing context containing the
+ * standard libraries, and its General View and Interconnection View diagrams are rendered (and then dropped). The AQL
+ * expressions of both views get compiled, the SysML switches and item providers get loaded and the DFA of the direct
+ * edit grammar gets populated, so that the first diagram opened by a user does not pay for it.
+ * </p>
+ *
+ * @author arichard
+ */
+@Configuration
+@ConditionalOnProperty(name = "org.eclipse.syson.warmup.enabled", havingValue = "true")
+public class WarmUpConfiguration {
+
+    private static final String BATMOBILE_TEMPLATE_PATH = "templates/Batmobile.json";
+
+    private static final String[] DIRECT_EDIT_LABELS = {
+        "newName",
+        "newName :",
+        "newName [1..4] : Wheel",
+        "newName [*] :> parts",
+        "newName :>> mass = 1500.5",
+        "'new name' : Package::Type = \"value\"",
+        "= true",
+        "[0..*]",
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(WarmUpConfiguration.class);
+
+    private final SysMLEditingContextProcessor editingContextProcessor;
+
+    private final ComposedAdapterFactory composedAdapterFactory;
+
+    private final IDiagramCreationService diagramCreationService;
+
+    private final GeneralViewDescriptionProvider generalViewDescriptionProvider;
+
+    private final InterconnectionViewDescriptionProvider interconnectionViewDescriptionProvider;
+
+    private final Timer warmUpTimer;
+
+    public WarmUpConfiguration(SysMLEditingContextProcessor editingContextProcessor, ComposedAdapterFactory composedAdapterFactory, IDiagramCreationService diagramCreationService,
+            GeneralViewDescriptionProvider generalViewDescriptionProvider, InterconnectionViewDescriptionProvider interconnectionViewDescriptionProvider, MeterRegistry meterRegistry) {
+        this.editingContextProcessor = Objects.requireNonNull(editingContextProcessor);
+        this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
+        this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
+        this.generalViewDescriptionProvider = Objects.requireNonNull(generalViewDescriptionProvider);
+        this.interconnectionViewDescriptionProvider = Objects.requireNonNull(interconnectionViewDescriptionProvider);
+        // @formatter:off
+        this.warmUpTimer = Timer.builder("syson.warmup")
+                .description("Duration of the warm-up stage")
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Instant start = Instant.now();
+        try {
+            IEMFEditingContext editingContext = new WarmUpEditingContext(UUID.randomUUID().toString(), new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack()));
+            this.editingContextProcessor.preProcess(editingContext);
+            Optional<Element> optionalBatmobile = this.loadBatmobile(editingContext);
+            if (optionalBatmobile.isPresent()) {
+                Element batmobile = optionalBatmobile.get();
+                this.renderDiagram(editingContext, this.generalViewDescriptionProvider, GeneralViewDiagramDescriptionProvider.DESCRIPTION_NAME, batmobile);
+                this.findFirstPartUsage(batmobile)
+                        .ifPresent(partUsage -> this.renderDiagram(editingContext, this.interconnectionViewDescriptionProvider, InterconnectionViewDiagramDescriptionProvider.DESCRIPTION_NAME, partUsage));
+                this.computeLabels(batmobile);
+            }
+            this.parseDirectEditLabels();
+        } catch (RuntimeException exception) {
+            this.logger.warn("An error occurred during the warm-up: {}.", exception.getMessage());
+        }
+        Duration duration = Duration.between(start, Instant.now());
+        this.warmUpTimer.record(duration);
+        this.logger.info("Warm-up completed in {} ms", duration.toMillis());
+    }
+
+    private Optional<Element> loadBatmobile(IEMFEditingContext editingContext) {
+        Optional<Element> batmobile = Optional.empty();
+        ClassPathResource classPathResource = new ClassPathResource(BATMOBILE_TEMPLATE_PATH);
+        JsonResource resource = new JSONResourceFactory().createResourceFromPath(UUID.nameUUIDFromBytes(classPathResource.getPath().getBytes()).toString());
+        try (var inputStream = new ByteArrayInputStream(classPathResource.getContentAsByteArray())) {
+            editingContext.getDomain().getResourceSet().getResources().add(resource);
+            resource.load(inputStream, null);
+            batmobile = resource.getContents().stream()
+                    .filter(Element.class::isInstance)
+                    .map(Element.class::cast)
+                    .findFirst();
+        } catch (IOException exception) {
+            this.logger.warn("An error occured while loading {} for the warm-up: {}.", BATMOBILE_TEMPLATE_PATH, exception.getMessage());
+        }
+        return batmobile;
+    }
+
+    private void renderDiagram(IEMFEditingContext editingContext, IEditingContextRepresentationDescriptionProvider descriptionProvider, String label, Element semanticTarget) {
+        Instant start = Instant.now();
+        descriptionProvider.getRepresentationDescriptions(editingContext).stream()
+                .filter(DiagramDescription.class::isInstance)
+                .map(DiagramDescription.class::cast)
+                .filter(diagramDescription -> Objects.equals(label, diagramDescription.getLabel()))
+                .findFirst()
+                .ifPresent(diagramDescription -> this.diagramCreationService.create(label, semanticTarget, diagramDescription, editingContext));
+        long timeElapsed = Duration.between(start, Instant.now()).toMillis();
+        this.logger.info("Warm-up rendering of {} completed in {} ms", label, timeElapsed);
+    }
+
+    private Optional<PartUsage> findFirstPartUsage(Element root) {
+        TreeIterator<EObject> iterator = root.eAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof PartUsage partUsage) {
+                return Optional.of(partUsage);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Compute the label of all elements, the diagrams only render the labels of the synchronized nodes.
+     */
+    private void computeLabels(Element root) {
+        MultiLineLabelSwitch labelSwitch = new MultiLineLabelSwitch();
+        labelSwitch.doSwitch(root);
+        root.eAllContents().forEachRemaining(labelSwitch::doSwitch);
+    }
+
+    private void parseDirectEditLabels() {
+        for (String label : DIRECT_EDIT_LABELS) {
+            DirectEditLexer lexer = new DirectEditLexer(CharStreams.fromString(label));
+            lexer.removeErrorListeners();
+            DirectEditParser parser = new DirectEditParser(new CommonTokenStream(lexer));
+            parser.removeErrorListeners();
+            parser.expression();
+        }
+    }
+
+    /**
+     * The in-memory editing context used by the warm-up, it is never persisted.
+     *
+     * @author arichard
+     */
+    private static final class WarmUpEditingContext implements IEMFEditingContext {
+
+        private final String id;
+
+        private final AdapterFactoryEditingDomain domain;
+
+        WarmUpEditingContext(String id, AdapterFactoryEditingDomain domain) {
+            this.id = Objects.requireNonNull(id);
+            this.domain = Objects.requireNonNull(domain);
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public AdapterFactoryEditingDomain getDomain() {
+            return this.domain;
+        }
+    }
+}
@@ -12,22 +12,39 @@
  *******************************************************************************/
 package org.eclipse.syson.services;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.EValidator.Registry;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.collaborative.validation.api.IValidationService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.application.configuration.SysMLStandardLibrariesConfiguration;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
  * Used to validate EMF elements in SysON.
  *
@@ -36,76 +53,194 @@ import org.springframework.stereotype.Service;
 @Service
 public class EMFValidationService implements IValidationService {
 
+    /**
+     * The key of the number of elements validated in a subtree, in the context of its validation.
+     */
+    private static final String VALIDATED_ELEMENTS = "syson.validation.elements";
+
     private final Registry eValidatorRegistry;
 
     private final ComposedAdapterFactory composedAdapterFactory;
 
-    public EMFValidationService(EValidator.Registry eValidatorRegistry, ComposedAdapterFactory composedAdapterFactory) {
+    private final Diagnostician elementDiagnostician;
+
+    private final Diagnostician subtreeDiagnostician;
+
+    private final Timer validationTimer;
+
+    private final Counter validatedElementsCounter;
+
+    public EMFValidationService(EValidator.Registry eValidatorRegistry, ComposedAdapterFactory composedAdapterFactory, MeterRegistry meterRegistry) {
         this.eValidatorRegistry = Objects.requireNonNull(eValidatorRegistry);
         this.composedAdapterFactory = Objects.requireNonNull(composedAdapterFactory);
+        this.elementDiagnostician = this.getNewDiagnostician(false);
+        this.subtreeDiagnostician = this.getNewDiagnostician(true);
+        // @formatter:off
+        this.validationTimer = Timer.builder("syson.validation.duration")
+                .description("Duration of the validation of a whole editing context")
+                .register(meterRegistry);
+        this.validatedElementsCounter = Counter.builder("syson.validation.elements")
+                .description("Number of elements validated in editing contexts")
+                .register(meterRegistry);
+        // @formatter:on
     }
 
     @Override
     public List<Object> validate(IEditingContext editingContext) {
+        Instant start = Instant.now();
         // @formatter:off
-        return Optional.of(editingContext)
-            .filter(IEMFEditingContext.class::isInstance)
-            .map(IEMFEditingContext.class::cast)
-            .map(this::validate)
-            .orElseGet(List::of);
+        List<Object> diagnostics = this.getSubtreeValidations(editingContext).stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .map(Object.class::cast)
+                .toList();
         // @formatter:on
+        this.recordValidation(editingContext, start);
+        return diagnostics;
     }
 
-    @Override
-    public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
-            Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                // @formatter:off
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .map(Object.class::cast)
-                        .toList();
-                // @formatter:on
+    /**
+     * Validate the given editing context in background. The diagnostics of each subtree of the model are streamed as
+     * soon as its validation is completed. The model must not be modified until the returned flux has completed.
+     *
+     * @param editingContext
+     *            the editing context to validate.
+     * @return the diagnostics of the editing context.
+     */
+    public Flux<Diagnostic> validateInBackground(IEditingContext editingContext) {
+        Instant start = Instant.now();
+        // @formatter:off
+        return Flux.fromIterable(this.getSubtreeValidations(editingContext))
+                .flatMap(validation -> Mono.fromFuture(validation))
+                .flatMapIterable(diagnostics -> diagnostics)
+                .doFinally(signal -> this.recordValidation(editingContext, start));
+        // @formatter:on
+    }
+
+    private void recordValidation(IEditingContext editingContext, Instant start) {
+        if (editingContext instanceof IEMFEditingContext) {
+            this.validationTimer.record(Duration.between(start, Instant.now()));
+        }
+    }
+
+    /**
+     * Split the resources of the given editing context into independent subtrees (each root element and each of its
+     * direct children) and start their validation in parallel. The standard libraries are skipped since they can't be
+     * modified.
+     * <p>
+     * The derived features evaluated by the constraints only read the model, and the caches they share on the
+     * {@link org.eclipse.emf.ecore.resource.ResourceSet} (memberships, specializations, feature chains, connector
+     * ends...) are synchronized. The item providers used to compute the labels of the diagnostics are lazily created
+     * and attached to the elements, so they are accessed one thread at a time.
+     * </p>
+     *
+     * @param editingContext
+     *            the editing context to validate.
+     * @return the pending validations of all subtrees.
+     */
+    private List<CompletableFuture<List<Diagnostic>>> getSubtreeValidations(IEditingContext editingContext) {
+        List<CompletableFuture<List<Diagnostic>>> validations = new ArrayList<>();
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            for (Resource resource : emfEditingContext.getDomain().getResourceSet().getResources()) {
+                if (!this.isLibrary(resource)) {
+                    for (EObject root : resource.getContents()) {
+                        validations.add(this.validateSubtree(root, false));
+                        for (EObject child : root.eContents()) {
+                            validations.add(this.validateSubtree(child, true));
+                        }
+                    }
+                }
             }
         }
+        return validations;
+    }
 
-        return List.of();
+    private CompletableFuture<List<Diagnostic>> validateSubtree(EObject root, boolean validateContents) {
+        return CompletableFuture.supplyAsync(() -> {
+            Diagnostician diagnostician = this.elementDiagnostician;
+            if (validateContents) {
+                diagnostician = this.subtreeDiagnostician;
+            }
+            BasicDiagnostic diagnostic = diagnostician.createDefaultDiagnostic(root);
+            Map<Object, Object> context = diagnostician.createDefaultContext();
+            AtomicInteger elementCount = new AtomicInteger();
+            context.put(VALIDATED_ELEMENTS, elementCount);
+            diagnostician.validate(root, diagnostic, context);
+            this.validatedElementsCounter.increment(elementCount.get());
+            List<Diagnostic> diagnostics = List.of();
+            if (Diagnostic.OK != diagnostic.getSeverity()) {
+                diagnostics = diagnostic.getChildren();
+            }
+            return diagnostics;
+        }, ForkJoinPool.commonPool());
+    }
+
+    private boolean isLibrary(Resource resource) {
+        String scheme = resource.getURI().scheme();
+        return SysMLStandardLibrariesConfiguration.KERML_LIBRARY_SCHEME.equals(scheme) || SysMLStandardLibrariesConfiguration.SYSML_LIBRARY_SCHEME.equals(scheme);
     }
 
-    private boolean filterDiagnosticByObject(Diagnostic diagnostic, Object object) {
-        if (diagnostic.getData() != null && !diagnostic.getData().isEmpty() && object != null) {
-            // @formatter:off
-            return diagnostic.getData().stream()
-                    .anyMatch(object::equals);
-            // @formatter:on
+    @Override
+    public List<Object> validate(Object object, Object feature) {
+        if (object instanceof EObject eObject) {
+            Resource resource = eObject.eResource();
+            if (resource != null && resource.getResourceSet() != null) {
+                return ElementDiagnosticsCache.get(resource.getResourceSet()).getDiagnostics(eObject, feature, this::validateElement);
+            }
+            if (feature != null) {
+                return ElementDiagnosticsCache.index(eObject, this.validateElement(eObject)).getOrDefault(feature, List.of());
+            }
         }
-        return false;
+
+        return List.of();
     }
 
-    private boolean filterDiagnosticByFeature(Diagnostic diagnostic, Object feature) {
-        if (diagnostic.getData() != null && !diagnostic.getData().isEmpty() && feature != null) {
-            // @formatter:off
-            return diagnostic.getData().stream()
-                    .anyMatch(feature::equals);
-            // @formatter:on
+    /**
+     * Validate the given element only, without its contents.
+     *
+     * @param eObject
+     *            the element to validate.
+     * @return the diagnostics concerning the given element.
+     */
+    private List<Diagnostic> validateElement(EObject eObject) {
+        BasicDiagnostic diagnostic = this.elementDiagnostician.createDefaultDiagnostic(eObject);
+        this.elementDiagnostician.validate(eObject, diagnostic, this.elementDiagnostician.createDefaultContext());
+        if (Diagnostic.OK != diagnostic.getSeverity()) {
+            return diagnostic.getChildren();
         }
-        return false;
+        return List.of();
     }
 
-    private Diagnostician getNewDiagnostician() {
+    private Diagnostician getNewDiagnostician(boolean validateContents) {
         return new Diagnostician(this.eValidatorRegistry) {
             @Override
             public String getObjectLabel(EObject eObject) {
-                IItemLabelProvider itemLabelProvider = (IItemLabelProvider) EMFValidationService.this.composedAdapterFactory.adapt(eObject, IItemLabelProvider.class);
-                if (itemLabelProvider != null) {
-                    return itemLabelProvider.getText(eObject);
+                // The subtrees are validated in parallel, while the item providers are lazily created and attached
+                synchronized (EMFValidationService.this.composedAdapterFactory) {
+                    IItemLabelProvider itemLabelProvider = (IItemLabelProvider) EMFValidationService.this.composedAdapterFactory.adapt(eObject, IItemLabelProvider.class);
+                    if (itemLabelProvider != null) {
+                        return itemLabelProvider.getText(eObject);
+                    }
                 }
 
                 return super.getObjectLabel(eObject);
             }
+
+            @Override
+            public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+                if (context != null && context.get(VALIDATED_ELEMENTS) instanceof AtomicInteger elementCount) {
+                    elementCount.incrementAndGet();
+                }
+                return super.validate(eClass, eObject, diagnostics, context);
+            }
+
+            @Override
+            protected boolean doValidateContents(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+                if (validateContents) {
+                    return super.doValidateContents(eObject, diagnostics, context);
+                }
+                return true;
+            }
         };
     }
 }
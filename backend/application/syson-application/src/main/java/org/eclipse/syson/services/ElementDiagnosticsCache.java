@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.util.ModificationTracker;
+
+/**
+ * Caches the diagnostics computed for the elements of a {@link ResourceSet}, indexed by element and by the other
+ * objects (usually the {@link org.eclipse.emf.ecore.EStructuralFeature}) referenced in their data.
+ * <p>
+ * The cache is attached to the {@link ResourceSet}. The diagnostics of an element are computed again once the
+ * {@link ModificationTracker} of the {@link ResourceSet} considers the element as modified, i.e. when the element or
+ * its contents have changed (the constraints of an element may depend on its contents) or when any element has been
+ * renamed. Since the data of the diagnostics reference their element, the diagnostics of an element are dropped as
+ * soon as it is detached from the {@link ResourceSet}.
+ * </p>
+ *
+ * @author arichard
+ */
+public class ElementDiagnosticsCache extends AdapterImpl {
+
+    private final Map<EObject, CachedDiagnostics> diagnostics = new HashMap<>();
+
+    private final ModificationTracker tracker;
+
+    public ElementDiagnosticsCache(ModificationTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Get the cache of the given {@link ResourceSet}, installing it (and its {@link ModificationTracker}) if needed.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the cache of the given {@link ResourceSet}.
+     */
+    public static ElementDiagnosticsCache get(ResourceSet resourceSet) {
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+        synchronized (resourceSet) {
+            ElementDiagnosticsCache cache = (ElementDiagnosticsCache) EcoreUtil.getExistingAdapter(resourceSet, ElementDiagnosticsCache.class);
+            if (cache == null) {
+                cache = new ElementDiagnosticsCache(tracker);
+                resourceSet.eAdapters().add(cache);
+                tracker.addDetachListener(cache::remove);
+            }
+            return cache;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ElementDiagnosticsCache.class;
+    }
+
+    /**
+     * Get the diagnostics of the given element concerning the given feature, validating the element if it has been
+     * modified since its diagnostics have been cached.
+     *
+     * @param eObject
+     *            the given element.
+     * @param feature
+     *            the feature (or any other object) expected in the data of the diagnostics.
+     * @param validate
+     *            the validation of an element, returning its diagnostics.
+     * @return the diagnostics of the element concerning the given feature, or an empty list if none.
+     */
+    public synchronized List<Object> getDiagnostics(EObject eObject, Object feature, Function<EObject, List<Diagnostic>> validate) {
+        CachedDiagnostics cachedDiagnostics = this.diagnostics.get(eObject);
+        if (cachedDiagnostics == null || this.tracker.isModifiedSince(eObject, cachedDiagnostics.modificationCount())) {
+            long modificationCount = this.tracker.getModificationCount();
+            cachedDiagnostics = new CachedDiagnostics(index(eObject, validate.apply(eObject)), modificationCount);
+            this.diagnostics.put(eObject, cachedDiagnostics);
+        }
+        List<Object> result = List.of();
+        if (feature != null) {
+            result = cachedDiagnostics.diagnosticsByFeature().getOrDefault(feature, List.of());
+        }
+        return result;
+    }
+
+    private synchronized void remove(EObject eObject) {
+        this.diagnostics.remove(eObject);
+    }
+
+    /**
+     * Index the given diagnostics of the given element by the other objects of their data. Only the diagnostics
+     * referencing the element in their data are kept.
+     *
+     * @param eObject
+     *            the validated element.
+     * @param diagnostics
+     *            the diagnostics computed by the validation of the element.
+     * @return the diagnostics indexed by feature.
+     */
+    public static Map<Object, List<Object>> index(EObject eObject, List<Diagnostic> diagnostics) {
+        Map<Object, List<Object>> index = new HashMap<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            List<?> data = diagnostic.getData();
+            if (data != null && data.contains(eObject)) {
+                for (Object datum : data) {
+                    if (datum != null && datum != eObject) {
+                        List<Object> featureDiagnostics = index.computeIfAbsent(datum, key -> new ArrayList<>());
+                        if (!featureDiagnostics.contains(diagnostic)) {
+                            featureDiagnostics.add(diagnostic);
+                        }
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The diagnostics of an element indexed by feature, with the modification count of the {@link ModificationTracker}
+     * when they have been computed.
+     *
+     * @author arichard
+     */
+    private record CachedDiagnostics(Map<Object, List<Object>> diagnosticsByFeature, long modificationCount) {
+    }
+}
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.services.editingcontext.EditingContext;
+import org.eclipse.syson.application.configuration.SysMLStandardLibrariesConfiguration;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link EMFValidationService} tests.
+ *
+ * @author arichard
+ */
+public class EMFValidationServiceTest {
+
+    private final AtomicInteger validationCount = new AtomicInteger();
+
+    private ComposedAdapterFactory composedAdapterFactory;
+
+    private MeterRegistry meterRegistry;
+
+    private EMFValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        EValidator.Registry eValidatorRegistry = new EValidatorRegistryImpl();
+        eValidatorRegistry.put(SysmlPackage.eINSTANCE, new EmptyPartValidator());
+        this.composedAdapterFactory = new ComposedAdapterFactory(ComposedAdapterFactory.Descriptor.Registry.INSTANCE);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.validationService = new EMFValidationService(eValidatorRegistry, this.composedAdapterFactory, this.meterRegistry);
+    }
+
+    @Test
+    void testValidateEditingContextWithoutLibraries() {
+        PartUsage nestedPart = SysmlFactory.eINSTANCE.createPartUsage();
+        EditingContext editingContext = this.createEditingContext(nestedPart);
+
+        List<Object> diagnostics = this.validationService.validate(editingContext);
+
+        // Only the nested part of the user resource has no nested part, the library is skipped
+        assertEquals(1, diagnostics.size());
+        assertEquals(nestedPart, ((Diagnostic) diagnostics.get(0)).getData().get(0));
+        assertEquals(3, this.meterRegistry.get("syson.validation.elements").counter().count());
+        assertEquals(1, this.meterRegistry.get("syson.validation.duration").timer().count());
+    }
+
+    @Test
+    void testValidateEditingContextInBackground() {
+        PartUsage nestedPart = SysmlFactory.eINSTANCE.createPartUsage();
+        EditingContext editingContext = this.createEditingContext(nestedPart);
+
+        List<Diagnostic> diagnostics = this.validationService.validateInBackground(editingContext).collectList().block();
+
+        assertEquals(1, diagnostics.size());
+        assertEquals(nestedPart, diagnostics.get(0).getData().get(0));
+        assertEquals(3, this.meterRegistry.get("syson.validation.elements").counter().count());
+        assertEquals(1, this.meterRegistry.get("syson.validation.duration").timer().count());
+    }
+
+    @Test
+    void testDiagnosticsAreCachedUntilAnOwnedElementChanges() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(part);
+
+        assertEquals(1, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(0, this.validationService.validate(part, SysmlPackage.eINSTANCE.getElement_DeclaredName()).size());
+        assertEquals(1, this.validationCount.get());
+
+        // The constraint of the part depends on its owned elements
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(featureMembership);
+        PartUsage nestedPart = SysmlFactory.eINSTANCE.createPartUsage();
+        featureMembership.getOwnedRelatedElement().add(nestedPart);
+        assertEquals(0, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(1, this.validationService.validate(nestedPart, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(3, this.validationCount.get());
+
+        // The removal of an owned element deep in the subtree invalidates the cache as well
+        featureMembership.getOwnedRelatedElement().remove(nestedPart);
+        assertEquals(1, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(4, this.validationCount.get());
+    }
+
+    @Test
+    void testDiagnosticsAreKeptWhenOtherElementsChange() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(part);
+        PartUsage otherPart = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(otherPart);
+
+        assertEquals(1, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(1, this.validationService.validate(otherPart, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(2, this.validationCount.get());
+
+        // Only the diagnostics of the modified element are computed again
+        otherPart.setIsAbstract(true);
+        assertEquals(1, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(1, this.validationService.validate(otherPart, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertEquals(3, this.validationCount.get());
+    }
+
+    @Test
+    void testDiagnosticsOfElementsOutsideOfResourceSets() {
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        assertEquals(1, this.validationService.validate(part, SysmlPackage.eINSTANCE.getUsage_NestedPart()).size());
+        assertTrue(this.validationService.validate(part, null).isEmpty());
+    }
+
+    /**
+     * Create an editing context with a library and a user resource containing a part owning the given nested part.
+     */
+    private EditingContext createEditingContext(PartUsage nestedPart) {
+        AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack());
+        ResourceSet resourceSet = editingDomain.getResourceSet();
+        Resource library = new SysmlResourceImpl(URI.createURI(SysMLStandardLibrariesConfiguration.KERML_LIBRARY_SCHEME + ":///" + UUID.randomUUID()));
+        resourceSet.getResources().add(library);
+        library.getContents().add(SysmlFactory.eINSTANCE.createPartUsage());
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(part);
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(nestedPart);
+        return new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
+    }
+
+    /**
+     * A validator reporting the parts without nested parts, i.e. a constraint depending on the owned elements of the
+     * validated element.
+     *
+     * @author arichard
+     */
+    private final class EmptyPartValidator implements EValidator {
+
+        @Override
+        public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            return this.validate(eObject.eClass(), eObject, diagnostics, context);
+        }
+
+        @Override
+        public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            EMFValidationServiceTest.this.validationCount.incrementAndGet();
+            if (eObject instanceof PartUsage partUsage && partUsage.getNestedPart().isEmpty()) {
+                diagnostics.add(new BasicDiagnostic(Diagnostic.WARNING, "test", 0, "The part has no nested part", new Object[] { eObject, SysmlPackage.eINSTANCE.getUsage_NestedPart() }));
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            return true;
+        }
+    }
+}
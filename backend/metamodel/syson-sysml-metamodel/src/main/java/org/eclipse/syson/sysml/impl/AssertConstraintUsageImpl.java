@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -47,14 +47,14 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
     protected static final boolean IS_NEGATED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsNegated() <em>Is Negated</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsNegated() <em>Is Negated</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsNegated()
      * @generated
      * @ordered
      */
-    protected boolean isNegated = IS_NEGATED_EDEFAULT;
+    protected static final int IS_NEGATED_EFLAG = 1 << 12;
 
     /**
      * <!-- begin-user-doc -->
@@ -82,7 +82,7 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
      */
     @Override
     public boolean isIsNegated() {
-        return isNegated;
+        return (flags & IS_NEGATED_EFLAG) != 0;
     }
 
     /**
@@ -92,10 +92,10 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
      */
     @Override
     public void setIsNegated(boolean newIsNegated) {
-        boolean oldIsNegated = isNegated;
-        isNegated = newIsNegated;
+        boolean oldIsNegated = (flags & IS_NEGATED_EFLAG) != 0;
+        if (newIsNegated) flags |= IS_NEGATED_EFLAG; else flags &= ~IS_NEGATED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ASSERT_CONSTRAINT_USAGE__IS_NEGATED, oldIsNegated, isNegated));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ASSERT_CONSTRAINT_USAGE__IS_NEGATED, oldIsNegated, newIsNegated));
     }
 
     /**
@@ -177,7 +177,7 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.ASSERT_CONSTRAINT_USAGE__IS_NEGATED:
-                return isNegated != IS_NEGATED_EDEFAULT;
+                return ((flags & IS_NEGATED_EFLAG) != 0) != IS_NEGATED_EDEFAULT;
             case SysmlPackage.ASSERT_CONSTRAINT_USAGE__ASSERTED_CONSTRAINT:
                 return basicGetAssertedConstraint() != null;
         }
@@ -227,7 +227,7 @@ public class AssertConstraintUsageImpl extends ConstraintUsageImpl implements As
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isNegated: ");
-        result.append(isNegated);
+        result.append((flags & IS_NEGATED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
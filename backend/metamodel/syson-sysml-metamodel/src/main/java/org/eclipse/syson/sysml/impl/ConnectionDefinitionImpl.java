@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -73,14 +73,14 @@ public class ConnectionDefinitionImpl extends PartDefinitionImpl implements Conn
     protected static final boolean IS_IMPLIED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsImplied()
      * @generated
      * @ordered
      */
-    protected boolean isImplied = IS_IMPLIED_EDEFAULT;
+    protected static final int IS_IMPLIED_EFLAG = 1 << 5;
 
     /**
      * The cached value of the '{@link #getOwnedRelatedElement() <em>Owned Related Element</em>}' containment reference list.
@@ -138,7 +138,7 @@ public class ConnectionDefinitionImpl extends PartDefinitionImpl implements Conn
      */
     @Override
     public boolean isIsImplied() {
-        return isImplied;
+        return (flags & IS_IMPLIED_EFLAG) != 0;
     }
 
     /**
@@ -148,10 +148,10 @@ public class ConnectionDefinitionImpl extends PartDefinitionImpl implements Conn
      */
     @Override
     public void setIsImplied(boolean newIsImplied) {
-        boolean oldIsImplied = isImplied;
-        isImplied = newIsImplied;
+        boolean oldIsImplied = (flags & IS_IMPLIED_EFLAG) != 0;
+        if (newIsImplied) flags |= IS_IMPLIED_EFLAG; else flags &= ~IS_IMPLIED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTION_DEFINITION__IS_IMPLIED, oldIsImplied, isImplied));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTION_DEFINITION__IS_IMPLIED, oldIsImplied, newIsImplied));
     }
 
     /**
@@ -466,7 +466,7 @@ public class ConnectionDefinitionImpl extends PartDefinitionImpl implements Conn
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.CONNECTION_DEFINITION__IS_IMPLIED:
-                return isImplied != IS_IMPLIED_EDEFAULT;
+                return ((flags & IS_IMPLIED_EFLAG) != 0) != IS_IMPLIED_EDEFAULT;
             case SysmlPackage.CONNECTION_DEFINITION__OWNED_RELATED_ELEMENT:
                 return ownedRelatedElement != null && !ownedRelatedElement.isEmpty();
             case SysmlPackage.CONNECTION_DEFINITION__OWNING_RELATED_ELEMENT:
@@ -572,7 +572,7 @@ public class ConnectionDefinitionImpl extends PartDefinitionImpl implements Conn
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isImplied: ");
-        result.append(isImplied);
+        result.append((flags & IS_IMPLIED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
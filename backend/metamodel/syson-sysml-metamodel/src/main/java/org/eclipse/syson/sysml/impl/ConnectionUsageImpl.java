@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -63,14 +63,14 @@ public class ConnectionUsageImpl extends ConnectorAsUsageImpl implements Connect
     protected static final boolean IS_INDIVIDUAL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsIndividual()
      * @generated
      * @ordered
      */
-    protected boolean isIndividual = IS_INDIVIDUAL_EDEFAULT;
+    protected static final int IS_INDIVIDUAL_EFLAG = 1 << 13;
 
     /**
      * The default value of the '{@link #getPortionKind() <em>Portion Kind</em>}' attribute.
@@ -141,7 +141,7 @@ public class ConnectionUsageImpl extends ConnectorAsUsageImpl implements Connect
      */
     @Override
     public boolean isIsIndividual() {
-        return isIndividual;
+        return (flags & IS_INDIVIDUAL_EFLAG) != 0;
     }
 
     /**
@@ -151,10 +151,10 @@ public class ConnectionUsageImpl extends ConnectorAsUsageImpl implements Connect
      */
     @Override
     public void setIsIndividual(boolean newIsIndividual) {
-        boolean oldIsIndividual = isIndividual;
-        isIndividual = newIsIndividual;
+        boolean oldIsIndividual = (flags & IS_INDIVIDUAL_EFLAG) != 0;
+        if (newIsIndividual) flags |= IS_INDIVIDUAL_EFLAG; else flags &= ~IS_INDIVIDUAL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTION_USAGE__IS_INDIVIDUAL, oldIsIndividual, isIndividual));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTION_USAGE__IS_INDIVIDUAL, oldIsIndividual, newIsIndividual));
     }
 
     /**
@@ -297,7 +297,7 @@ public class ConnectionUsageImpl extends ConnectorAsUsageImpl implements Connect
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.CONNECTION_USAGE__IS_INDIVIDUAL:
-                return isIndividual != IS_INDIVIDUAL_EDEFAULT;
+                return ((flags & IS_INDIVIDUAL_EFLAG) != 0) != IS_INDIVIDUAL_EDEFAULT;
             case SysmlPackage.CONNECTION_USAGE__PORTION_KIND:
                 return portionKind != PORTION_KIND_EDEFAULT;
             case SysmlPackage.CONNECTION_USAGE__INDIVIDUAL_DEFINITION:
@@ -387,7 +387,7 @@ public class ConnectionUsageImpl extends ConnectorAsUsageImpl implements Connect
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isIndividual: ");
-        result.append(isIndividual);
+        result.append((flags & IS_INDIVIDUAL_EFLAG) != 0);
         result.append(", portionKind: ");
         result.append(portionKind);
         result.append(')');
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.syson.sysml.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -34,6 +35,7 @@ import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.Relationship;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.util.ConnectorEnds;
 
 /**
  * <!-- begin-user-doc -->
@@ -71,14 +73,14 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
     protected static final boolean IS_IMPLIED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsImplied()
      * @generated
      * @ordered
      */
-    protected boolean isImplied = IS_IMPLIED_EDEFAULT;
+    protected static final int IS_IMPLIED_EFLAG = 1 << 10;
 
     /**
      * The cached value of the '{@link #getOwnedRelatedElement() <em>Owned Related Element</em>}' containment reference list.
@@ -121,14 +123,14 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
     protected static final boolean IS_DIRECTED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsDirected() <em>Is Directed</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsDirected() <em>Is Directed</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsDirected()
      * @generated
      * @ordered
      */
-    protected boolean isDirected = IS_DIRECTED_EDEFAULT;
+    protected static final int IS_DIRECTED_EFLAG = 1 << 11;
 
     /**
      * <!-- begin-user-doc -->
@@ -156,7 +158,7 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public boolean isIsImplied() {
-        return isImplied;
+        return (flags & IS_IMPLIED_EFLAG) != 0;
     }
 
     /**
@@ -166,10 +168,10 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public void setIsImplied(boolean newIsImplied) {
-        boolean oldIsImplied = isImplied;
-        isImplied = newIsImplied;
+        boolean oldIsImplied = (flags & IS_IMPLIED_EFLAG) != 0;
+        if (newIsImplied) flags |= IS_IMPLIED_EFLAG; else flags &= ~IS_IMPLIED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTOR__IS_IMPLIED, oldIsImplied, isImplied));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTOR__IS_IMPLIED, oldIsImplied, newIsImplied));
     }
 
     /**
@@ -283,8 +285,8 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public EList<Feature> getConnectorEnd() {
-        List<Usage> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_ConnectorEnd(), data.size(), data.toArray());
+        Feature[] data = ConnectorEnds.getConnectorEnds(this);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_ConnectorEnd(), data.length, data);
     }
 
     /**
@@ -294,7 +296,7 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public boolean isIsDirected() {
-        return isDirected;
+        return (flags & IS_DIRECTED_EFLAG) != 0;
     }
 
     /**
@@ -304,10 +306,10 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public void setIsDirected(boolean newIsDirected) {
-        boolean oldIsDirected = isDirected;
-        isDirected = newIsDirected;
+        boolean oldIsDirected = (flags & IS_DIRECTED_EFLAG) != 0;
+        if (newIsDirected) flags |= IS_DIRECTED_EFLAG; else flags &= ~IS_DIRECTED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTOR__IS_DIRECTED, oldIsDirected, isDirected));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.CONNECTOR__IS_DIRECTED, oldIsDirected, newIsDirected));
     }
 
     /**
@@ -317,8 +319,8 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public EList<Feature> getRelatedFeature() {
-        List<Usage> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_RelatedFeature(), data.size(), data.toArray());
+        Feature[] data = ConnectorEnds.getRelatedFeatures(this);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_RelatedFeature(), data.length, data);
     }
 
     /**
@@ -335,12 +337,13 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     public Feature basicGetSourceFeature() {
-        // TODO: implement this method to return the 'Source Feature' reference
-        // -> do not perform proxy resolution
-        // Ensure that you remove @generated or mark it @generated NOT
+        Feature[] relatedFeatures = ConnectorEnds.getRelatedFeatures(this);
+        if (relatedFeatures.length > 0) {
+            return relatedFeatures[0];
+        }
         return null;
     }
 
@@ -351,8 +354,12 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
      */
     @Override
     public EList<Feature> getTargetFeature() {
-        List<Usage> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_TargetFeature(), data.size(), data.toArray());
+        Feature[] relatedFeatures = ConnectorEnds.getRelatedFeatures(this);
+        Object[] data = new Object[0];
+        if (relatedFeatures.length > 1) {
+            data = Arrays.copyOfRange(relatedFeatures, 1, relatedFeatures.length);
+        }
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getConnector_TargetFeature(), data.length, data);
     }
 
     /**
@@ -514,7 +521,7 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.CONNECTOR__IS_IMPLIED:
-                return isImplied != IS_IMPLIED_EDEFAULT;
+                return ((flags & IS_IMPLIED_EFLAG) != 0) != IS_IMPLIED_EDEFAULT;
             case SysmlPackage.CONNECTOR__OWNED_RELATED_ELEMENT:
                 return ownedRelatedElement != null && !ownedRelatedElement.isEmpty();
             case SysmlPackage.CONNECTOR__OWNING_RELATED_ELEMENT:
@@ -526,7 +533,7 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
             case SysmlPackage.CONNECTOR__TARGET:
                 return target != null && !target.isEmpty();
             case SysmlPackage.CONNECTOR__IS_DIRECTED:
-                return isDirected != IS_DIRECTED_EDEFAULT;
+                return ((flags & IS_DIRECTED_EFLAG) != 0) != IS_DIRECTED_EDEFAULT;
             case SysmlPackage.CONNECTOR__ASSOCIATION:
                 return !getAssociation().isEmpty();
             case SysmlPackage.CONNECTOR__CONNECTOR_END:
@@ -594,9 +601,9 @@ public class ConnectorImpl extends FeatureImpl implements Connector {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isImplied: ");
-        result.append(isImplied);
+        result.append((flags & IS_IMPLIED_EFLAG) != 0);
         result.append(", isDirected: ");
-        result.append(isDirected);
+        result.append((flags & IS_DIRECTED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -108,14 +108,14 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
     protected static final boolean IS_VARIATION_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsVariation() <em>Is Variation</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsVariation() <em>Is Variation</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsVariation()
      * @generated
      * @ordered
      */
-    protected boolean isVariation = IS_VARIATION_EDEFAULT;
+    protected static final int IS_VARIATION_EFLAG = 1 << 3;
 
     /**
      * <!-- begin-user-doc -->
@@ -154,7 +154,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public boolean isIsVariation() {
-        return isVariation;
+        return (flags & IS_VARIATION_EFLAG) != 0;
     }
 
     /**
@@ -164,10 +164,10 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public void setIsVariation(boolean newIsVariation) {
-        boolean oldIsVariation = isVariation;
-        isVariation = newIsVariation;
+        boolean oldIsVariation = (flags & IS_VARIATION_EFLAG) != 0;
+        if (newIsVariation) flags |= IS_VARIATION_EFLAG; else flags &= ~IS_VARIATION_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.DEFINITION__IS_VARIATION, oldIsVariation, isVariation));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.DEFINITION__IS_VARIATION, oldIsVariation, newIsVariation));
     }
 
     /**
@@ -805,7 +805,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.DEFINITION__IS_VARIATION:
-                return isVariation != IS_VARIATION_EDEFAULT;
+                return ((flags & IS_VARIATION_EFLAG) != 0) != IS_VARIATION_EDEFAULT;
             case SysmlPackage.DEFINITION__DIRECTED_USAGE:
                 return !getDirectedUsage().isEmpty();
             case SysmlPackage.DEFINITION__OWNED_ACTION:
@@ -883,7 +883,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isVariation: ");
-        result.append(isVariation);
+        result.append((flags & IS_VARIATION_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -26,6 +26,7 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
 import org.eclipse.emf.ecore.util.EObjectContainmentWithInverseEList;
 import org.eclipse.emf.ecore.util.EcoreEList;
@@ -42,7 +43,9 @@ import org.eclipse.syson.sysml.PartDefinition;
 import org.eclipse.syson.sysml.Relationship;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.TextualRepresentation;
+import org.eclipse.syson.sysml.util.ConnectorEnds;
 import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.util.IndexRegistry;
 
 /**
  * <!-- begin-user-doc -->
@@ -75,6 +78,17 @@ import org.eclipse.syson.sysml.util.ElementUtil;
  * @generated
  */
 public abstract class ElementImpl extends MinimalEObjectImpl.Container implements Element {
+    /**
+     * A set of bit flags representing the values of boolean attributes and whether unsettable features have been set.
+     * <!-- begin-user-doc -->
+     * The boolean attributes of all the subclasses are packed in this field instead of one <code>boolean</code> field
+     * per attribute. Each subclass uses the bits following the ones of its superclasses.
+     * <!-- end-user-doc -->
+     * @generated
+     * @ordered
+     */
+    protected int flags = 0;
+
     /**
      * The cached value of the '{@link #getAliasIds() <em>Alias Ids</em>}' attribute list.
      * <!-- begin-user-doc -->
@@ -156,14 +170,14 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
     protected static final boolean IS_IMPLIED_INCLUDED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsImpliedIncluded() <em>Is Implied Included</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsImpliedIncluded() <em>Is Implied Included</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsImpliedIncluded()
      * @generated
      * @ordered
      */
-    protected boolean isImpliedIncluded = IS_IMPLIED_INCLUDED_EDEFAULT;
+    protected static final int IS_IMPLIED_INCLUDED_EFLAG = 1 << 0;
 
     /**
      * The default value of the '{@link #isIsLibraryElement() <em>Is Library Element</em>}' attribute.
@@ -260,12 +274,12 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setDeclaredName(String newDeclaredName) {
         String oldDeclaredName = declaredName;
-        declaredName = newDeclaredName;
+        declaredName = ElementUtil.intern(newDeclaredName);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ELEMENT__DECLARED_NAME, oldDeclaredName, declaredName));
     }
@@ -283,12 +297,12 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setDeclaredShortName(String newDeclaredShortName) {
         String oldDeclaredShortName = declaredShortName;
-        declaredShortName = newDeclaredShortName;
+        declaredShortName = ElementUtil.intern(newDeclaredShortName);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ELEMENT__DECLARED_SHORT_NAME, oldDeclaredShortName, declaredShortName));
     }
@@ -334,7 +348,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public boolean isIsImpliedIncluded() {
-        return isImpliedIncluded;
+        return (flags & IS_IMPLIED_INCLUDED_EFLAG) != 0;
     }
 
     /**
@@ -344,10 +358,10 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public void setIsImpliedIncluded(boolean newIsImpliedIncluded) {
-        boolean oldIsImpliedIncluded = isImpliedIncluded;
-        isImpliedIncluded = newIsImpliedIncluded;
+        boolean oldIsImpliedIncluded = (flags & IS_IMPLIED_INCLUDED_EFLAG) != 0;
+        if (newIsImpliedIncluded) flags |= IS_IMPLIED_INCLUDED_EFLAG; else flags &= ~IS_IMPLIED_INCLUDED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ELEMENT__IS_IMPLIED_INCLUDED, oldIsImpliedIncluded, isImpliedIncluded));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.ELEMENT__IS_IMPLIED_INCLUDED, oldIsImpliedIncluded, newIsImpliedIncluded));
     }
 
     /**
@@ -633,6 +647,63 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
         return null;
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the indexes of the {@link IndexRegistry} of the previous and new
+     * {@link org.eclipse.emf.ecore.resource.ResourceSet} up to date when this element is added to or removed from its
+     * container, and clear the {@link ConnectorEnds} of the connectors whose ends contain it.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        ConnectorEnds.changed(this);
+        IndexRegistry previousRegistry = IndexRegistry.find(this);
+        if (previousRegistry != null) {
+            previousRegistry.detaching(this);
+        }
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        ConnectorEnds.changed(this);
+        this.updateIndexes(previousRegistry);
+        return notificationChain;
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the indexes of the {@link IndexRegistry} of the previous and new
+     * {@link org.eclipse.emf.ecore.resource.ResourceSet} up to date when this element is added to or removed from the
+     * contents of a resource.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eSetResource(Resource.Internal resource, NotificationChain notifications) {
+        IndexRegistry previousRegistry = IndexRegistry.find(this);
+        if (previousRegistry != null) {
+            previousRegistry.detaching(this);
+        }
+        NotificationChain notificationChain = super.eSetResource(resource, notifications);
+        this.updateIndexes(previousRegistry);
+        return notificationChain;
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * Update the indexes after a containment change, given the registry of the
+     * {@link org.eclipse.emf.ecore.resource.ResourceSet} containing this element before the change.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    private void updateIndexes(IndexRegistry previousRegistry) {
+        IndexRegistry registry = IndexRegistry.find(this);
+        if (previousRegistry != null && previousRegistry != registry) {
+            previousRegistry.detached(this);
+        }
+        if (registry != null) {
+            registry.attached(this);
+        }
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -819,7 +890,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
             case SysmlPackage.ELEMENT__ELEMENT_ID:
                 return ELEMENT_ID_EDEFAULT == null ? elementId != null : !ELEMENT_ID_EDEFAULT.equals(elementId);
             case SysmlPackage.ELEMENT__IS_IMPLIED_INCLUDED:
-                return isImpliedIncluded != IS_IMPLIED_INCLUDED_EDEFAULT;
+                return ((flags & IS_IMPLIED_INCLUDED_EFLAG) != 0) != IS_IMPLIED_INCLUDED_EDEFAULT;
             case SysmlPackage.ELEMENT__IS_LIBRARY_ELEMENT:
                 return isIsLibraryElement() != IS_LIBRARY_ELEMENT_EDEFAULT;
             case SysmlPackage.ELEMENT__NAME:
@@ -889,7 +960,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
         result.append(", elementId: ");
         result.append(elementId);
         result.append(", isImpliedIncluded: ");
-        result.append(isImpliedIncluded);
+        result.append((flags & IS_IMPLIED_INCLUDED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,15 @@
 package org.eclipse.syson.sysml.impl;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureChaining;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.FeatureChains;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -94,14 +97,33 @@ public class FeatureChainingImpl extends RelationshipImpl implements FeatureChai
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setChainingFeature(Feature newChainingFeature) {
         Feature oldChainingFeature = chainingFeature;
         chainingFeature = newChainingFeature;
+        FeatureChains.changed(this);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_CHAINING__CHAINING_FEATURE, oldChainingFeature, chainingFeature));
+        PortConnectivityIndex.chainChanged(this);
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the chains cached by the {@link FeatureChains} and the ends of the binding connectors indexed by the
+     * {@link PortConnectivityIndex} up to date when this feature chaining is added to or removed from its feature.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        FeatureChains.changed(this);
+        PortConnectivityIndex.chainChanged(this);
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        FeatureChains.changed(this);
+        PortConnectivityIndex.chainChanged(this);
+        return notificationChain;
     }
 
     /**
@@ -21,6 +21,7 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.util.EObjectContainmentWithInverseEList;
 import org.eclipse.emf.ecore.util.EcoreEList;
 import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.Feature;
@@ -31,10 +32,13 @@ import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.FeatureTyping;
 import org.eclipse.syson.sysml.Redefinition;
 import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Relationship;
 import org.eclipse.syson.sysml.Subsetting;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.TypeFeaturing;
+import org.eclipse.syson.sysml.util.FeatureChains;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -102,14 +106,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_COMPOSITE_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsComposite() <em>Is Composite</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsComposite() <em>Is Composite</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsComposite()
      * @generated
      * @ordered
      */
-    protected boolean isComposite = IS_COMPOSITE_EDEFAULT;
+    protected static final int IS_COMPOSITE_EFLAG = 1 << 3;
 
     /**
      * The default value of the '{@link #isIsDerived() <em>Is Derived</em>}' attribute.
@@ -122,14 +126,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_DERIVED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsDerived() <em>Is Derived</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsDerived() <em>Is Derived</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsDerived()
      * @generated
      * @ordered
      */
-    protected boolean isDerived = IS_DERIVED_EDEFAULT;
+    protected static final int IS_DERIVED_EFLAG = 1 << 4;
 
     /**
      * The default value of the '{@link #isIsEnd() <em>Is End</em>}' attribute.
@@ -142,14 +146,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_END_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsEnd() <em>Is End</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsEnd() <em>Is End</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsEnd()
      * @generated
      * @ordered
      */
-    protected boolean isEnd = IS_END_EDEFAULT;
+    protected static final int IS_END_EFLAG = 1 << 5;
 
     /**
      * The default value of the '{@link #isIsNonunique() <em>Is Nonunique</em>}' attribute.
@@ -172,14 +176,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_ORDERED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsOrdered() <em>Is Ordered</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsOrdered() <em>Is Ordered</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsOrdered()
      * @generated
      * @ordered
      */
-    protected boolean isOrdered = IS_ORDERED_EDEFAULT;
+    protected static final int IS_ORDERED_EFLAG = 1 << 6;
 
     /**
      * The default value of the '{@link #isIsPortion() <em>Is Portion</em>}' attribute.
@@ -192,14 +196,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_PORTION_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsPortion() <em>Is Portion</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsPortion() <em>Is Portion</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsPortion()
      * @generated
      * @ordered
      */
-    protected boolean isPortion = IS_PORTION_EDEFAULT;
+    protected static final int IS_PORTION_EFLAG = 1 << 7;
 
     /**
      * The default value of the '{@link #isIsReadOnly() <em>Is Read Only</em>}' attribute.
@@ -212,14 +216,14 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_READ_ONLY_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsReadOnly() <em>Is Read Only</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsReadOnly() <em>Is Read Only</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsReadOnly()
      * @generated
      * @ordered
      */
-    protected boolean isReadOnly = IS_READ_ONLY_EDEFAULT;
+    protected static final int IS_READ_ONLY_EFLAG = 1 << 8;
 
     /**
      * The default value of the '{@link #isIsUnique() <em>Is Unique</em>}' attribute.
@@ -232,14 +236,24 @@ public class FeatureImpl extends TypeImpl implements Feature {
     protected static final boolean IS_UNIQUE_EDEFAULT = true;
 
     /**
-     * The cached value of the '{@link #isIsUnique() <em>Is Unique</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsUnique() <em>Is Unique</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsUnique()
      * @generated
      * @ordered
      */
-    protected boolean isUnique = IS_UNIQUE_EDEFAULT;
+    protected static final int IS_UNIQUE_EFLAG = 1 << 9;
+
+    /**
+     * <!-- begin-user-doc -->
+     * The {@link FeatureTyping}s among the owned relationships of this feature, kept up to date by
+     * {@link FeatureTypingImpl} when it is added to or removed from its owner. The list is only allocated once a
+     * typing is added.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    private List<FeatureTyping> ownedFeatureTypings = List.of();
 
     /**
      * <!-- begin-user-doc -->
@@ -248,6 +262,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     protected FeatureImpl() {
         super();
+        flags |= IS_UNIQUE_EFLAG;
     }
 
     /**
@@ -267,8 +282,35 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public EList<Feature> getChainingFeature() {
-        List<Feature> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getFeature_ChainingFeature(), data.size(), data.toArray());
+        Feature[] data = FeatureChains.getChainingFeatures(this);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getFeature_ChainingFeature(), data.length, data);
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the chains cached by the {@link FeatureChains} and the ends of the binding connectors indexed by the
+     * {@link PortConnectivityIndex} up to date when the owned {@link FeatureChaining}s of this feature are reordered,
+     * since the chain target of a feature is its last chaining feature.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public EList<Relationship> getOwnedRelationship() {
+        if (this.ownedRelationship == null) {
+            this.ownedRelationship = new EObjectContainmentWithInverseEList<>(Relationship.class, this, SysmlPackage.ELEMENT__OWNED_RELATIONSHIP, SysmlPackage.RELATIONSHIP__OWNING_RELATED_ELEMENT) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void didMove(int index, Relationship movedObject, int oldIndex) {
+                    super.didMove(index, movedObject, oldIndex);
+                    if (movedObject instanceof FeatureChaining featureChaining) {
+                        FeatureChains.changed(featureChaining);
+                        PortConnectivityIndex.chainChanged(featureChaining);
+                    }
+                }
+            };
+        }
+        return this.ownedRelationship;
     }
 
     /**
@@ -335,7 +377,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsComposite() {
-        return isComposite;
+        return (flags & IS_COMPOSITE_EFLAG) != 0;
     }
 
     /**
@@ -345,10 +387,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsComposite(boolean newIsComposite) {
-        boolean oldIsComposite = isComposite;
-        isComposite = newIsComposite;
+        boolean oldIsComposite = (flags & IS_COMPOSITE_EFLAG) != 0;
+        if (newIsComposite) flags |= IS_COMPOSITE_EFLAG; else flags &= ~IS_COMPOSITE_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_COMPOSITE, oldIsComposite, isComposite));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_COMPOSITE, oldIsComposite, newIsComposite));
     }
 
     /**
@@ -358,7 +400,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsDerived() {
-        return isDerived;
+        return (flags & IS_DERIVED_EFLAG) != 0;
     }
 
     /**
@@ -368,10 +410,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsDerived(boolean newIsDerived) {
-        boolean oldIsDerived = isDerived;
-        isDerived = newIsDerived;
+        boolean oldIsDerived = (flags & IS_DERIVED_EFLAG) != 0;
+        if (newIsDerived) flags |= IS_DERIVED_EFLAG; else flags &= ~IS_DERIVED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_DERIVED, oldIsDerived, isDerived));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_DERIVED, oldIsDerived, newIsDerived));
     }
 
     /**
@@ -381,7 +423,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsEnd() {
-        return isEnd;
+        return (flags & IS_END_EFLAG) != 0;
     }
 
     /**
@@ -391,10 +433,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsEnd(boolean newIsEnd) {
-        boolean oldIsEnd = isEnd;
-        isEnd = newIsEnd;
+        boolean oldIsEnd = (flags & IS_END_EFLAG) != 0;
+        if (newIsEnd) flags |= IS_END_EFLAG; else flags &= ~IS_END_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_END, oldIsEnd, isEnd));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_END, oldIsEnd, newIsEnd));
     }
 
     /**
@@ -414,7 +456,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsOrdered() {
-        return isOrdered;
+        return (flags & IS_ORDERED_EFLAG) != 0;
     }
 
     /**
@@ -424,10 +466,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsOrdered(boolean newIsOrdered) {
-        boolean oldIsOrdered = isOrdered;
-        isOrdered = newIsOrdered;
+        boolean oldIsOrdered = (flags & IS_ORDERED_EFLAG) != 0;
+        if (newIsOrdered) flags |= IS_ORDERED_EFLAG; else flags &= ~IS_ORDERED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_ORDERED, oldIsOrdered, isOrdered));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_ORDERED, oldIsOrdered, newIsOrdered));
     }
 
     /**
@@ -437,7 +479,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsPortion() {
-        return isPortion;
+        return (flags & IS_PORTION_EFLAG) != 0;
     }
 
     /**
@@ -447,10 +489,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsPortion(boolean newIsPortion) {
-        boolean oldIsPortion = isPortion;
-        isPortion = newIsPortion;
+        boolean oldIsPortion = (flags & IS_PORTION_EFLAG) != 0;
+        if (newIsPortion) flags |= IS_PORTION_EFLAG; else flags &= ~IS_PORTION_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_PORTION, oldIsPortion, isPortion));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_PORTION, oldIsPortion, newIsPortion));
     }
 
     /**
@@ -460,7 +502,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsReadOnly() {
-        return isReadOnly;
+        return (flags & IS_READ_ONLY_EFLAG) != 0;
     }
 
     /**
@@ -470,10 +512,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsReadOnly(boolean newIsReadOnly) {
-        boolean oldIsReadOnly = isReadOnly;
-        isReadOnly = newIsReadOnly;
+        boolean oldIsReadOnly = (flags & IS_READ_ONLY_EFLAG) != 0;
+        if (newIsReadOnly) flags |= IS_READ_ONLY_EFLAG; else flags &= ~IS_READ_ONLY_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_READ_ONLY, oldIsReadOnly, isReadOnly));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_READ_ONLY, oldIsReadOnly, newIsReadOnly));
     }
 
     /**
@@ -483,7 +525,7 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public boolean isIsUnique() {
-        return isUnique;
+        return (flags & IS_UNIQUE_EFLAG) != 0;
     }
 
     /**
@@ -493,10 +535,10 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public void setIsUnique(boolean newIsUnique) {
-        boolean oldIsUnique = isUnique;
-        isUnique = newIsUnique;
+        boolean oldIsUnique = (flags & IS_UNIQUE_EFLAG) != 0;
+        if (newIsUnique) flags |= IS_UNIQUE_EFLAG; else flags &= ~IS_UNIQUE_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_UNIQUE, oldIsUnique, isUnique));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE__IS_UNIQUE, oldIsUnique, newIsUnique));
     }
 
     /**
@@ -595,9 +637,8 @@ public class FeatureImpl extends TypeImpl implements Feature {
     public EList<FeatureTyping> getOwnedTyping() {
         List<FeatureTyping> ownedTypings = new ArrayList<>();
         //The ownedSpecializations of this Feature that are FeatureTypings, for which the Feature is the typedFeature.
-        this.getOwnedSpecialization().stream()
-            .filter(FeatureTyping.class::isInstance)
-            .map(FeatureTyping.class::cast)
+        this.ownedFeatureTypings.stream()
+            .filter(ft -> this.equals(ft.getSpecific()))
             .filter(ft -> this.equals(ft.getTypedFeature()))
             .forEach(ownedTypings::add);
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getFeature_OwnedTyping(), ownedTypings.size(), ownedTypings.toArray());
@@ -657,15 +698,49 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public EList<Type> getType() {
-        List<Type> types = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-            .filter(FeatureTyping.class::isInstance)
-            .map(FeatureTyping.class::cast)
-            .map(typing -> typing.getType())
-            .forEach(types::add);
+        List<Type> types = new ArrayList<>(this.ownedFeatureTypings.size());
+        for (FeatureTyping typing : this.ownedFeatureTypings) {
+            types.add(typing.getType());
+        }
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getFeature_Type(), types.size(), types.toArray());
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Get the {@link FeatureTyping}s among the owned relationships of this feature, in the order in which they have
+     * been added.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    List<FeatureTyping> getOwnedFeatureTypings() {
+        return this.ownedFeatureTypings;
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    void addOwnedFeatureTyping(FeatureTyping featureTyping) {
+        if (this.ownedFeatureTypings.isEmpty()) {
+            this.ownedFeatureTypings = new ArrayList<>(1);
+        }
+        if (!this.ownedFeatureTypings.contains(featureTyping)) {
+            this.ownedFeatureTypings.add(featureTyping);
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    void removeOwnedFeatureTyping(FeatureTyping featureTyping) {
+        if (!this.ownedFeatureTypings.isEmpty()) {
+            this.ownedFeatureTypings.remove(featureTyping);
+        }
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -722,11 +797,27 @@ public class FeatureImpl extends TypeImpl implements Feature {
 
     /**
      * <!-- begin-user-doc -->
+     * Check whether one of the owned subsettings of this feature subsets the chain made of the given features, the
+     * chains being resolved by the {@link FeatureChains}.
      * <!-- end-user-doc -->
      * @generated NOT
      */
     @Override
     public boolean subsetsChain(Feature first, Feature second) {
+        for (Relationship relationship : this.getOwnedRelationship()) {
+            Feature subsettedFeature = null;
+            if (relationship instanceof ReferenceSubsetting referenceSubsetting) {
+                subsettedFeature = referenceSubsetting.getReferencedFeature();
+            } else if (relationship instanceof Subsetting subsetting) {
+                subsettedFeature = subsetting.getSubsettedFeature();
+            }
+            if (subsettedFeature != null) {
+                Feature[] chainingFeatures = FeatureChains.getChainingFeatures(subsettedFeature);
+                if (chainingFeatures.length == 2 && chainingFeatures[0] == first && chainingFeatures[1] == second) {
+                    return true;
+                }
+            }
+        }
         return false;
     }
 
@@ -874,21 +965,21 @@ public class FeatureImpl extends TypeImpl implements Feature {
             case SysmlPackage.FEATURE__DIRECTION:
                 return direction != DIRECTION_EDEFAULT;
             case SysmlPackage.FEATURE__IS_COMPOSITE:
-                return isComposite != IS_COMPOSITE_EDEFAULT;
+                return ((flags & IS_COMPOSITE_EFLAG) != 0) != IS_COMPOSITE_EDEFAULT;
             case SysmlPackage.FEATURE__IS_DERIVED:
-                return isDerived != IS_DERIVED_EDEFAULT;
+                return ((flags & IS_DERIVED_EFLAG) != 0) != IS_DERIVED_EDEFAULT;
             case SysmlPackage.FEATURE__IS_END:
-                return isEnd != IS_END_EDEFAULT;
+                return ((flags & IS_END_EFLAG) != 0) != IS_END_EDEFAULT;
             case SysmlPackage.FEATURE__IS_NONUNIQUE:
                 return isIsNonunique() != IS_NONUNIQUE_EDEFAULT;
             case SysmlPackage.FEATURE__IS_ORDERED:
-                return isOrdered != IS_ORDERED_EDEFAULT;
+                return ((flags & IS_ORDERED_EFLAG) != 0) != IS_ORDERED_EDEFAULT;
             case SysmlPackage.FEATURE__IS_PORTION:
-                return isPortion != IS_PORTION_EDEFAULT;
+                return ((flags & IS_PORTION_EFLAG) != 0) != IS_PORTION_EDEFAULT;
             case SysmlPackage.FEATURE__IS_READ_ONLY:
-                return isReadOnly != IS_READ_ONLY_EDEFAULT;
+                return ((flags & IS_READ_ONLY_EFLAG) != 0) != IS_READ_ONLY_EDEFAULT;
             case SysmlPackage.FEATURE__IS_UNIQUE:
-                return isUnique != IS_UNIQUE_EDEFAULT;
+                return ((flags & IS_UNIQUE_EFLAG) != 0) != IS_UNIQUE_EDEFAULT;
             case SysmlPackage.FEATURE__CHAINING_FEATURE:
                 return !getChainingFeature().isEmpty();
             case SysmlPackage.FEATURE__END_OWNING_TYPE:
@@ -956,19 +1047,19 @@ public class FeatureImpl extends TypeImpl implements Feature {
         result.append(" (direction: ");
         result.append(direction);
         result.append(", isComposite: ");
-        result.append(isComposite);
+        result.append((flags & IS_COMPOSITE_EFLAG) != 0);
         result.append(", isDerived: ");
-        result.append(isDerived);
+        result.append((flags & IS_DERIVED_EFLAG) != 0);
         result.append(", isEnd: ");
-        result.append(isEnd);
+        result.append((flags & IS_END_EFLAG) != 0);
         result.append(", isOrdered: ");
-        result.append(isOrdered);
+        result.append((flags & IS_ORDERED_EFLAG) != 0);
         result.append(", isPortion: ");
-        result.append(isPortion);
+        result.append((flags & IS_PORTION_EFLAG) != 0);
         result.append(", isReadOnly: ");
-        result.append(isReadOnly);
+        result.append((flags & IS_READ_ONLY_EFLAG) != 0);
         result.append(", isUnique: ");
-        result.append(isUnique);
+        result.append((flags & IS_UNIQUE_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -16,6 +16,7 @@ import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.Featuring;
@@ -171,14 +172,18 @@ public class FeatureMembershipImpl extends OwningMembershipImpl implements Featu
 
     /**
      * <!-- begin-user-doc -->
+     * The feature owned through this membership, i.e. its owned related element.
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     public Feature basicGetOwnedMemberFeature() {
-        // TODO: implement this method to return the 'Owned Member Feature' reference
-        // -> do not perform proxy resolution
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        Feature ownedMemberFeature = null;
+        for (Element ownedRelatedElement : this.getOwnedRelatedElement()) {
+            if (ownedMemberFeature == null && ownedRelatedElement instanceof Feature feature) {
+                ownedMemberFeature = feature;
+            }
+        }
+        return ownedMemberFeature;
     }
 
     /**
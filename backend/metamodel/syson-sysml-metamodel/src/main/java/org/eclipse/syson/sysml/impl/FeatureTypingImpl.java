@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.syson.sysml.impl;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
@@ -20,6 +21,7 @@ import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureTyping;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -76,6 +78,24 @@ public class FeatureTypingImpl extends SpecializationImpl implements FeatureTypi
         return SysmlPackage.eINSTANCE.getFeatureTyping();
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the owned typings of the features up to date, see {@link FeatureImpl#getOwnedFeatureTypings()}.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        if (this.eInternalContainer() instanceof FeatureImpl oldFeature) {
+            oldFeature.removeOwnedFeatureTyping(this);
+        }
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        if (newContainer instanceof FeatureImpl newFeature) {
+            newFeature.addOwnedFeatureTyping(this);
+        }
+        return notificationChain;
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -102,7 +122,7 @@ public class FeatureTypingImpl extends SpecializationImpl implements FeatureTypi
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public Type getType() {
@@ -129,14 +149,16 @@ public class FeatureTypingImpl extends SpecializationImpl implements FeatureTypi
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setType(Type newType) {
+        SpecializationIndex.specializationChanged(this);
         Type oldType = type;
         type = newType;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_TYPING__TYPE, oldType, type));
+        SpecializationIndex.specializationChanged(this);
     }
 
     /**
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -54,14 +54,14 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
     protected static final boolean IS_DEFAULT_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsDefault() <em>Is Default</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsDefault() <em>Is Default</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsDefault()
      * @generated
      * @ordered
      */
-    protected boolean isDefault = IS_DEFAULT_EDEFAULT;
+    protected static final int IS_DEFAULT_EFLAG = 1 << 2;
 
     /**
      * The default value of the '{@link #isIsInitial() <em>Is Initial</em>}' attribute.
@@ -74,14 +74,14 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
     protected static final boolean IS_INITIAL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsInitial() <em>Is Initial</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsInitial() <em>Is Initial</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsInitial()
      * @generated
      * @ordered
      */
-    protected boolean isInitial = IS_INITIAL_EDEFAULT;
+    protected static final int IS_INITIAL_EFLAG = 1 << 3;
 
     /**
      * <!-- begin-user-doc -->
@@ -132,7 +132,7 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
      */
     @Override
     public boolean isIsDefault() {
-        return isDefault;
+        return (flags & IS_DEFAULT_EFLAG) != 0;
     }
 
     /**
@@ -142,10 +142,10 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
      */
     @Override
     public void setIsDefault(boolean newIsDefault) {
-        boolean oldIsDefault = isDefault;
-        isDefault = newIsDefault;
+        boolean oldIsDefault = (flags & IS_DEFAULT_EFLAG) != 0;
+        if (newIsDefault) flags |= IS_DEFAULT_EFLAG; else flags &= ~IS_DEFAULT_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_VALUE__IS_DEFAULT, oldIsDefault, isDefault));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_VALUE__IS_DEFAULT, oldIsDefault, newIsDefault));
     }
 
     /**
@@ -155,7 +155,7 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
      */
     @Override
     public boolean isIsInitial() {
-        return isInitial;
+        return (flags & IS_INITIAL_EFLAG) != 0;
     }
 
     /**
@@ -165,10 +165,10 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
      */
     @Override
     public void setIsInitial(boolean newIsInitial) {
-        boolean oldIsInitial = isInitial;
-        isInitial = newIsInitial;
+        boolean oldIsInitial = (flags & IS_INITIAL_EFLAG) != 0;
+        if (newIsInitial) flags |= IS_INITIAL_EFLAG; else flags &= ~IS_INITIAL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_VALUE__IS_INITIAL, oldIsInitial, isInitial));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.FEATURE_VALUE__IS_INITIAL, oldIsInitial, newIsInitial));
     }
 
     /**
@@ -262,9 +262,9 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.FEATURE_VALUE__IS_DEFAULT:
-                return isDefault != IS_DEFAULT_EDEFAULT;
+                return ((flags & IS_DEFAULT_EFLAG) != 0) != IS_DEFAULT_EDEFAULT;
             case SysmlPackage.FEATURE_VALUE__IS_INITIAL:
-                return isInitial != IS_INITIAL_EDEFAULT;
+                return ((flags & IS_INITIAL_EFLAG) != 0) != IS_INITIAL_EDEFAULT;
             case SysmlPackage.FEATURE_VALUE__FEATURE_WITH_VALUE:
                 return basicGetFeatureWithValue() != null;
             case SysmlPackage.FEATURE_VALUE__VALUE:
@@ -284,9 +284,9 @@ public class FeatureValueImpl extends OwningMembershipImpl implements FeatureVal
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isDefault: ");
-        result.append(isDefault);
+        result.append((flags & IS_DEFAULT_EFLAG) != 0);
         result.append(", isInitial: ");
-        result.append(isInitial);
+        result.append((flags & IS_INITIAL_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -13,8 +13,11 @@
 package org.eclipse.syson.sysml.impl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
@@ -25,6 +28,7 @@ import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.util.MembershipCache;
 
 /**
  * <!-- begin-user-doc -->
@@ -55,14 +59,14 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
     protected static final boolean IS_IMPORT_ALL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsImportAll() <em>Is Import All</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsImportAll() <em>Is Import All</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsImportAll()
      * @generated
      * @ordered
      */
-    protected boolean isImportAll = IS_IMPORT_ALL_EDEFAULT;
+    protected static final int IS_IMPORT_ALL_EFLAG = 1 << 2;
 
     /**
      * The default value of the '{@link #isIsRecursive() <em>Is Recursive</em>}' attribute.
@@ -75,14 +79,14 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
     protected static final boolean IS_RECURSIVE_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsRecursive() <em>Is Recursive</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsRecursive() <em>Is Recursive</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsRecursive()
      * @generated
      * @ordered
      */
-    protected boolean isRecursive = IS_RECURSIVE_EDEFAULT;
+    protected static final int IS_RECURSIVE_EFLAG = 1 << 3;
 
     /**
      * The default value of the '{@link #getVisibility() <em>Visibility</em>}' attribute.
@@ -123,6 +127,21 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
         return SysmlPackage.eINSTANCE.getImport();
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the memberships cached by the {@link MembershipCache} up to date when this import is added to or removed
+     * from its namespace.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        MembershipCache.changed(this);
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        MembershipCache.changed(this);
+        return notificationChain;
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -177,20 +196,21 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
      */
     @Override
     public boolean isIsImportAll() {
-        return isImportAll;
+        return (flags & IS_IMPORT_ALL_EFLAG) != 0;
     }
 
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setIsImportAll(boolean newIsImportAll) {
-        boolean oldIsImportAll = isImportAll;
-        isImportAll = newIsImportAll;
+        boolean oldIsImportAll = (flags & IS_IMPORT_ALL_EFLAG) != 0;
+        if (newIsImportAll) flags |= IS_IMPORT_ALL_EFLAG; else flags &= ~IS_IMPORT_ALL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.IMPORT__IS_IMPORT_ALL, oldIsImportAll, isImportAll));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.IMPORT__IS_IMPORT_ALL, oldIsImportAll, newIsImportAll));
+        MembershipCache.changed(this);
     }
 
     /**
@@ -200,20 +220,21 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
      */
     @Override
     public boolean isIsRecursive() {
-        return isRecursive;
+        return (flags & IS_RECURSIVE_EFLAG) != 0;
     }
 
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setIsRecursive(boolean newIsRecursive) {
-        boolean oldIsRecursive = isRecursive;
-        isRecursive = newIsRecursive;
+        boolean oldIsRecursive = (flags & IS_RECURSIVE_EFLAG) != 0;
+        if (newIsRecursive) flags |= IS_RECURSIVE_EFLAG; else flags &= ~IS_RECURSIVE_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.IMPORT__IS_RECURSIVE, oldIsRecursive, isRecursive));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.IMPORT__IS_RECURSIVE, oldIsRecursive, newIsRecursive));
+        MembershipCache.changed(this);
     }
 
     /**
@@ -229,7 +250,7 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setVisibility(VisibilityKind newVisibility) {
@@ -237,18 +258,22 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
         visibility = newVisibility == null ? VISIBILITY_EDEFAULT : newVisibility;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.IMPORT__VISIBILITY, oldVisibility, visibility));
+        MembershipCache.changed(this);
     }
 
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Membership> importedMemberships(EList<Namespace> excluded) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        List<Namespace> excludedNamespaces = List.of();
+        if (excluded != null) {
+            excludedNamespaces = excluded;
+        }
+        Membership[] importedMemberships = MembershipCache.getImportedMemberships(this, excludedNamespaces);
+        return new BasicEList.UnmodifiableEList<>(importedMemberships.length, importedMemberships);
     }
 
     /**
@@ -326,9 +351,9 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.IMPORT__IS_IMPORT_ALL:
-                return isImportAll != IS_IMPORT_ALL_EDEFAULT;
+                return ((flags & IS_IMPORT_ALL_EFLAG) != 0) != IS_IMPORT_ALL_EDEFAULT;
             case SysmlPackage.IMPORT__IS_RECURSIVE:
-                return isRecursive != IS_RECURSIVE_EDEFAULT;
+                return ((flags & IS_RECURSIVE_EFLAG) != 0) != IS_RECURSIVE_EDEFAULT;
             case SysmlPackage.IMPORT__VISIBILITY:
                 return visibility != VISIBILITY_EDEFAULT;
             case SysmlPackage.IMPORT__IMPORTED_ELEMENT:
@@ -365,9 +390,9 @@ public abstract class ImportImpl extends RelationshipImpl implements Import {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isImportAll: ");
-        result.append(isImportAll);
+        result.append((flags & IS_IMPORT_ALL_EFLAG) != 0);
         result.append(", isRecursive: ");
-        result.append(isRecursive);
+        result.append((flags & IS_RECURSIVE_EFLAG) != 0);
         result.append(", visibility: ");
         result.append(visibility);
         result.append(')');
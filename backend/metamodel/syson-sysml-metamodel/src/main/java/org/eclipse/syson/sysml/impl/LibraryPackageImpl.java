@@ -48,14 +48,14 @@ public class LibraryPackageImpl extends PackageImpl implements LibraryPackage {
     protected static final boolean IS_STANDARD_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsStandard() <em>Is Standard</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsStandard() <em>Is Standard</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsStandard()
      * @generated
      * @ordered
      */
-    protected boolean isStandard = IS_STANDARD_EDEFAULT;
+    protected static final int IS_STANDARD_EFLAG = 1 << 1;
 
     /**
      * <!-- begin-user-doc -->
@@ -83,7 +83,7 @@ public class LibraryPackageImpl extends PackageImpl implements LibraryPackage {
      */
     @Override
     public boolean isIsStandard() {
-        return isStandard;
+        return (flags & IS_STANDARD_EFLAG) != 0;
     }
 
     /**
@@ -93,10 +93,10 @@ public class LibraryPackageImpl extends PackageImpl implements LibraryPackage {
      */
     @Override
     public void setIsStandard(boolean newIsStandard) {
-        boolean oldIsStandard = isStandard;
-        isStandard = newIsStandard;
+        boolean oldIsStandard = (flags & IS_STANDARD_EFLAG) != 0;
+        if (newIsStandard) flags |= IS_STANDARD_EFLAG; else flags &= ~IS_STANDARD_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.LIBRARY_PACKAGE__IS_STANDARD, oldIsStandard, isStandard));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.LIBRARY_PACKAGE__IS_STANDARD, oldIsStandard, newIsStandard));
     }
 
     /**
@@ -162,7 +162,7 @@ public class LibraryPackageImpl extends PackageImpl implements LibraryPackage {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.LIBRARY_PACKAGE__IS_STANDARD:
-                return isStandard != IS_STANDARD_EDEFAULT;
+                return ((flags & IS_STANDARD_EFLAG) != 0) != IS_STANDARD_EDEFAULT;
         }
         return super.eIsSet(featureID);
     }
@@ -178,7 +178,7 @@ public class LibraryPackageImpl extends PackageImpl implements LibraryPackage {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isStandard: ");
-        result.append(isStandard);
+        result.append((flags & IS_STANDARD_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -46,14 +46,14 @@ public class LiteralBooleanImpl extends LiteralExpressionImpl implements Literal
     protected static final boolean VALUE_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isValue() <em>Value</em>}' attribute.
+     * The flag representing the value of the '{@link #isValue() <em>Value</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isValue()
      * @generated
      * @ordered
      */
-    protected boolean value = VALUE_EDEFAULT;
+    protected static final int VALUE_EFLAG = 1 << 10;
 
     /**
      * <!-- begin-user-doc -->
@@ -81,7 +81,7 @@ public class LiteralBooleanImpl extends LiteralExpressionImpl implements Literal
      */
     @Override
     public boolean isValue() {
-        return value;
+        return (flags & VALUE_EFLAG) != 0;
     }
 
     /**
@@ -91,10 +91,10 @@ public class LiteralBooleanImpl extends LiteralExpressionImpl implements Literal
      */
     @Override
     public void setValue(boolean newValue) {
-        boolean oldValue = value;
-        value = newValue;
+        boolean oldValue = (flags & VALUE_EFLAG) != 0;
+        if (newValue) flags |= VALUE_EFLAG; else flags &= ~VALUE_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.LITERAL_BOOLEAN__VALUE, oldValue, value));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.LITERAL_BOOLEAN__VALUE, oldValue, newValue));
     }
 
     /**
@@ -150,7 +150,7 @@ public class LiteralBooleanImpl extends LiteralExpressionImpl implements Literal
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.LITERAL_BOOLEAN__VALUE:
-                return value != VALUE_EDEFAULT;
+                return ((flags & VALUE_EFLAG) != 0) != VALUE_EDEFAULT;
         }
         return super.eIsSet(featureID);
     }
@@ -166,7 +166,7 @@ public class LiteralBooleanImpl extends LiteralExpressionImpl implements Literal
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (value: ");
-        result.append(value);
+        result.append((flags & VALUE_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
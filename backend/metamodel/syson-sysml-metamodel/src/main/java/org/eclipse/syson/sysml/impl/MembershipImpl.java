@@ -16,6 +16,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -26,6 +27,9 @@ import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.util.MembershipCache;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -145,6 +149,23 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
         return SysmlPackage.eINSTANCE.getMembership();
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the inherited memberships memoized by the {@link SpecializationIndex} and the memberships cached by the
+     * {@link MembershipCache} up to date when this membership is added to or removed from its namespace.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        SpecializationIndex.membershipChanged(this);
+        MembershipCache.changed(this);
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        SpecializationIndex.membershipChanged(this);
+        MembershipCache.changed(this);
+        return notificationChain;
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -175,7 +196,7 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setMemberElement(Element newMemberElement) {
@@ -183,6 +204,7 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
         memberElement = newMemberElement;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.MEMBERSHIP__MEMBER_ELEMENT, oldMemberElement, memberElement));
+        MembershipCache.changed(this);
     }
 
     /**
@@ -212,12 +234,12 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setMemberName(String newMemberName) {
         String oldMemberName = memberName;
-        memberName = newMemberName;
+        memberName = ElementUtil.intern(newMemberName);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.MEMBERSHIP__MEMBER_NAME, oldMemberName, memberName));
     }
@@ -259,12 +281,12 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setMemberShortName(String newMemberShortName) {
         String oldMemberShortName = memberShortName;
-        memberShortName = newMemberShortName;
+        memberShortName = ElementUtil.intern(newMemberShortName);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.MEMBERSHIP__MEMBER_SHORT_NAME, oldMemberShortName, memberShortName));
     }
@@ -282,14 +304,18 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setVisibility(VisibilityKind newVisibility) {
+        SpecializationIndex.membershipChanged(this);
+        MembershipCache.changed(this);
         VisibilityKind oldVisibility = visibility;
         visibility = newVisibility == null ? VISIBILITY_EDEFAULT : newVisibility;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.MEMBERSHIP__VISIBILITY, oldVisibility, visibility));
+        SpecializationIndex.membershipChanged(this);
+        MembershipCache.changed(this);
     }
 
     /**
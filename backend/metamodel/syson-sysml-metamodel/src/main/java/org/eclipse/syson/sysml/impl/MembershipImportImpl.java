@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.MembershipImport;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.MembershipCache;
 
 /**
  * <!-- begin-user-doc -->
@@ -96,7 +97,7 @@ public class MembershipImportImpl extends ImportImpl implements MembershipImport
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setImportedMembership(Membership newImportedMembership) {
@@ -104,6 +105,7 @@ public class MembershipImportImpl extends ImportImpl implements MembershipImport
         importedMembership = newImportedMembership;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.MEMBERSHIP_IMPORT__IMPORTED_MEMBERSHIP, oldImportedMembership, importedMembership));
+        MembershipCache.changed(this);
     }
 
     /**
@@ -14,12 +14,13 @@ package org.eclipse.syson.sysml.impl;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
 import org.eclipse.emf.ecore.util.EcoreEList;
 import org.eclipse.syson.sysml.Element;
@@ -28,6 +29,7 @@ import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.util.MembershipCache;
 
 /**
  * <!-- begin-user-doc -->
@@ -67,6 +69,21 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
         return SysmlPackage.eINSTANCE.getNamespace();
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the memberships cached by the {@link MembershipCache} up to date when this namespace is added to or removed
+     * from a membership, since it changes the recursive visible memberships of the namespaces containing it.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        MembershipCache.containerChanged(this);
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        MembershipCache.containerChanged(this);
+        return notificationChain;
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -74,8 +91,8 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> getImportedMembership() {
-        List<Membership> importedMemberships = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_ImportedMembership(), importedMemberships.size(), importedMemberships.toArray());
+        Membership[] importedMemberships = MembershipCache.getImportedMemberships(this, List.of());
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_ImportedMembership(), importedMemberships.length, importedMemberships);
     }
 
     /**
@@ -99,10 +116,8 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> getMembership() {
-        List<Element> memberships = new ArrayList<>();
-        memberships.addAll(this.getOwnedMembership());
-        memberships.addAll(this.getImportedMembership());
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_Membership(), memberships.size(), memberships.toArray());
+        Membership[] memberships = MembershipCache.getMemberships(this);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_Membership(), memberships.length, memberships);
     }
 
     /**
@@ -158,17 +173,12 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> importedMemberships(EList<Namespace> excluded) {
-        List<Membership> importedMemberships = new ArrayList<>();
-        EList<Namespace> excludedAndSelf = new BasicEList();
-        excludedAndSelf.addAll(excluded);
-        excludedAndSelf.add(this);
-        this.getOwnedImport().stream()
-            .map(imprt -> imprt.importedMemberships(excludedAndSelf))
-            .flatMap(Collection::stream)
-            .filter(Membership.class::isInstance)
-            .map(Membership.class::cast)
-            .forEach(importedMemberships::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_ImportedMembership(), importedMemberships.size(), importedMemberships.toArray());
+        List<Namespace> excludedNamespaces = List.of();
+        if (excluded != null) {
+            excludedNamespaces = excluded;
+        }
+        Membership[] importedMemberships = MembershipCache.getImportedMemberships(this, excludedNamespaces);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getNamespace_ImportedMembership(), importedMemberships.length, importedMemberships);
     }
 
     /**
@@ -247,13 +257,20 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public Membership resolveVisible(String name) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        Membership resolved = null;
+        if (name != null) {
+            for (Membership membership : MembershipCache.getVisibleMemberships(this, List.of(), false, false)) {
+                if (name.equals(membership.getMemberShortName()) || name.equals(membership.getMemberName())) {
+                    resolved = membership;
+                    break;
+                }
+            }
+        }
+        return resolved;
     }
 
     /**
@@ -283,13 +300,16 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Membership> visibleMemberships(EList<Namespace> excluded, boolean isRecursive, boolean includeAll) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        List<Namespace> excludedNamespaces = List.of();
+        if (excluded != null) {
+            excludedNamespaces = excluded;
+        }
+        Membership[] visibleMemberships = MembershipCache.getVisibleMemberships(this, excludedNamespaces, isRecursive, includeAll);
+        return new BasicEList.UnmodifiableEList<>(visibleMemberships.length, visibleMemberships);
     }
 
     /**
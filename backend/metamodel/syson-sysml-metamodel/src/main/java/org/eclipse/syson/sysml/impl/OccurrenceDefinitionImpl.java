@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -46,14 +46,14 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
     protected static final boolean IS_INDIVIDUAL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsIndividual()
      * @generated
      * @ordered
      */
-    protected boolean isIndividual = IS_INDIVIDUAL_EDEFAULT;
+    protected static final int IS_INDIVIDUAL_EFLAG = 1 << 4;
 
     /**
      * <!-- begin-user-doc -->
@@ -81,7 +81,7 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
      */
     @Override
     public boolean isIsIndividual() {
-        return isIndividual;
+        return (flags & IS_INDIVIDUAL_EFLAG) != 0;
     }
 
     /**
@@ -91,10 +91,10 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
      */
     @Override
     public void setIsIndividual(boolean newIsIndividual) {
-        boolean oldIsIndividual = isIndividual;
-        isIndividual = newIsIndividual;
+        boolean oldIsIndividual = (flags & IS_INDIVIDUAL_EFLAG) != 0;
+        if (newIsIndividual) flags |= IS_INDIVIDUAL_EFLAG; else flags &= ~IS_INDIVIDUAL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.OCCURRENCE_DEFINITION__IS_INDIVIDUAL, oldIsIndividual, isIndividual));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.OCCURRENCE_DEFINITION__IS_INDIVIDUAL, oldIsIndividual, newIsIndividual));
     }
 
     /**
@@ -176,7 +176,7 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.OCCURRENCE_DEFINITION__IS_INDIVIDUAL:
-                return isIndividual != IS_INDIVIDUAL_EDEFAULT;
+                return ((flags & IS_INDIVIDUAL_EFLAG) != 0) != IS_INDIVIDUAL_EDEFAULT;
             case SysmlPackage.OCCURRENCE_DEFINITION__LIFE_CLASS:
                 return basicGetLifeClass() != null;
         }
@@ -194,7 +194,7 @@ public class OccurrenceDefinitionImpl extends DefinitionImpl implements Occurren
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isIndividual: ");
-        result.append(isIndividual);
+        result.append((flags & IS_INDIVIDUAL_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -54,14 +54,14 @@ public class OccurrenceUsageImpl extends UsageImpl implements OccurrenceUsage {
     protected static final boolean IS_INDIVIDUAL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsIndividual() <em>Is Individual</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsIndividual()
      * @generated
      * @ordered
      */
-    protected boolean isIndividual = IS_INDIVIDUAL_EDEFAULT;
+    protected static final int IS_INDIVIDUAL_EFLAG = 1 << 11;
 
     /**
      * The default value of the '{@link #getPortionKind() <em>Portion Kind</em>}' attribute.
@@ -132,7 +132,7 @@ public class OccurrenceUsageImpl extends UsageImpl implements OccurrenceUsage {
      */
     @Override
     public boolean isIsIndividual() {
-        return isIndividual;
+        return (flags & IS_INDIVIDUAL_EFLAG) != 0;
     }
 
     /**
@@ -142,10 +142,10 @@ public class OccurrenceUsageImpl extends UsageImpl implements OccurrenceUsage {
      */
     @Override
     public void setIsIndividual(boolean newIsIndividual) {
-        boolean oldIsIndividual = isIndividual;
-        isIndividual = newIsIndividual;
+        boolean oldIsIndividual = (flags & IS_INDIVIDUAL_EFLAG) != 0;
+        if (newIsIndividual) flags |= IS_INDIVIDUAL_EFLAG; else flags &= ~IS_INDIVIDUAL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.OCCURRENCE_USAGE__IS_INDIVIDUAL, oldIsIndividual, isIndividual));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.OCCURRENCE_USAGE__IS_INDIVIDUAL, oldIsIndividual, newIsIndividual));
     }
 
     /**
@@ -249,7 +249,7 @@ public class OccurrenceUsageImpl extends UsageImpl implements OccurrenceUsage {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.OCCURRENCE_USAGE__IS_INDIVIDUAL:
-                return isIndividual != IS_INDIVIDUAL_EDEFAULT;
+                return ((flags & IS_INDIVIDUAL_EFLAG) != 0) != IS_INDIVIDUAL_EDEFAULT;
             case SysmlPackage.OCCURRENCE_USAGE__PORTION_KIND:
                 return portionKind != PORTION_KIND_EDEFAULT;
             case SysmlPackage.OCCURRENCE_USAGE__INDIVIDUAL_DEFINITION:
@@ -271,7 +271,7 @@ public class OccurrenceUsageImpl extends UsageImpl implements OccurrenceUsage {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isIndividual: ");
-        result.append(isIndividual);
+        result.append((flags & IS_INDIVIDUAL_EFLAG) != 0);
         result.append(", portionKind: ");
         result.append(portionKind);
         result.append(')');
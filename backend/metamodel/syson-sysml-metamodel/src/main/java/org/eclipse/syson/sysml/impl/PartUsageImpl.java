@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -64,13 +64,11 @@ public class PartUsageImpl extends ItemUsageImpl implements PartUsage {
     @Override
     public EList<PartDefinition> getPartDefinition() {
         List<PartDefinition> partDefinitions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-            .filter(FeatureTyping.class::isInstance)
-            .map(FeatureTyping.class::cast)
-            .map(ft -> ft.getType())
-            .filter(PartDefinition.class::isInstance)
-            .map(PartDefinition.class::cast)
-            .forEach(partDefinitions::add);
+        for (FeatureTyping featureTyping : this.getOwnedFeatureTypings()) {
+            if (featureTyping.getType() instanceof PartDefinition partDefinition) {
+                partDefinitions.add(partDefinition);
+            }
+        }
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getPartUsage_PartDefinition(), partDefinitions.size(), partDefinitions.toArray());
     }
 
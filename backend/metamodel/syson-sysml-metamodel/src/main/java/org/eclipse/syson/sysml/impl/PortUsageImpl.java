@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -64,13 +64,11 @@ public class PortUsageImpl extends OccurrenceUsageImpl implements PortUsage {
     @Override
     public EList<PortDefinition> getPortDefinition() {
         List<PortDefinition> portDefinitions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-            .filter(FeatureTyping.class::isInstance)
-            .map(FeatureTyping.class::cast)
-            .map(ft -> ft.getType())
-            .filter(PortDefinition.class::isInstance)
-            .map(PortDefinition.class::cast)
-            .forEach(portDefinitions::add);
+        for (FeatureTyping featureTyping : this.getOwnedFeatureTypings()) {
+            if (featureTyping.getType() instanceof PortDefinition portDefinition) {
+                portDefinitions.add(portDefinition);
+            }
+        }
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getPortUsage_PortDefinition(), portDefinitions.size(), portDefinitions.toArray());
     }
 
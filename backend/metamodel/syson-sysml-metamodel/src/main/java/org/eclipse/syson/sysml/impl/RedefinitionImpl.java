@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.Redefinition;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -107,14 +108,16 @@ public class RedefinitionImpl extends SubsettingImpl implements Redefinition {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setRedefinedFeature(Feature newRedefinedFeature) {
+        SpecializationIndex.specializationChanged(this);
         Feature oldRedefinedFeature = redefinedFeature;
         redefinedFeature = newRedefinedFeature;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.REDEFINITION__REDEFINED_FEATURE, oldRedefinedFeature, redefinedFeature));
+        SpecializationIndex.specializationChanged(this);
     }
 
     /**
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,9 @@ import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.ReferenceSubsetting;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ConnectorEnds;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -94,14 +97,18 @@ public class ReferenceSubsettingImpl extends SubsettingImpl implements Reference
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setReferencedFeature(Feature newReferencedFeature) {
+        SpecializationIndex.specializationChanged(this);
         Feature oldReferencedFeature = referencedFeature;
         referencedFeature = newReferencedFeature;
+        ConnectorEnds.changed(this);
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.REFERENCE_SUBSETTING__REFERENCED_FEATURE, oldReferencedFeature, referencedFeature));
+        SpecializationIndex.specializationChanged(this);
+        PortConnectivityIndex.referenceChanged(this);
     }
 
     /**
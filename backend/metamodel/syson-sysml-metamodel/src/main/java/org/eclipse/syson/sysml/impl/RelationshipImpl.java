@@ -62,14 +62,14 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
     protected static final boolean IS_IMPLIED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsImplied() <em>Is Implied</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsImplied()
      * @generated
      * @ordered
      */
-    protected boolean isImplied = IS_IMPLIED_EDEFAULT;
+    protected static final int IS_IMPLIED_EFLAG = 1 << 1;
 
     /**
      * The cached value of the '{@link #getOwnedRelatedElement() <em>Owned Related Element</em>}' containment reference list.
@@ -127,7 +127,7 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
      */
     @Override
     public boolean isIsImplied() {
-        return isImplied;
+        return (flags & IS_IMPLIED_EFLAG) != 0;
     }
 
     /**
@@ -137,10 +137,10 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
      */
     @Override
     public void setIsImplied(boolean newIsImplied) {
-        boolean oldIsImplied = isImplied;
-        isImplied = newIsImplied;
+        boolean oldIsImplied = (flags & IS_IMPLIED_EFLAG) != 0;
+        if (newIsImplied) flags |= IS_IMPLIED_EFLAG; else flags &= ~IS_IMPLIED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.RELATIONSHIP__IS_IMPLIED, oldIsImplied, isImplied));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.RELATIONSHIP__IS_IMPLIED, oldIsImplied, newIsImplied));
     }
 
     /**
@@ -392,7 +392,7 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.RELATIONSHIP__IS_IMPLIED:
-                return isImplied != IS_IMPLIED_EDEFAULT;
+                return ((flags & IS_IMPLIED_EFLAG) != 0) != IS_IMPLIED_EDEFAULT;
             case SysmlPackage.RELATIONSHIP__OWNED_RELATED_ELEMENT:
                 return ownedRelatedElement != null && !ownedRelatedElement.isEmpty();
             case SysmlPackage.RELATIONSHIP__OWNING_RELATED_ELEMENT:
@@ -418,7 +418,7 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isImplied: ");
-        result.append(isImplied);
+        result.append((flags & IS_IMPLIED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -52,14 +52,14 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
     protected static final boolean IS_NEGATED_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsNegated() <em>Is Negated</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsNegated() <em>Is Negated</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsNegated()
      * @generated
      * @ordered
      */
-    protected boolean isNegated = IS_NEGATED_EDEFAULT;
+    protected static final int IS_NEGATED_EFLAG = 1 << 12;
 
     /**
      * <!-- begin-user-doc -->
@@ -87,7 +87,7 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
      */
     @Override
     public boolean isIsNegated() {
-        return isNegated;
+        return (flags & IS_NEGATED_EFLAG) != 0;
     }
 
     /**
@@ -97,10 +97,10 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
      */
     @Override
     public void setIsNegated(boolean newIsNegated) {
-        boolean oldIsNegated = isNegated;
-        isNegated = newIsNegated;
+        boolean oldIsNegated = (flags & IS_NEGATED_EFLAG) != 0;
+        if (newIsNegated) flags |= IS_NEGATED_EFLAG; else flags &= ~IS_NEGATED_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.SATISFY_REQUIREMENT_USAGE__IS_NEGATED, oldIsNegated, isNegated));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.SATISFY_REQUIREMENT_USAGE__IS_NEGATED, oldIsNegated, newIsNegated));
     }
 
     /**
@@ -234,7 +234,7 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.SATISFY_REQUIREMENT_USAGE__IS_NEGATED:
-                return isNegated != IS_NEGATED_EDEFAULT;
+                return ((flags & IS_NEGATED_EFLAG) != 0) != IS_NEGATED_EDEFAULT;
             case SysmlPackage.SATISFY_REQUIREMENT_USAGE__ASSERTED_CONSTRAINT:
                 return basicGetAssertedConstraint() != null;
             case SysmlPackage.SATISFY_REQUIREMENT_USAGE__SATISFIED_REQUIREMENT:
@@ -300,7 +300,7 @@ public class SatisfyRequirementUsageImpl extends RequirementUsageImpl implements
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isNegated: ");
-        result.append(isNegated);
+        result.append((flags & IS_NEGATED_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
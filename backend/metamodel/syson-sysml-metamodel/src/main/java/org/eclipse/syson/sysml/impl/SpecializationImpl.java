@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,14 @@
 package org.eclipse.syson.sysml.impl;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Specialization;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -75,6 +77,21 @@ public class SpecializationImpl extends RelationshipImpl implements Specializati
         return SysmlPackage.eINSTANCE.getSpecialization();
     }
 
+    /**
+     * <!-- begin-user-doc -->
+     * Keep the {@link SpecializationIndex} up to date when this relationship is added to or removed from its owning
+     * type.
+     * <!-- end-user-doc -->
+     * @generated NOT
+     */
+    @Override
+    public NotificationChain eBasicSetContainer(InternalEObject newContainer, int newContainerFeatureID, NotificationChain msgs) {
+        SpecializationIndex.specializationChanged(this);
+        NotificationChain notificationChain = super.eBasicSetContainer(newContainer, newContainerFeatureID, msgs);
+        SpecializationIndex.specializationChanged(this);
+        return notificationChain;
+    }
+
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -105,14 +122,16 @@ public class SpecializationImpl extends RelationshipImpl implements Specializati
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setGeneral(Type newGeneral) {
+        SpecializationIndex.specializationChanged(this);
         Type oldGeneral = general;
         general = newGeneral;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.SPECIALIZATION__GENERAL, oldGeneral, general));
+        SpecializationIndex.specializationChanged(this);
     }
 
     /**
@@ -168,14 +187,16 @@ public class SpecializationImpl extends RelationshipImpl implements Specializati
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setSpecific(Type newSpecific) {
+        SpecializationIndex.specializationChanged(this);
         Type oldSpecific = specific;
         specific = newSpecific;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.SPECIALIZATION__SPECIFIC, oldSpecific, specific));
+        SpecializationIndex.specializationChanged(this);
     }
 
     /**
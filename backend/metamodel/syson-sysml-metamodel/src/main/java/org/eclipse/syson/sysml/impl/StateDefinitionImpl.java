@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -56,14 +56,14 @@ public class StateDefinitionImpl extends ActionDefinitionImpl implements StateDe
     protected static final boolean IS_PARALLEL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsParallel() <em>Is Parallel</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsParallel() <em>Is Parallel</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsParallel()
      * @generated
      * @ordered
      */
-    protected boolean isParallel = IS_PARALLEL_EDEFAULT;
+    protected static final int IS_PARALLEL_EFLAG = 1 << 5;
 
     /**
      * <!-- begin-user-doc -->
@@ -160,7 +160,7 @@ public class StateDefinitionImpl extends ActionDefinitionImpl implements StateDe
      */
     @Override
     public boolean isIsParallel() {
-        return isParallel;
+        return (flags & IS_PARALLEL_EFLAG) != 0;
     }
 
     /**
@@ -170,10 +170,10 @@ public class StateDefinitionImpl extends ActionDefinitionImpl implements StateDe
      */
     @Override
     public void setIsParallel(boolean newIsParallel) {
-        boolean oldIsParallel = isParallel;
-        isParallel = newIsParallel;
+        boolean oldIsParallel = (flags & IS_PARALLEL_EFLAG) != 0;
+        if (newIsParallel) flags |= IS_PARALLEL_EFLAG; else flags &= ~IS_PARALLEL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.STATE_DEFINITION__IS_PARALLEL, oldIsParallel, isParallel));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.STATE_DEFINITION__IS_PARALLEL, oldIsParallel, newIsParallel));
     }
 
     /**
@@ -252,7 +252,7 @@ public class StateDefinitionImpl extends ActionDefinitionImpl implements StateDe
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.STATE_DEFINITION__IS_PARALLEL:
-                return isParallel != IS_PARALLEL_EDEFAULT;
+                return ((flags & IS_PARALLEL_EFLAG) != 0) != IS_PARALLEL_EDEFAULT;
             case SysmlPackage.STATE_DEFINITION__DO_ACTION:
                 return basicGetDoAction() != null;
             case SysmlPackage.STATE_DEFINITION__ENTRY_ACTION:
@@ -276,7 +276,7 @@ public class StateDefinitionImpl extends ActionDefinitionImpl implements StateDe
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isParallel: ");
-        result.append(isParallel);
+        result.append((flags & IS_PARALLEL_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -57,14 +57,14 @@ public class StateUsageImpl extends ActionUsageImpl implements StateUsage {
     protected static final boolean IS_PARALLEL_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsParallel() <em>Is Parallel</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsParallel() <em>Is Parallel</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsParallel()
      * @generated
      * @ordered
      */
-    protected boolean isParallel = IS_PARALLEL_EDEFAULT;
+    protected static final int IS_PARALLEL_EFLAG = 1 << 12;
 
     /**
      * <!-- begin-user-doc -->
@@ -161,7 +161,7 @@ public class StateUsageImpl extends ActionUsageImpl implements StateUsage {
      */
     @Override
     public boolean isIsParallel() {
-        return isParallel;
+        return (flags & IS_PARALLEL_EFLAG) != 0;
     }
 
     /**
@@ -171,10 +171,10 @@ public class StateUsageImpl extends ActionUsageImpl implements StateUsage {
      */
     @Override
     public void setIsParallel(boolean newIsParallel) {
-        boolean oldIsParallel = isParallel;
-        isParallel = newIsParallel;
+        boolean oldIsParallel = (flags & IS_PARALLEL_EFLAG) != 0;
+        if (newIsParallel) flags |= IS_PARALLEL_EFLAG; else flags &= ~IS_PARALLEL_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.STATE_USAGE__IS_PARALLEL, oldIsParallel, isParallel));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.STATE_USAGE__IS_PARALLEL, oldIsParallel, newIsParallel));
     }
 
     /**
@@ -263,7 +263,7 @@ public class StateUsageImpl extends ActionUsageImpl implements StateUsage {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.STATE_USAGE__IS_PARALLEL:
-                return isParallel != IS_PARALLEL_EDEFAULT;
+                return ((flags & IS_PARALLEL_EFLAG) != 0) != IS_PARALLEL_EDEFAULT;
             case SysmlPackage.STATE_USAGE__DO_ACTION:
                 return basicGetDoAction() != null;
             case SysmlPackage.STATE_USAGE__ENTRY_ACTION:
@@ -301,7 +301,7 @@ public class StateUsageImpl extends ActionUsageImpl implements StateUsage {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isParallel: ");
-        result.append(isParallel);
+        result.append((flags & IS_PARALLEL_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.syson.sysml.Classifier;
 import org.eclipse.syson.sysml.Subclassification;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -165,14 +166,16 @@ public class SubclassificationImpl extends SpecializationImpl implements Subclas
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public void setSuperclassifier(Classifier newSuperclassifier) {
+        SpecializationIndex.specializationChanged(this);
         Classifier oldSuperclassifier = superclassifier;
         superclassifier = newSuperclassifier;
         if (eNotificationRequired())
             eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.SUBCLASSIFICATION__SUPERCLASSIFIER, oldSuperclassifier, superclassifier));
+        SpecializationIndex.specializationChanged(this);
     }
 
     /**
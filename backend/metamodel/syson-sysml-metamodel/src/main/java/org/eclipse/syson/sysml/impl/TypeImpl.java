@@ -15,17 +15,22 @@ package org.eclipse.syson.sysml.impl;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.util.EcoreEList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.Conjugation;
 import org.eclipse.syson.sysml.Differencing;
 import org.eclipse.syson.sysml.Disjoining;
+import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureDirectionKind;
 import org.eclipse.syson.sysml.FeatureMembership;
@@ -36,6 +41,7 @@ import org.eclipse.syson.sysml.Specialization;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.Unioning;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
 
 /**
  * <!-- begin-user-doc -->
@@ -85,14 +91,14 @@ public class TypeImpl extends NamespaceImpl implements Type {
     protected static final boolean IS_ABSTRACT_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsAbstract() <em>Is Abstract</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsAbstract() <em>Is Abstract</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsAbstract()
      * @generated
      * @ordered
      */
-    protected boolean isAbstract = IS_ABSTRACT_EDEFAULT;
+    protected static final int IS_ABSTRACT_EFLAG = 1 << 1;
 
     /**
      * The default value of the '{@link #isIsConjugated() <em>Is Conjugated</em>}' attribute.
@@ -115,14 +121,14 @@ public class TypeImpl extends NamespaceImpl implements Type {
     protected static final boolean IS_SUFFICIENT_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsSufficient() <em>Is Sufficient</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsSufficient() <em>Is Sufficient</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsSufficient()
      * @generated
      * @ordered
      */
-    protected boolean isSufficient = IS_SUFFICIENT_EDEFAULT;
+    protected static final int IS_SUFFICIENT_EFLAG = 1 << 2;
 
     /**
      * <!-- begin-user-doc -->
@@ -184,6 +190,10 @@ public class TypeImpl extends NamespaceImpl implements Type {
     @Override
     public EList<Feature> getFeature() {
         List<Feature> data = new ArrayList<>();
+        this.getFeatureMembership().stream()
+            .map(FeatureMembership::getOwnedMemberFeature)
+            .filter(Objects::nonNull)
+            .forEach(data::add);
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getType_Feature(), data.size(), data.toArray());
     }
 
@@ -194,7 +204,11 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public EList<FeatureMembership> getFeatureMembership() {
-        List<FeatureMembership> data = new ArrayList<>();
+        List<FeatureMembership> data = new ArrayList<>(this.getOwnedFeatureMembership());
+        SpecializationIndex.inheritedMemberships(this, List.of()).stream()
+            .filter(FeatureMembership.class::isInstance)
+            .map(FeatureMembership.class::cast)
+            .forEach(data::add);
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getType_FeatureMembership(), data.size(), data.toArray());
     }
 
@@ -206,6 +220,12 @@ public class TypeImpl extends NamespaceImpl implements Type {
     @Override
     public EList<Feature> getInheritedFeature() {
         List<Feature> data = new ArrayList<>();
+        SpecializationIndex.inheritedMemberships(this, List.of()).stream()
+            .filter(FeatureMembership.class::isInstance)
+            .map(FeatureMembership.class::cast)
+            .map(FeatureMembership::getOwnedMemberFeature)
+            .filter(Objects::nonNull)
+            .forEach(data::add);
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getType_InheritedFeature(), data.size(), data.toArray());
     }
 
@@ -216,7 +236,7 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public EList<Membership> getInheritedMembership() {
-        List<Membership> data = new ArrayList<>();
+        List<Membership> data = SpecializationIndex.inheritedMemberships(this, List.of());
         return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getType_InheritedMembership(), data.size(), data.toArray());
     }
 
@@ -249,7 +269,7 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean isIsAbstract() {
-        return isAbstract;
+        return (flags & IS_ABSTRACT_EFLAG) != 0;
     }
 
     /**
@@ -259,10 +279,10 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public void setIsAbstract(boolean newIsAbstract) {
-        boolean oldIsAbstract = isAbstract;
-        isAbstract = newIsAbstract;
+        boolean oldIsAbstract = (flags & IS_ABSTRACT_EFLAG) != 0;
+        if (newIsAbstract) flags |= IS_ABSTRACT_EFLAG; else flags &= ~IS_ABSTRACT_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.TYPE__IS_ABSTRACT, oldIsAbstract, isAbstract));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.TYPE__IS_ABSTRACT, oldIsAbstract, newIsAbstract));
     }
 
     /**
@@ -282,7 +302,7 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean isIsSufficient() {
-        return isSufficient;
+        return (flags & IS_SUFFICIENT_EFLAG) != 0;
     }
 
     /**
@@ -292,10 +312,10 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public void setIsSufficient(boolean newIsSufficient) {
-        boolean oldIsSufficient = isSufficient;
-        isSufficient = newIsSufficient;
+        boolean oldIsSufficient = (flags & IS_SUFFICIENT_EFLAG) != 0;
+        if (newIsSufficient) flags |= IS_SUFFICIENT_EFLAG; else flags &= ~IS_SUFFICIENT_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.TYPE__IS_SUFFICIENT, oldIsSufficient, isSufficient));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.TYPE__IS_SUFFICIENT, oldIsSufficient, newIsSufficient));
     }
 
     /**
@@ -467,13 +487,12 @@ public class TypeImpl extends NamespaceImpl implements Type {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Type> allSupertypes() {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        List<Type> data = SpecializationIndex.allSupertypes(this);
+        return new BasicEList.UnmodifiableEList<>(data.size(), data.toArray());
     }
 
     /**
@@ -491,13 +510,16 @@ public class TypeImpl extends NamespaceImpl implements Type {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Membership> inheritedMemberships(EList<Type> excluded) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        List<Type> excludedTypes = List.of();
+        if (excluded != null) {
+            excludedTypes = excluded;
+        }
+        List<Membership> data = SpecializationIndex.inheritedMemberships(this, excludedTypes);
+        return new BasicEList.UnmodifiableEList<>(data.size(), data.toArray());
     }
 
     /**
@@ -507,7 +529,7 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean specializes(Type supertype) {
-        return false;
+        return SpecializationIndex.specializes(this, supertype);
     }
 
     /**
@@ -517,7 +539,30 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean specializesFromLibrary(String libraryTypeName) {
-        return false;
+        boolean specializesFromLibrary = false;
+        if (libraryTypeName != null) {
+            specializesFromLibrary = SpecializationIndex.allSupertypes(this).stream()
+                .filter(Type::isIsLibraryElement)
+                .map(this::getLibraryQualifiedName)
+                .anyMatch(libraryTypeName::equals);
+        }
+        return specializesFromLibrary;
+    }
+
+    /**
+     * Get the qualified name of the given library type, without the qualified name of its root namespace when this
+     * root namespace is unnamed (as the root namespaces of the standard libraries are).
+     */
+    private String getLibraryQualifiedName(Type libraryType) {
+        String qualifiedName = libraryType.getQualifiedName();
+        EObject root = EcoreUtil.getRootContainer(libraryType);
+        if (root != libraryType && root instanceof Element rootElement && rootElement.getName() == null) {
+            String rootQualifiedNamePrefix = rootElement.getQualifiedName() + "::";
+            if (qualifiedName.startsWith(rootQualifiedNamePrefix)) {
+                qualifiedName = qualifiedName.substring(rootQualifiedNamePrefix.length());
+            }
+        }
+        return qualifiedName;
     }
 
     /**
@@ -628,11 +673,11 @@ public class TypeImpl extends NamespaceImpl implements Type {
     public boolean eIsSet(int featureID) {
         switch (featureID) {
             case SysmlPackage.TYPE__IS_ABSTRACT:
-                return isAbstract != IS_ABSTRACT_EDEFAULT;
+                return ((flags & IS_ABSTRACT_EFLAG) != 0) != IS_ABSTRACT_EDEFAULT;
             case SysmlPackage.TYPE__IS_CONJUGATED:
                 return isIsConjugated() != IS_CONJUGATED_EDEFAULT;
             case SysmlPackage.TYPE__IS_SUFFICIENT:
-                return isSufficient != IS_SUFFICIENT_EDEFAULT;
+                return ((flags & IS_SUFFICIENT_EFLAG) != 0) != IS_SUFFICIENT_EDEFAULT;
             case SysmlPackage.TYPE__DIFFERENCING_TYPE:
                 return !getDifferencingType().isEmpty();
             case SysmlPackage.TYPE__DIRECTED_FEATURE:
@@ -713,9 +758,9 @@ public class TypeImpl extends NamespaceImpl implements Type {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isAbstract: ");
-        result.append(isAbstract);
+        result.append((flags & IS_ABSTRACT_EFLAG) != 0);
         result.append(", isSufficient: ");
-        result.append(isSufficient);
+        result.append((flags & IS_SUFFICIENT_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -126,14 +126,14 @@ public class UsageImpl extends FeatureImpl implements Usage {
     protected static final boolean IS_VARIATION_EDEFAULT = false;
 
     /**
-     * The cached value of the '{@link #isIsVariation() <em>Is Variation</em>}' attribute.
+     * The flag representing the value of the '{@link #isIsVariation() <em>Is Variation</em>}' attribute.
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
      * @see #isIsVariation()
      * @generated
      * @ordered
      */
-    protected boolean isVariation = IS_VARIATION_EDEFAULT;
+    protected static final int IS_VARIATION_EFLAG = 1 << 10;
 
     /**
      * <!-- begin-user-doc -->
@@ -197,7 +197,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public boolean isIsVariation() {
-        return isVariation;
+        return (flags & IS_VARIATION_EFLAG) != 0;
     }
 
     /**
@@ -207,10 +207,10 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public void setIsVariation(boolean newIsVariation) {
-        boolean oldIsVariation = isVariation;
-        isVariation = newIsVariation;
+        boolean oldIsVariation = (flags & IS_VARIATION_EFLAG) != 0;
+        if (newIsVariation) flags |= IS_VARIATION_EFLAG; else flags &= ~IS_VARIATION_EFLAG;
         if (eNotificationRequired())
-            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.USAGE__IS_VARIATION, oldIsVariation, isVariation));
+            eNotify(new ENotificationImpl(this, Notification.SET, SysmlPackage.USAGE__IS_VARIATION, oldIsVariation, newIsVariation));
     }
 
     /**
@@ -911,7 +911,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
             case SysmlPackage.USAGE__IS_REFERENCE:
                 return isIsReference() != IS_REFERENCE_EDEFAULT;
             case SysmlPackage.USAGE__IS_VARIATION:
-                return isVariation != IS_VARIATION_EDEFAULT;
+                return ((flags & IS_VARIATION_EFLAG) != 0) != IS_VARIATION_EDEFAULT;
             case SysmlPackage.USAGE__DEFINITION:
                 return !getDefinition().isEmpty();
             case SysmlPackage.USAGE__DIRECTED_USAGE:
@@ -995,7 +995,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
 
         StringBuilder result = new StringBuilder(super.toString());
         result.append(" (isVariation: ");
-        result.append(isVariation);
+        result.append((flags & IS_VARIATION_EFLAG) != 0);
         result.append(')');
         return result.toString();
     }
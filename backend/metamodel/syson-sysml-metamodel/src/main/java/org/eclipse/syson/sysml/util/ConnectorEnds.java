@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Connector;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.Usage;
+
+/**
+ * Cache of the ends of a {@link Connector}, shared by the derived references of the connector
+ * (<code>connectorEnd</code>, <code>relatedFeature</code>, <code>sourceFeature</code> and
+ * <code>targetFeature</code>).
+ * <p>
+ * The cache is attached to the connector and computed the first time one of its ends is queried. The ends of a
+ * connector are the features owned through its {@link EndFeatureMembership}s, and its related features are the
+ * features referenced by the {@link ReferenceSubsetting}s of its ends. The cache is cleared when an element is added
+ * to or removed from the ends of the connector (see {@link #changed(EObject)}), e.g. an {@link EndFeatureMembership}
+ * or a {@link ReferenceSubsetting}, and when the referenced feature of one of its {@link ReferenceSubsetting}s
+ * changes.
+ * </p>
+ * <p>
+ * The arrays returned are shared between the callers and must not be modified.
+ * </p>
+ *
+ * @author arichard
+ */
+public class ConnectorEnds extends AdapterImpl {
+
+    private static final Feature[] NO_FEATURES = new Feature[0];
+
+    private Feature[] connectorEnds;
+
+    private Feature[] relatedFeatures;
+
+    /**
+     * Get the ends of the given connector.
+     *
+     * @param connector
+     *            the given {@link Connector}.
+     * @return the features owned through the {@link EndFeatureMembership}s of the connector.
+     */
+    public static Feature[] getConnectorEnds(Connector connector) {
+        return getCache(connector, true).computeConnectorEnds(connector);
+    }
+
+    /**
+     * Get the related features of the given connector, i.e. the features referenced by its ends.
+     *
+     * @param connector
+     *            the given {@link Connector}.
+     * @return the features referenced by the {@link ReferenceSubsetting}s of the ends of the connector.
+     */
+    public static Feature[] getRelatedFeatures(Connector connector) {
+        return getCache(connector, true).computeRelatedFeatures(connector);
+    }
+
+    /**
+     * Clear the cache of the connector whose ends contain the given element (see {@link #getConnector(EObject)}). This
+     * method must be called before and after the modification, so that both the previous and the new connector of the
+     * element are cleared.
+     *
+     * @param eObject
+     *            the end, relationship or feature being modified.
+     */
+    public static void changed(EObject eObject) {
+        Connector connector = getConnector(eObject);
+        if (connector != null) {
+            ConnectorEnds cache = getCache(connector, false);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the connector whose ends contain the given element, i.e. the owner of the first {@link EndFeatureMembership}
+     * found among the given element and its containers going through relationships and features only. The ends may be
+     * usages (e.g. {@link org.eclipse.syson.sysml.ReferenceUsage}s), but the other usages are not part of the ends of a
+     * connector: the search stops there, so that it does not go through all the nested usages of a model.
+     *
+     * @param eObject
+     *            the end, relationship or feature.
+     * @return the connector whose ends contain the given element, or <code>null</code> if there is none.
+     */
+    static Connector getConnector(EObject eObject) {
+        EObject current = eObject;
+        while (current != null && !(current instanceof EndFeatureMembership) && (current instanceof Relationship || isFeatureOfConnectorEnd(current))) {
+            current = current.eContainer();
+        }
+        Connector connector = null;
+        if (current instanceof EndFeatureMembership && current.eContainer() instanceof Connector owningConnector) {
+            connector = owningConnector;
+        }
+        return connector;
+    }
+
+    private static boolean isFeatureOfConnectorEnd(EObject eObject) {
+        return eObject instanceof Feature && (!(eObject instanceof Usage) || eObject.eContainer() instanceof EndFeatureMembership);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ConnectorEnds.class;
+    }
+
+    private static ConnectorEnds getCache(Connector connector, boolean create) {
+        synchronized (connector) {
+            ConnectorEnds cache = (ConnectorEnds) EcoreUtil.getExistingAdapter(connector, ConnectorEnds.class);
+            if (cache == null && create) {
+                cache = new ConnectorEnds();
+                connector.eAdapters().add(cache);
+            }
+            return cache;
+        }
+    }
+
+    private synchronized Feature[] computeConnectorEnds(Connector connector) {
+        if (this.connectorEnds == null) {
+            List<Feature> ends = new ArrayList<>(2);
+            for (Relationship relationship : connector.getOwnedRelationship()) {
+                if (relationship instanceof EndFeatureMembership) {
+                    for (Element ownedRelatedElement : relationship.getOwnedRelatedElement()) {
+                        if (ownedRelatedElement instanceof Feature feature) {
+                            ends.add(feature);
+                        }
+                    }
+                }
+            }
+            this.connectorEnds = ends.toArray(NO_FEATURES);
+        }
+        return this.connectorEnds;
+    }
+
+    private synchronized Feature[] computeRelatedFeatures(Connector connector) {
+        if (this.relatedFeatures == null) {
+            List<Feature> features = new ArrayList<>(2);
+            for (Feature end : this.computeConnectorEnds(connector)) {
+                ReferenceSubsetting referenceSubsetting = end.getOwnedReferenceSubsetting();
+                if (referenceSubsetting != null && referenceSubsetting.getReferencedFeature() != null) {
+                    features.add(referenceSubsetting.getReferencedFeature());
+                }
+            }
+            this.relatedFeatures = features.toArray(NO_FEATURES);
+        }
+        return this.relatedFeatures;
+    }
+
+    private synchronized void clear() {
+        this.connectorEnds = null;
+        this.relatedFeatures = null;
+    }
+}
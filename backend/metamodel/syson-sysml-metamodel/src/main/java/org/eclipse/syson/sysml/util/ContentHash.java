@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.SysmlPackage;
+
+/**
+ * Merkle-style hash of the content of the {@link Element}s.
+ * <p>
+ * The hash of an element is computed from its {@link EClass}, the values of its attributes, the elements it
+ * references and the hashes of the elements it contains (i.e. its owned relationships and their owned related
+ * elements). The references to the elements of the hashed subtree are hashed by the relative position of the
+ * referenced element, i.e. the number of containers to go up from the referencing element and the containment path
+ * down to the referenced element, the other references are hashed by the elementId of the referenced element. The
+ * elementIds of the elements of the subtree are not part of the hash, so that two copies of the same subtree with
+ * different elementIds get the same hash, as long as the elements outside of the subtree that they reference are the
+ * same. The derived, transient and volatile features are ignored.
+ * </p>
+ * <p>
+ * The hashes computed by {@link #get(Element)} are cached in an adapter of each element, which invalidates the hash of
+ * the element and of all its containers as soon as one of its features changes. Comparing two subtrees whose hashes
+ * have already been computed is then O(1), and recomputing the hash of a subtree after a modification only recomputes
+ * the hashes of the modified elements and of their containers. The positions and the elementIds of the referenced
+ * elements are read when the hash is computed, moving a referenced element or changing its elementId does not
+ * invalidate the hashes of the elements referencing it. {@link #compute(Element)} computes the hash without caching it,
+ * for the subtrees hashed only once.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class ContentHash {
+
+    private static final long SEED = 0xCBF29CE484222325L;
+
+    private static final long PRIME = 0x100000001B3L;
+
+    private static final Map<EClass, HashedFeatures> HASHED_FEATURES = new ConcurrentHashMap<>();
+
+    private ContentHash() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the hash of the content of the given element, and of all the elements it contains, caching the hashes of the
+     * subtree.
+     *
+     * @param element
+     *            the given {@link Element}.
+     * @return the hash of the content of the given element.
+     */
+    public static long get(Element element) {
+        return get(element, 0, true);
+    }
+
+    /**
+     * Compute the hash of the content of the given element, and of all the elements it contains, without caching it.
+     *
+     * @param element
+     *            the given {@link Element}.
+     * @return the hash of the content of the given element.
+     */
+    public static long compute(Element element) {
+        return get(element, 0, false);
+    }
+
+    /**
+     * Check whether the given elements have the same content, according to their hashes.
+     *
+     * @param element
+     *            the first {@link Element}.
+     * @param otherElement
+     *            the second {@link Element}.
+     * @return <code>true</code> if the given elements have the same hash, <code>false</code> otherwise.
+     */
+    public static boolean haveSameContent(Element element, Element otherElement) {
+        return element == otherElement || element != null && otherElement != null && get(element) == get(otherElement);
+    }
+
+    /**
+     * Get the hash of the given element, located at the given depth in the hashed subtree. The hash of an element
+     * depends on its depth, since only the references to the elements of the hashed subtree are hashed by position.
+     */
+    private static long get(Element element, int depth, boolean cache) {
+        long hash;
+        if (cache) {
+            CachedHash cachedHash = (CachedHash) EcoreUtil.getExistingAdapter(element, ContentHash.class);
+            if (cachedHash == null) {
+                cachedHash = new CachedHash();
+                element.eAdapters().add(cachedHash);
+            }
+            if (!cachedHash.isValid || cachedHash.depth != depth) {
+                cachedHash.hash = compute(element, depth, true);
+                cachedHash.depth = depth;
+                cachedHash.isValid = true;
+            }
+            hash = cachedHash.hash;
+        } else {
+            hash = compute(element, depth, false);
+        }
+        return hash;
+    }
+
+    private static long compute(Element element, int depth, boolean cache) {
+        HashedFeatures hashedFeatures = HASHED_FEATURES.computeIfAbsent(element.eClass(), HashedFeatures::new);
+        long hash = mix(SEED, element.eClass().getName());
+        for (EAttribute attribute : hashedFeatures.attributes) {
+            Object value = element.eGet(attribute);
+            if (attribute.isMany()) {
+                for (Object item : (List<?>) value) {
+                    hash = mix(hash, item);
+                }
+            } else {
+                hash = mix(hash, value);
+            }
+            hash = mix(hash, 0);
+        }
+        for (EReference reference : hashedFeatures.references) {
+            Object value = element.eGet(reference, false);
+            if (reference.isMany()) {
+                for (Object item : (List<?>) value) {
+                    hash = mixReference(hash, element, depth, item);
+                }
+            } else {
+                hash = mixReference(hash, element, depth, value);
+            }
+            hash = mix(hash, 0);
+        }
+        for (EReference containment : hashedFeatures.containments) {
+            Object value = element.eGet(containment);
+            if (containment.isMany()) {
+                for (Object item : (List<?>) value) {
+                    hash = mixContent(hash, item, depth + 1, cache);
+                }
+            } else {
+                hash = mixContent(hash, value, depth + 1, cache);
+            }
+            hash = mix(hash, 0);
+        }
+        return hash;
+    }
+
+    private static long mixReference(long hash, Element element, int depth, Object value) {
+        long result = hash;
+        if (value instanceof InternalEObject eObject && eObject.eIsProxy()) {
+            result = mix(hash, eObject.eProxyURI().toString());
+        } else if (value instanceof EObject target) {
+            // Look for the closest container of the referencing element, within the hashed subtree, containing the target
+            EObject ancestor = element;
+            int up = 0;
+            while (ancestor != null && up <= depth && !EcoreUtil.isAncestor(ancestor, target)) {
+                ancestor = ancestor.eContainer();
+                up++;
+            }
+            if (ancestor != null && up <= depth) {
+                result = mixPath(mix(hash, up), ancestor, target);
+            } else if (target instanceof Element targetElement) {
+                result = mix(hash, (Object) targetElement.getElementId());
+            } else {
+                result = mix(hash, 1);
+            }
+        } else {
+            result = mix(hash, 1);
+        }
+        return result;
+    }
+
+    /**
+     * Mix the containment path from the given ancestor down to the given target, i.e. the containment feature and the
+     * index in this feature of the target and of each of its containers below the ancestor.
+     */
+    private static long mixPath(long hash, EObject ancestor, EObject target) {
+        long result = hash;
+        EObject current = target;
+        while (current != ancestor) {
+            EObject container = current.eContainer();
+            EReference containmentFeature = current.eContainmentFeature();
+            result = mix(result, containmentFeature.getFeatureID());
+            if (containmentFeature.isMany()) {
+                result = mix(result, ((List<?>) container.eGet(containmentFeature, false)).indexOf(current));
+            }
+            current = container;
+        }
+        return mix(result, 0);
+    }
+
+    private static long mixContent(long hash, Object value, int depth, boolean cache) {
+        long result = hash;
+        if (value instanceof Element element) {
+            result = mix(hash, get(element, depth, cache));
+        } else {
+            result = mix(hash, 1);
+        }
+        return result;
+    }
+
+    private static long mix(long hash, Object value) {
+        long result = hash;
+        if (value instanceof EEnumLiteral literal) {
+            result = mix(hash, literal.getLiteral());
+        } else if (value instanceof Enum<?> literal) {
+            result = mix(hash, literal.name());
+        } else if (value != null) {
+            result = mix(hash, value.toString());
+        } else {
+            result = mix(hash, 1);
+        }
+        return result;
+    }
+
+    private static long mix(long hash, String value) {
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result = (result ^ value.charAt(i)) * PRIME;
+        }
+        return mix(result, value.length() + 2);
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * PRIME;
+    }
+
+    /**
+     * The features of an {@link EClass} taken into account in the hashes of its instances.
+     *
+     * @author arichard
+     */
+    private static final class HashedFeatures {
+
+        private final List<EAttribute> attributes = new ArrayList<>();
+
+        private final List<EReference> references = new ArrayList<>();
+
+        private final List<EReference> containments = new ArrayList<>();
+
+        HashedFeatures(EClass eClass) {
+            for (EStructuralFeature feature : eClass.getEAllStructuralFeatures()) {
+                if (!feature.isDerived() && !feature.isTransient() && !feature.isVolatile()) {
+                    if (feature instanceof EAttribute attribute && attribute != SysmlPackage.eINSTANCE.getElement_ElementId()) {
+                        this.attributes.add(attribute);
+                    } else if (feature instanceof EReference reference && reference.isContainment()) {
+                        this.containments.add(reference);
+                    } else if (feature instanceof EReference reference && !reference.isContainer()) {
+                        this.references.add(reference);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The hash of an element at a given depth of a hashed subtree, invalidated with the ones of its containers when the
+     * element changes.
+     *
+     * @author arichard
+     */
+    private static final class CachedHash extends AdapterImpl {
+
+        private long hash;
+
+        private int depth;
+
+        private boolean isValid;
+
+        @Override
+        public boolean isAdapterForType(Object type) {
+            return type == ContentHash.class;
+        }
+
+        @Override
+        public void notifyChanged(Notification msg) {
+            if (!msg.isTouch() && msg.getEventType() != Notification.REMOVING_ADAPTER && this.isValid) {
+                this.isValid = false;
+                EObject container = ((EObject) msg.getNotifier()).eContainer();
+                while (container != null) {
+                    CachedHash containerHash = (CachedHash) EcoreUtil.getExistingAdapter(container, ContentHash.class);
+                    if (containerHash == null || !containerHash.isValid) {
+                        break;
+                    }
+                    containerHash.isValid = false;
+                    container = container.eContainer();
+                }
+            }
+        }
+    }
+}
@@ -124,4 +124,21 @@ public class ElementUtil {
     public static UUID generateUUIDv5(UUID namespaceUUID, String value) {
         return Generators.nameBasedGenerator(namespaceUUID, null).generate(value);
     }
+
+    /**
+     * Intern the given name, so that all the elements with the same name share the same {@link String}, regardless of
+     * their resource and editing context. The names are interned in the JVM string table, from which the unused ones
+     * are garbage collected.
+     *
+     * @param name
+     *            the given name, may be <code>null</code>.
+     * @return the canonical representation of the given name.
+     */
+    public static String intern(String name) {
+        String internedName = null;
+        if (name != null) {
+            internedName = name.intern();
+        }
+        return internedName;
+    }
 }
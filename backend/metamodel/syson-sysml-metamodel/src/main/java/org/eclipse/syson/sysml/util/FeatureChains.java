@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureChaining;
+import org.eclipse.syson.sysml.Relationship;
+
+/**
+ * Cache of the feature chains (e.g. <code>a.b.c.port</code>) of the {@link Feature}s of a {@link ResourceSet}.
+ * <p>
+ * The cache is attached to the {@link ResourceSet}, and holds for each feature its chaining features (i.e. the
+ * chaining features of its owned {@link FeatureChaining}s) and its chain target, i.e. the feature finally designated
+ * by the chain: the last chaining feature of the feature, or the chain target of this last chaining feature if it is a
+ * chain itself. Only the chains are cached: the features which are not chains, i.e. most of them, are resolved without
+ * adding an entry. Since a chain target depends on the chains of other features, the whole cache is cleared as soon as
+ * a {@link FeatureChaining} of the {@link ResourceSet} is added, removed, moved among the owned relationships of its
+ * feature or changes its chaining feature. The entries of the features removed from the {@link ResourceSet} are
+ * dropped (see {@link IndexRegistry}), so that the cache does not retain the deleted elements. The features which are
+ * not stored in a {@link ResourceSet} are resolved without cache.
+ * </p>
+ * <p>
+ * The arrays returned are shared between the callers and must not be modified.
+ * </p>
+ *
+ * @author arichard
+ */
+public class FeatureChains extends AdapterImpl {
+
+    private static final Feature[] NO_FEATURES = new Feature[0];
+
+    private final Map<Feature, Feature[]> chainingFeatures = new HashMap<>();
+
+    private final Map<Feature, Feature> chainTargets = new HashMap<>();
+
+    /**
+     * Get the chaining features of the given feature.
+     *
+     * @param feature
+     *            the given {@link Feature}.
+     * @return the chaining features of the owned {@link FeatureChaining}s of the feature, empty if the feature is not a
+     *         chain.
+     */
+    public static Feature[] getChainingFeatures(Feature feature) {
+        Feature[] result;
+        FeatureChains cache = getCache(feature, true);
+        if (cache != null) {
+            result = cache.getCachedChainingFeatures(feature);
+        } else {
+            result = computeChainingFeatures(feature);
+        }
+        return result;
+    }
+
+    /**
+     * Get the feature designated by the chain of the given feature.
+     *
+     * @param feature
+     *            the given {@link Feature}.
+     * @return the last chaining feature of the feature, resolved recursively when it is a chain itself, or the given
+     *         feature if it is not a chain.
+     */
+    public static Feature getChainTarget(Feature feature) {
+        Feature result = null;
+        if (feature != null) {
+            FeatureChains cache = getCache(feature, true);
+            if (cache != null) {
+                result = cache.getCachedChainTarget(feature);
+            } else {
+                result = computeChainTarget(feature, FeatureChains::computeChainingFeatures);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Notify the cache of the {@link ResourceSet} containing the given {@link FeatureChaining} that the chains it caches
+     * may have changed. This method must be called before and after the modification, so that both the previous and
+     * the new {@link ResourceSet} of the {@link FeatureChaining} are notified.
+     *
+     * @param featureChaining
+     *            the {@link FeatureChaining} being modified.
+     */
+    public static void changed(FeatureChaining featureChaining) {
+        FeatureChains cache = getCache(featureChaining, false);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Drop the entries of the features of the given subtree, which has just been removed from the {@link ResourceSet}
+     * of this cache.
+     *
+     * @param root
+     *            the root of the removed subtree.
+     */
+    public synchronized void detached(EObject root) {
+        if (!this.chainingFeatures.isEmpty() || !this.chainTargets.isEmpty()) {
+            this.remove(root);
+            Iterator<EObject> iterator = root.eAllContents();
+            while (iterator.hasNext()) {
+                this.remove(iterator.next());
+            }
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == FeatureChains.class;
+    }
+
+    private static FeatureChains getCache(EObject eObject, boolean create) {
+        FeatureChains cache = null;
+        Resource resource = eObject.eResource();
+        if (resource != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            if (resourceSet != null) {
+                boolean created = false;
+                synchronized (resourceSet) {
+                    cache = (FeatureChains) EcoreUtil.getExistingAdapter(resourceSet, FeatureChains.class);
+                    if (cache == null && create) {
+                        cache = new FeatureChains();
+                        resourceSet.eAdapters().add(cache);
+                        created = true;
+                    }
+                }
+                if (created) {
+                    IndexRegistry.register(resourceSet, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static Feature[] computeChainingFeatures(Feature feature) {
+        List<Feature> features = new ArrayList<>();
+        for (Relationship relationship : feature.getOwnedRelationship()) {
+            if (relationship instanceof FeatureChaining featureChaining && featureChaining.getChainingFeature() != null) {
+                features.add(featureChaining.getChainingFeature());
+            }
+        }
+        Feature[] result = NO_FEATURES;
+        if (!features.isEmpty()) {
+            result = features.toArray(NO_FEATURES);
+        }
+        return result;
+    }
+
+    /**
+     * Follow the last chaining features from the given feature, the chains being cyclic in invalid models only.
+     */
+    private static Feature computeChainTarget(Feature feature, ChainingFeaturesProvider provider) {
+        Feature target = feature;
+        List<Feature> visited = new ArrayList<>();
+        Feature[] chain = provider.get(target);
+        while (chain.length > 0 && !visited.contains(target)) {
+            visited.add(target);
+            target = chain[chain.length - 1];
+            chain = provider.get(target);
+        }
+        return target;
+    }
+
+    private synchronized Feature[] getCachedChainingFeatures(Feature feature) {
+        Feature[] features = this.chainingFeatures.get(feature);
+        if (features == null) {
+            features = computeChainingFeatures(feature);
+            if (features.length > 0) {
+                this.chainingFeatures.put(feature, features);
+            }
+        }
+        return features;
+    }
+
+    private synchronized Feature getCachedChainTarget(Feature feature) {
+        Feature target = this.chainTargets.get(feature);
+        if (target == null) {
+            target = computeChainTarget(feature, this::getCachedChainingFeatures);
+            if (target != feature) {
+                this.chainTargets.put(feature, target);
+            }
+        }
+        return target;
+    }
+
+    private synchronized void clear() {
+        this.chainingFeatures.clear();
+        this.chainTargets.clear();
+    }
+
+    private void remove(EObject eObject) {
+        if (eObject instanceof Feature feature) {
+            this.chainingFeatures.remove(feature);
+            this.chainTargets.remove(feature);
+        }
+    }
+
+    /**
+     * The access to the chaining features of a feature, cached or not.
+     *
+     * @author arichard
+     */
+    @FunctionalInterface
+    private interface ChainingFeaturesProvider {
+        Feature[] get(Feature feature);
+    }
+}
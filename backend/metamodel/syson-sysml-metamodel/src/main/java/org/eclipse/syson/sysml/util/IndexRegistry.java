@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+
+/**
+ * Registry of the indexes of a {@link ResourceSet} which must be kept up to date when an element is added to or
+ * removed from its container or resource, i.e. the {@link PortConnectivityIndex}, the {@link SpecializationIndex} and
+ * the {@link FeatureChains}.
+ * <p>
+ * The registry is attached to the {@link ResourceSet} by the first of these indexes installed. A containment change
+ * then resolves the indexes to update with a single lookup before the change and a single lookup after it, and skips
+ * them altogether when no index has been installed on the {@link ResourceSet} yet.
+ * </p>
+ *
+ * @author arichard
+ */
+public class IndexRegistry extends AdapterImpl {
+
+    private volatile PortConnectivityIndex portConnectivityIndex;
+
+    private volatile SpecializationIndex specializationIndex;
+
+    private volatile FeatureChains featureChains;
+
+    /**
+     * Get the registry of the {@link ResourceSet} containing the given element, if an index has been installed on it.
+     *
+     * @param eObject
+     *            the given element.
+     * @return the registry of the {@link ResourceSet} of the element, or <code>null</code> if there is none.
+     */
+    public static IndexRegistry find(EObject eObject) {
+        IndexRegistry registry = null;
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            registry = (IndexRegistry) EcoreUtil.getExistingAdapter(resource.getResourceSet(), IndexRegistry.class);
+        }
+        return registry;
+    }
+
+    /**
+     * Update the indexes of this registry before the given element is removed from its container or resource.
+     *
+     * @param element
+     *            the given {@link Element}.
+     */
+    public void detaching(Element element) {
+        PortConnectivityIndex index = this.portConnectivityIndex;
+        if (index != null) {
+            index.detached(element);
+        }
+    }
+
+    /**
+     * Update the indexes of this registry after the given element has been removed from their {@link ResourceSet}.
+     *
+     * @param element
+     *            the given {@link Element}.
+     */
+    public void detached(Element element) {
+        SpecializationIndex index = this.specializationIndex;
+        if (index != null) {
+            index.detached(element);
+        }
+        FeatureChains chains = this.featureChains;
+        if (chains != null) {
+            chains.detached(element);
+        }
+    }
+
+    /**
+     * Update the indexes of this registry after the given element has been added to its container or resource.
+     *
+     * @param element
+     *            the given {@link Element}.
+     */
+    public void attached(Element element) {
+        PortConnectivityIndex index = this.portConnectivityIndex;
+        if (index != null) {
+            index.attached(element);
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == IndexRegistry.class;
+    }
+
+    static void register(ResourceSet resourceSet, PortConnectivityIndex index) {
+        get(resourceSet).portConnectivityIndex = index;
+    }
+
+    static void register(ResourceSet resourceSet, SpecializationIndex index) {
+        get(resourceSet).specializationIndex = index;
+    }
+
+    static void register(ResourceSet resourceSet, FeatureChains chains) {
+        get(resourceSet).featureChains = chains;
+    }
+
+    private static IndexRegistry get(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            IndexRegistry registry = (IndexRegistry) EcoreUtil.getExistingAdapter(resourceSet, IndexRegistry.class);
+            if (registry == null) {
+                registry = new IndexRegistry();
+                resourceSet.eAdapters().add(registry);
+            }
+            return registry;
+        }
+    }
+}
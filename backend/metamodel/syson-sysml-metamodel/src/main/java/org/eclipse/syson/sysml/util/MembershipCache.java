@@ -0,0 +1,405 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Import;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.MembershipImport;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.VisibilityKind;
+
+/**
+ * Cache of the memberships, imported memberships and visible memberships of the {@link Namespace}s of a
+ * {@link ResourceSet}.
+ * <p>
+ * The cache is attached to the {@link ResourceSet}, and holds one array of memberships per namespace and per kind of
+ * computation (i.e. the <code>isRecursive</code> and <code>includeAll</code> flags of the visible memberships). Only the
+ * computations without excluded namespaces are cached, the other ones are only intermediate results. Since the visible
+ * memberships of a namespace depend on the ones of the namespaces it imports, contains or specializes, each cached
+ * namespace records the namespaces read by its computations. When a membership, an import, a nested namespace or a
+ * specialization relationship is added, removed or modified, only the cached namespaces depending on the namespace
+ * owning it are invalidated.
+ * </p>
+ * <p>
+ * The arrays returned are shared between the callers and must not be modified.
+ * </p>
+ *
+ * @author arichard
+ */
+public class MembershipCache extends AdapterImpl {
+
+    private static final int MEMBERSHIPS = 0;
+
+    private static final int IMPORTED_MEMBERSHIPS = 1;
+
+    private static final int VISIBLE_MEMBERSHIPS = 2;
+
+    private static final int RECURSIVE = 1;
+
+    private static final int INCLUDE_ALL = 2;
+
+    private static final int KINDS = VISIBLE_MEMBERSHIPS + RECURSIVE + INCLUDE_ALL + 1;
+
+    private static final Membership[] NO_MEMBERSHIPS = new Membership[0];
+
+    private final Map<Namespace, Membership[][]> memberships = new HashMap<>();
+
+    private final Map<Namespace, Set<Namespace>> dependencies = new HashMap<>();
+
+    private final Map<Namespace, Set<Namespace>> dependents = new HashMap<>();
+
+    /**
+     * Get the owned and imported memberships of the given namespace.
+     *
+     * @param namespace
+     *            the given {@link Namespace}.
+     * @return the memberships of the given namespace.
+     */
+    public static Membership[] getMemberships(Namespace namespace) {
+        return getOrCompute(namespace, MEMBERSHIPS, dependencies -> {
+            Set<Membership> memberships = new LinkedHashSet<>(namespace.getOwnedMembership());
+            addImportedMemberships(namespace, Set.of(), memberships, dependencies);
+            return memberships;
+        });
+    }
+
+    /**
+     * Get the memberships imported by the owned imports of the given namespace.
+     *
+     * @param namespace
+     *            the given {@link Namespace}.
+     * @param excluded
+     *            the namespaces whose memberships must not be imported.
+     * @return the imported memberships of the given namespace.
+     */
+    public static Membership[] getImportedMemberships(Namespace namespace, Collection<Namespace> excluded) {
+        Membership[] importedMemberships;
+        if (excluded.isEmpty()) {
+            importedMemberships = getOrCompute(namespace, IMPORTED_MEMBERSHIPS, dependencies -> {
+                Set<Membership> memberships = new LinkedHashSet<>();
+                addImportedMemberships(namespace, Set.of(), memberships, dependencies);
+                return memberships;
+            });
+        } else {
+            Set<Membership> memberships = new LinkedHashSet<>();
+            addImportedMemberships(namespace, new HashSet<>(excluded), memberships, new HashSet<>());
+            importedMemberships = memberships.toArray(NO_MEMBERSHIPS);
+        }
+        return importedMemberships;
+    }
+
+    /**
+     * Get the memberships imported by the given import.
+     *
+     * @param imprt
+     *            the given {@link Import}.
+     * @param excluded
+     *            the namespaces whose memberships must not be imported.
+     * @return the memberships imported by the given import.
+     */
+    public static Membership[] getImportedMemberships(Import imprt, Collection<Namespace> excluded) {
+        Set<Membership> memberships = new LinkedHashSet<>();
+        addImportedMemberships(imprt, new HashSet<>(excluded), memberships, new HashSet<>());
+        return memberships.toArray(NO_MEMBERSHIPS);
+    }
+
+    /**
+     * Get the memberships of the given namespace that are visible from outside of it, i.e. its public owned, imported
+     * and inherited memberships.
+     *
+     * @param namespace
+     *            the given {@link Namespace}.
+     * @param excluded
+     *            the namespaces whose memberships must not be imported.
+     * @param isRecursive
+     *            whether the visible memberships of the visible nested namespaces must be added too.
+     * @param includeAll
+     *            whether the memberships must be returned regardless of their visibility.
+     * @return the visible memberships of the given namespace.
+     */
+    public static Membership[] getVisibleMemberships(Namespace namespace, Collection<Namespace> excluded, boolean isRecursive, boolean includeAll) {
+        Membership[] visibleMemberships;
+        if (excluded.isEmpty()) {
+            int kind = VISIBLE_MEMBERSHIPS;
+            if (isRecursive) {
+                kind += RECURSIVE;
+            }
+            if (includeAll) {
+                kind += INCLUDE_ALL;
+            }
+            visibleMemberships = getOrCompute(namespace, kind, dependencies -> {
+                Set<Membership> memberships = new LinkedHashSet<>();
+                addVisibleMemberships(namespace, Set.of(), isRecursive, includeAll, memberships, dependencies);
+                return memberships;
+            });
+        } else {
+            Set<Membership> memberships = new LinkedHashSet<>();
+            addVisibleMemberships(namespace, new HashSet<>(excluded), isRecursive, includeAll, memberships, new HashSet<>());
+            visibleMemberships = memberships.toArray(NO_MEMBERSHIPS);
+        }
+        return visibleMemberships;
+    }
+
+    /**
+     * Notify the cache of the {@link ResourceSet} containing the given object that the memberships it caches may have
+     * changed. This method must be called before and after the modification, so that both the previous and the new
+     * {@link ResourceSet} of the object are notified. The cached namespaces depending on the namespace owning the
+     * object (and on the object itself if it is a namespace) are invalidated.
+     *
+     * @param eObject
+     *            the membership or import being modified, or the type whose specializations are modified.
+     */
+    public static void changed(EObject eObject) {
+        MembershipCache cache = getCache(eObject, false);
+        if (cache != null) {
+            cache.invalidate(eObject);
+        }
+    }
+
+    /**
+     * Notify the cache of the {@link ResourceSet} containing the given namespace that the namespace is about to be
+     * added to or removed from a membership, or has just been. This method must be called before and after the
+     * modification. Besides the namespaces depending on the namespace and on its owning namespace, the namespaces
+     * nested in the given one are dropped from the cache, so that the cache does not retain the deleted namespaces.
+     *
+     * @param namespace
+     *            the {@link Namespace} being moved.
+     */
+    public static void containerChanged(Namespace namespace) {
+        MembershipCache cache = getCache(namespace, false);
+        if (cache != null) {
+            cache.invalidate(namespace);
+            cache.invalidateContents(namespace);
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == MembershipCache.class;
+    }
+
+    private static MembershipCache getCache(EObject eObject, boolean create) {
+        MembershipCache cache = null;
+        Resource resource = null;
+        if (eObject != null) {
+            resource = eObject.eResource();
+        }
+        if (resource != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            if (resourceSet != null) {
+                synchronized (resourceSet) {
+                    cache = (MembershipCache) EcoreUtil.getExistingAdapter(resourceSet, MembershipCache.class);
+                    if (cache == null && create) {
+                        cache = new MembershipCache();
+                        resourceSet.eAdapters().add(cache);
+                    }
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static Membership[] getOrCompute(Namespace namespace, int kind, MembershipsComputation computation) {
+        Membership[] result;
+        MembershipCache cache = getCache(namespace, true);
+        if (cache != null) {
+            result = cache.get(namespace, kind);
+            if (result == null) {
+                Set<Namespace> dependencies = new HashSet<>();
+                dependencies.add(namespace);
+                result = computation.compute(dependencies).toArray(NO_MEMBERSHIPS);
+                cache.put(namespace, kind, result, dependencies);
+            }
+        } else {
+            result = computation.compute(new HashSet<>()).toArray(NO_MEMBERSHIPS);
+        }
+        return result;
+    }
+
+    /**
+     * Get the namespace owning the given object, i.e. the closest namespace containing it.
+     */
+    private static Namespace getOwningNamespace(EObject eObject) {
+        EObject container = eObject.eContainer();
+        while (container != null && !(container instanceof Namespace)) {
+            container = container.eContainer();
+        }
+        return (Namespace) container;
+    }
+
+    private static void addImportedMemberships(Namespace namespace, Set<Namespace> excluded, Set<Membership> memberships, Set<Namespace> dependencies) {
+        dependencies.add(namespace);
+        Set<Namespace> excludedAndSelf = new HashSet<>(excluded);
+        excludedAndSelf.add(namespace);
+        for (Import imprt : namespace.getOwnedImport()) {
+            addImportedMemberships(imprt, excludedAndSelf, memberships, dependencies);
+        }
+    }
+
+    private static void addImportedMemberships(Import imprt, Set<Namespace> excluded, Set<Membership> memberships, Set<Namespace> dependencies) {
+        if (imprt instanceof NamespaceImport namespaceImport) {
+            Namespace importedNamespace = namespaceImport.getImportedNamespace();
+            if (importedNamespace != null && !excluded.contains(importedNamespace)) {
+                addVisibleMemberships(importedNamespace, excluded, imprt.isIsRecursive(), imprt.isIsImportAll(), memberships, dependencies);
+            }
+        } else if (imprt instanceof MembershipImport membershipImport) {
+            Membership importedMembership = membershipImport.getImportedMembership();
+            if (importedMembership != null) {
+                memberships.add(importedMembership);
+                if (imprt.isIsRecursive()) {
+                    // The member element of the imported membership is changed through the namespace owning it
+                    Namespace owningNamespace = getOwningNamespace(importedMembership);
+                    if (owningNamespace != null) {
+                        dependencies.add(owningNamespace);
+                    }
+                    if (importedMembership.getMemberElement() instanceof Namespace namespace && !excluded.contains(namespace)) {
+                        addVisibleMemberships(namespace, excluded, true, imprt.isIsImportAll(), memberships, dependencies);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addVisibleMemberships(Namespace namespace, Set<Namespace> excluded, boolean isRecursive, boolean includeAll, Set<Membership> memberships,
+            Set<Namespace> dependencies) {
+        dependencies.add(namespace);
+        List<Membership> visibleMemberships = new ArrayList<>();
+        for (Membership membership : namespace.getOwnedMembership()) {
+            if (includeAll || membership.getVisibility() == VisibilityKind.PUBLIC) {
+                visibleMemberships.add(membership);
+            }
+        }
+        Set<Namespace> excludedAndSelf = new HashSet<>(excluded);
+        excludedAndSelf.add(namespace);
+        for (Import imprt : namespace.getOwnedImport()) {
+            if (includeAll || imprt.getVisibility() == VisibilityKind.PUBLIC) {
+                Set<Membership> importedMemberships = new LinkedHashSet<>();
+                addImportedMemberships(imprt, excludedAndSelf, importedMemberships, dependencies);
+                visibleMemberships.addAll(importedMemberships);
+            }
+        }
+        if (namespace instanceof Type type) {
+            // The inherited memberships depend on the memberships and the specializations of all the supertypes
+            dependencies.addAll(SpecializationIndex.allSupertypes(type));
+            for (Membership membership : SpecializationIndex.inheritedMemberships(type, List.of())) {
+                if (includeAll || membership.getVisibility() == VisibilityKind.PUBLIC) {
+                    visibleMemberships.add(membership);
+                }
+            }
+        }
+        memberships.addAll(visibleMemberships);
+        if (isRecursive) {
+            for (Membership membership : visibleMemberships) {
+                if (membership instanceof OwningMembership) {
+                    // The owned member element of an owning membership is its owned related element
+                    for (Element ownedRelatedElement : membership.getOwnedRelatedElement()) {
+                        if (ownedRelatedElement instanceof Namespace nestedNamespace && !excludedAndSelf.contains(nestedNamespace)) {
+                            addVisibleMemberships(nestedNamespace, excludedAndSelf, true, includeAll, memberships, dependencies);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized Membership[] get(Namespace namespace, int kind) {
+        Membership[] result = null;
+        Membership[][] namespaceMemberships = this.memberships.get(namespace);
+        if (namespaceMemberships != null) {
+            result = namespaceMemberships[kind];
+        }
+        return result;
+    }
+
+    private synchronized void put(Namespace namespace, int kind, Membership[] result, Set<Namespace> namespaceDependencies) {
+        this.memberships.computeIfAbsent(namespace, key -> new Membership[KINDS][])[kind] = result;
+        this.dependencies.computeIfAbsent(namespace, key -> new HashSet<>()).addAll(namespaceDependencies);
+        for (Namespace dependency : namespaceDependencies) {
+            this.dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(namespace);
+        }
+    }
+
+    private synchronized void invalidate(EObject eObject) {
+        if (eObject instanceof Namespace namespace) {
+            this.invalidateDependents(namespace);
+        }
+        Namespace owningNamespace = getOwningNamespace(eObject);
+        if (owningNamespace != null) {
+            this.invalidateDependents(owningNamespace);
+        }
+    }
+
+    private synchronized void invalidateContents(Namespace namespace) {
+        if (!this.memberships.isEmpty()) {
+            namespace.eAllContents().forEachRemaining(eObject -> {
+                if (eObject instanceof Namespace nestedNamespace) {
+                    this.remove(nestedNamespace);
+                }
+            });
+        }
+    }
+
+    private void invalidateDependents(Namespace namespace) {
+        Set<Namespace> namespaceDependents = this.dependents.get(namespace);
+        if (namespaceDependents != null) {
+            for (Namespace dependent : List.copyOf(namespaceDependents)) {
+                this.remove(dependent);
+            }
+        }
+    }
+
+    private void remove(Namespace namespace) {
+        this.memberships.remove(namespace);
+        Set<Namespace> namespaceDependencies = this.dependencies.remove(namespace);
+        if (namespaceDependencies != null) {
+            for (Namespace dependency : namespaceDependencies) {
+                Set<Namespace> dependencyDependents = this.dependents.get(dependency);
+                if (dependencyDependents != null) {
+                    dependencyDependents.remove(namespace);
+                    if (dependencyDependents.isEmpty()) {
+                        this.dependents.remove(dependency);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The computation of the memberships of a namespace, called on a cache miss, which records the namespaces it
+     * reads in the given dependencies.
+     *
+     * @author arichard
+     */
+    @FunctionalInterface
+    private interface MembershipsComputation {
+        Set<Membership> compute(Set<Namespace> dependencies);
+    }
+}
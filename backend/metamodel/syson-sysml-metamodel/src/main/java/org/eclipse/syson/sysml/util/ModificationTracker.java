@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.SysmlPackage;
+
+/**
+ * Tracks the modifications of the elements of a {@link ResourceSet} (i.e. of an editing context), so that the values
+ * computed from an element (labels, compartment contents...) can be reused as long as the element has not been
+ * modified.
+ * <p>
+ * Each change increments the modification count of the tracker. The element notifying the change and all its
+ * containers are marked with the new modification count, since the values computed from an element usually depend on
+ * its contents (typings, multiplicities, values...). The changes of the names of the elements, of the contents of the
+ * resources and of the resources of the {@link ResourceSet} may impact the values computed from any other element
+ * (e.g. the label of a usage shows the name of its type): they mark all the elements as modified. The other changes
+ * of the resources (e.g. their modified flag, toggled when they are saved) are ignored.
+ * </p>
+ * <p>
+ * The resources of the standard libraries are not tracked: they are not modified by the users and tracking their
+ * hundreds of thousands of elements would only cost memory.
+ * </p>
+ * <p>
+ * The caches of the values computed from the elements can be notified of the elements detached from the
+ * {@link ResourceSet} (deleted, moved or unloaded), so that they drop the values of these elements.
+ * </p>
+ *
+ * @author arichard
+ */
+public class ModificationTracker extends EContentAdapter {
+
+    private static final Set<String> LIBRARY_URI_SCHEMES = Set.of("kermllibrary", "sysmllibrary");
+
+    private final Map<EObject, Long> modificationCounts = new WeakHashMap<>();
+
+    private long modificationCount;
+
+    private long globalModificationCount;
+
+    private final List<Consumer<EObject>> detachListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Get the tracker of the given {@link ResourceSet}, installing it if needed. Only the modifications made after the
+     * installation of the tracker are tracked, all the elements being considered as modified before.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the tracker of the given {@link ResourceSet}.
+     */
+    public static ModificationTracker get(ResourceSet resourceSet) {
+        synchronized (resourceSet) {
+            ModificationTracker tracker = (ModificationTracker) EcoreUtil.getExistingAdapter(resourceSet, ModificationTracker.class);
+            if (tracker == null) {
+                tracker = new ModificationTracker();
+                resourceSet.eAdapters().add(tracker);
+            }
+            return tracker;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ModificationTracker.class;
+    }
+
+    /**
+     * Get the current modification count, to be compared later with the modification count of an element.
+     *
+     * @return the current modification count.
+     */
+    public synchronized long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Check whether the given element may have been modified since the given modification count.
+     *
+     * @param eObject
+     *            the given element.
+     * @param since
+     *            a modification count previously returned by {@link #getModificationCount()}.
+     * @return <code>true</code> if the element, its contents or the names of the elements have been modified since the
+     *         given modification count, <code>false</code> otherwise.
+     */
+    public synchronized boolean isModifiedSince(EObject eObject, long since) {
+        return this.globalModificationCount > since || this.modificationCounts.getOrDefault(eObject, 0L) > since;
+    }
+
+    /**
+     * Add a listener notified with each element detached from the {@link ResourceSet}, i.e. each element of a subtree
+     * removed from its container, from its resource or with its resource. A moved element is detached from its former
+     * container before being attached to its new one.
+     *
+     * @param listener
+     *            the listener to add.
+     */
+    public void addDetachListener(Consumer<EObject> listener) {
+        this.detachListeners.add(listener);
+    }
+
+    @Override
+    protected void addAdapter(Notifier notifier) {
+        if (!(notifier instanceof Resource resource && isLibrary(resource))) {
+            super.addAdapter(notifier);
+        }
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            Object feature = notification.getFeature();
+            synchronized (this) {
+                if (notifier instanceof EObject eObject && feature != SysmlPackage.eINSTANCE.getElement_DeclaredName() && feature != SysmlPackage.eINSTANCE.getElement_DeclaredShortName()) {
+                    this.modificationCount++;
+                    EObject current = eObject;
+                    while (current != null) {
+                        this.modificationCounts.put(current, this.modificationCount);
+                        current = current.eContainer();
+                    }
+                } else if (notifier instanceof EObject || isContentsChange(notification)) {
+                    this.modificationCount++;
+                    this.globalModificationCount = this.modificationCount;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        for (Consumer<EObject> listener : this.detachListeners) {
+            listener.accept(target);
+        }
+    }
+
+    /**
+     * Check whether the given notification changes the contents of a resource or the resources of the
+     * {@link ResourceSet}. The other changes of the resources (e.g. their modified or loaded flags) do not impact the
+     * values computed from the elements.
+     */
+    private static boolean isContentsChange(Notification notification) {
+        return notification.getNotifier() instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS
+                || notification.getNotifier() instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+    }
+
+    private static boolean isLibrary(Resource resource) {
+        return resource.getURI() != null && LIBRARY_URI_SCHEMES.contains(resource.getURI().scheme());
+    }
+}
@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureChaining;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Relationship;
+
+/**
+ * Connectivity graph of the {@link PortUsage}s of a {@link ResourceSet} (i.e. of an editing context) through the
+ * {@link BindingConnectorAsUsage}s.
+ * <p>
+ * The index is attached to the {@link ResourceSet} and built the first time it is queried. It keeps the source and
+ * target ports of each binding connector, i.e. the features referenced by its first and last ends (or the targets of
+ * these features when they are feature chains, see {@link FeatureChains}), and for each port the binding connectors
+ * it is connected to. It is then kept up to date incrementally: a binding connector is computed again when one of its
+ * ends is added or removed, when the referenced feature of the {@link ReferenceSubsetting} of one of its ends changes
+ * or when the chaining feature of one of its {@link FeatureChaining} changes, and the binding connectors are added to
+ * or removed from the graph with their containers.
+ * </p>
+ *
+ * @author arichard
+ */
+public class PortConnectivityIndex extends AdapterImpl {
+
+    private static final PortUsage[] NO_ENDS = new PortUsage[2];
+
+    private final Map<BindingConnectorAsUsage, PortUsage[]> ends = new LinkedHashMap<>();
+
+    private final Map<PortUsage, List<BindingConnectorAsUsage>> connectors = new HashMap<>();
+
+    private final Set<BindingConnectorAsUsage> outdatedConnectors = new LinkedHashSet<>();
+
+    private int modificationCount;
+
+    /**
+     * Get the binding connectors of the given {@link ResourceSet}.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the binding connectors of the given {@link ResourceSet}.
+     */
+    public static List<BindingConnectorAsUsage> getBindingConnectors(ResourceSet resourceSet) {
+        List<BindingConnectorAsUsage> bindingConnectors = List.of();
+        if (resourceSet != null) {
+            bindingConnectors = getIndex(resourceSet, true).getBindingConnectors();
+        }
+        return bindingConnectors;
+    }
+
+    /**
+     * Get the binding connectors connected to the given port.
+     *
+     * @param port
+     *            the given {@link PortUsage}.
+     * @return the binding connectors whose source or target is the given port.
+     */
+    public static List<BindingConnectorAsUsage> getBindingConnectors(PortUsage port) {
+        List<BindingConnectorAsUsage> bindingConnectors = List.of();
+        PortConnectivityIndex index = getIndex(port, true);
+        if (index != null) {
+            bindingConnectors = index.getConnectors(port);
+        }
+        return bindingConnectors;
+    }
+
+    /**
+     * Get the ports connected to the given port by a binding connector.
+     *
+     * @param port
+     *            the given {@link PortUsage}.
+     * @return the opposite ports of the binding connectors connected to the given port.
+     */
+    public static List<PortUsage> getConnectedPorts(PortUsage port) {
+        List<PortUsage> connectedPorts = List.of();
+        PortConnectivityIndex index = getIndex(port, true);
+        if (index != null) {
+            connectedPorts = index.computeConnectedPorts(port);
+        }
+        return connectedPorts;
+    }
+
+    /**
+     * Get the number of modifications of the elements of the given {@link ResourceSet} which may have changed its
+     * connectivity graph, so that the results computed from the graph can be reused as long as it does not change.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the number of modifications of the connectivity graph of the given {@link ResourceSet}.
+     */
+    public static int getModificationCount(ResourceSet resourceSet) {
+        int modificationCount = 0;
+        if (resourceSet != null) {
+            modificationCount = getIndex(resourceSet, true).getModificationCount();
+        }
+        return modificationCount;
+    }
+
+    /**
+     * Get the source port of the given binding connector.
+     *
+     * @param bindingConnector
+     *            the given {@link BindingConnectorAsUsage}.
+     * @return the source port of the given binding connector, or <code>null</code> if there is none.
+     */
+    public static PortUsage getSourcePort(BindingConnectorAsUsage bindingConnector) {
+        return getEnds(bindingConnector)[0];
+    }
+
+    /**
+     * Get the target port of the given binding connector.
+     *
+     * @param bindingConnector
+     *            the given {@link BindingConnectorAsUsage}.
+     * @return the target port of the given binding connector, or <code>null</code> if there is none.
+     */
+    public static PortUsage getTargetPort(BindingConnectorAsUsage bindingConnector) {
+        return getEnds(bindingConnector)[1];
+    }
+
+    /**
+     * Update the index of the {@link ResourceSet} containing the given relationship after the feature it references
+     * has changed, i.e. the referenced feature of a {@link ReferenceSubsetting}.
+     *
+     * @param relationship
+     *            the given {@link Relationship}.
+     */
+    public static void referenceChanged(Relationship relationship) {
+        PortConnectivityIndex index = getIndex(relationship, false);
+        if (index != null) {
+            index.outdate(getBindingConnector(relationship));
+        }
+    }
+
+    /**
+     * Update the index of the {@link ResourceSet} containing the given {@link FeatureChaining} after it has been added,
+     * removed or has changed its chaining feature. The ends of any binding connector may reference a chain going
+     * through the modified feature (see {@link FeatureChains#getChainTarget(Feature)}), all the binding connectors
+     * are thus outdated. When the {@link FeatureChaining} is added or removed, this method must be called before and
+     * after the modification, so that both the previous and the new {@link ResourceSet} of the {@link FeatureChaining}
+     * are updated.
+     *
+     * @param featureChaining
+     *            the given {@link FeatureChaining}.
+     */
+    public static void chainChanged(FeatureChaining featureChaining) {
+        PortConnectivityIndex index = getIndex(featureChaining, false);
+        if (index != null) {
+            index.outdateAll();
+        }
+    }
+
+    /**
+     * Update this index before the given element of its {@link ResourceSet} is removed from its container or
+     * resource.
+     *
+     * @param element
+     *            the given {@link Element}.
+     */
+    public void detached(Element element) {
+        this.removeAll(element);
+        this.outdate(getBindingConnector(element.eContainer()));
+    }
+
+    /**
+     * Update this index after the given element has been added to a container or resource of its
+     * {@link ResourceSet}.
+     *
+     * @param element
+     *            the given {@link Element}.
+     */
+    public void attached(Element element) {
+        this.addAll(element);
+        this.outdate(getBindingConnector(element.eContainer()));
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == PortConnectivityIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification msg) {
+        if (msg.getNotifier() instanceof ResourceSet && msg.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            switch (msg.getEventType()) {
+                case Notification.ADD -> this.addResource(msg.getNewValue());
+                case Notification.ADD_MANY -> ((Iterable<?>) msg.getNewValue()).forEach(this::addResource);
+                case Notification.REMOVE -> this.removeResource(msg.getOldValue());
+                case Notification.REMOVE_MANY -> ((Iterable<?>) msg.getOldValue()).forEach(this::removeResource);
+                default -> {
+                    // The other changes of the resources do not change their contents
+                }
+            }
+        }
+    }
+
+    private static PortUsage[] getEnds(BindingConnectorAsUsage bindingConnector) {
+        PortUsage[] connectorEnds;
+        PortConnectivityIndex index = getIndex(bindingConnector, true);
+        if (index != null) {
+            connectorEnds = index.getIndexedEnds(bindingConnector);
+        } else {
+            connectorEnds = computeEnds(bindingConnector);
+        }
+        return connectorEnds;
+    }
+
+    private static PortConnectivityIndex getIndex(EObject eObject, boolean create) {
+        PortConnectivityIndex index = null;
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            index = getIndex(resource.getResourceSet(), create);
+        }
+        return index;
+    }
+
+    private static PortConnectivityIndex getIndex(ResourceSet resourceSet, boolean create) {
+        PortConnectivityIndex index = null;
+        boolean created = false;
+        synchronized (resourceSet) {
+            index = (PortConnectivityIndex) EcoreUtil.getExistingAdapter(resourceSet, PortConnectivityIndex.class);
+            if (index == null && create) {
+                index = new PortConnectivityIndex();
+                resourceSet.eAdapters().add(index);
+                created = true;
+            }
+        }
+        if (created) {
+            IndexRegistry.register(resourceSet, index);
+            for (Resource resource : resourceSet.getResources()) {
+                index.addResource(resource);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the binding connector whose ends contain the given element (see {@link ConnectorEnds#getConnector(EObject)}).
+     */
+    private static BindingConnectorAsUsage getBindingConnector(EObject element) {
+        BindingConnectorAsUsage bindingConnector = null;
+        if (ConnectorEnds.getConnector(element) instanceof BindingConnectorAsUsage bindingConnectorAsUsage) {
+            bindingConnector = bindingConnectorAsUsage;
+        }
+        return bindingConnector;
+    }
+
+    private static PortUsage[] computeEnds(BindingConnectorAsUsage bindingConnector) {
+        Feature[] connectorEnds = ConnectorEnds.getConnectorEnds(bindingConnector);
+        PortUsage[] ports = NO_ENDS;
+        if (connectorEnds.length > 0) {
+            ports = new PortUsage[] { computePort(connectorEnds[0]), computePort(connectorEnds[connectorEnds.length - 1]) };
+        }
+        return ports;
+    }
+
+    private static PortUsage computePort(Feature connectorEnd) {
+        PortUsage port = null;
+        Feature referencedFeature = null;
+        ReferenceSubsetting referenceSubsetting = connectorEnd.getOwnedReferenceSubsetting();
+        if (referenceSubsetting != null) {
+            referencedFeature = referenceSubsetting.getReferencedFeature();
+        }
+        if (FeatureChains.getChainTarget(referencedFeature) instanceof PortUsage portUsage) {
+            port = portUsage;
+        }
+        return port;
+    }
+
+    private synchronized List<BindingConnectorAsUsage> getBindingConnectors() {
+        this.update();
+        return List.copyOf(this.ends.keySet());
+    }
+
+    private synchronized List<BindingConnectorAsUsage> getConnectors(PortUsage port) {
+        this.update();
+        return List.copyOf(this.connectors.getOrDefault(port, List.of()));
+    }
+
+    private synchronized List<PortUsage> computeConnectedPorts(PortUsage port) {
+        this.update();
+        List<PortUsage> connectedPorts = new ArrayList<>();
+        for (BindingConnectorAsUsage bindingConnector : this.connectors.getOrDefault(port, List.of())) {
+            PortUsage[] connectorEnds = this.ends.get(bindingConnector);
+            PortUsage connectedPort = connectorEnds[0] == port ? connectorEnds[1] : connectorEnds[0];
+            if (connectedPort != null && !connectedPorts.contains(connectedPort)) {
+                connectedPorts.add(connectedPort);
+            }
+        }
+        return connectedPorts;
+    }
+
+    private synchronized PortUsage[] getIndexedEnds(BindingConnectorAsUsage bindingConnector) {
+        this.update();
+        return this.ends.getOrDefault(bindingConnector, NO_ENDS);
+    }
+
+    private synchronized int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    private synchronized void outdate(BindingConnectorAsUsage bindingConnector) {
+        this.modificationCount++;
+        if (bindingConnector != null && this.ends.containsKey(bindingConnector)) {
+            this.outdatedConnectors.add(bindingConnector);
+        }
+    }
+
+    private synchronized void outdateAll() {
+        this.modificationCount++;
+        this.outdatedConnectors.addAll(this.ends.keySet());
+    }
+
+    /**
+     * Compute again the ends of the outdated binding connectors.
+     */
+    private void update() {
+        if (!this.outdatedConnectors.isEmpty()) {
+            for (BindingConnectorAsUsage bindingConnector : this.outdatedConnectors) {
+                if (this.ends.containsKey(bindingConnector)) {
+                    this.unlink(bindingConnector);
+                    this.link(bindingConnector);
+                }
+            }
+            this.outdatedConnectors.clear();
+        }
+    }
+
+    private void link(BindingConnectorAsUsage bindingConnector) {
+        PortUsage[] connectorEnds = computeEnds(bindingConnector);
+        this.ends.put(bindingConnector, connectorEnds);
+        for (PortUsage port : connectorEnds) {
+            if (port != null) {
+                List<BindingConnectorAsUsage> portConnectors = this.connectors.computeIfAbsent(port, key -> new ArrayList<>(1));
+                if (!portConnectors.contains(bindingConnector)) {
+                    portConnectors.add(bindingConnector);
+                }
+            }
+        }
+    }
+
+    private void unlink(BindingConnectorAsUsage bindingConnector) {
+        PortUsage[] connectorEnds = this.ends.get(bindingConnector);
+        if (connectorEnds != null) {
+            for (PortUsage port : connectorEnds) {
+                List<BindingConnectorAsUsage> portConnectors = this.connectors.get(port);
+                if (portConnectors != null) {
+                    portConnectors.remove(bindingConnector);
+                    if (portConnectors.isEmpty()) {
+                        this.connectors.remove(port);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addResource(Object resource) {
+        if (resource instanceof Resource emfResource) {
+            this.outdate(null);
+            for (EObject root : emfResource.getContents()) {
+                this.addAll(root);
+            }
+        }
+    }
+
+    private void removeResource(Object resource) {
+        if (resource instanceof Resource emfResource) {
+            this.outdate(null);
+            for (EObject root : emfResource.getContents()) {
+                this.removeAll(root);
+            }
+        }
+    }
+
+    private synchronized void addAll(EObject root) {
+        if (root instanceof BindingConnectorAsUsage bindingConnector) {
+            this.add(bindingConnector);
+        }
+        Iterator<EObject> iterator = root.eAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof BindingConnectorAsUsage bindingConnector) {
+                this.add(bindingConnector);
+            }
+        }
+    }
+
+    private synchronized void removeAll(EObject root) {
+        if (root instanceof BindingConnectorAsUsage bindingConnector) {
+            this.remove(bindingConnector);
+        }
+        Iterator<EObject> iterator = root.eAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof BindingConnectorAsUsage bindingConnector) {
+                this.remove(bindingConnector);
+            }
+        }
+    }
+
+    private void add(BindingConnectorAsUsage bindingConnector) {
+        this.unlink(bindingConnector);
+        this.ends.put(bindingConnector, NO_ENDS);
+        this.outdatedConnectors.add(bindingConnector);
+    }
+
+    private void remove(BindingConnectorAsUsage bindingConnector) {
+        this.unlink(bindingConnector);
+        this.ends.remove(bindingConnector);
+        this.outdatedConnectors.remove(bindingConnector);
+    }
+}
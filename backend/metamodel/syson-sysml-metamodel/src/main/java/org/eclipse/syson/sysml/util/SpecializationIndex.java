@@ -0,0 +1,531 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Conjugation;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Redefinition;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.Specialization;
+import org.eclipse.syson.sysml.Subclassification;
+import org.eclipse.syson.sysml.Subsetting;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.VisibilityKind;
+
+/**
+ * Closure of the specialization hierarchy of the {@link Type}s of a {@link ResourceSet}.
+ * <p>
+ * The index is attached to the {@link ResourceSet} and follows the {@link Specialization} (i.e. Subclassification,
+ * FeatureTyping, Subsetting, ReferenceSubsetting and Redefinition) and {@link Conjugation} relationships owned by the
+ * types. Each type reached gets a dense number, and the strict supertypes of a type are memoized as a {@link BitSet}
+ * of those numbers the first time they are requested. A memoized closure is dropped as soon as a specialization
+ * relationship of one of the types it contains is added, removed or modified.
+ * </p>
+ * <p>
+ * The memberships inherited by a type are memoized alongside its supertypes, and built from the memoized inherited
+ * memberships of its direct supertypes so that the common ancestors (such as <code>Base::Anything</code>) are only
+ * walked once. The memberships of the features redefined by the features owned by a type are not inherited by this
+ * type, nor by its subtypes. The inherited memberships are dropped with the supertypes of the type, or as soon as a
+ * membership of one of these supertypes is added, removed or changes its visibility, or as soon as a
+ * {@link Redefinition} of one of their owned features changes.
+ * </p>
+ * <p>
+ * The types removed from the {@link ResourceSet} are pruned from the index (see {@link #detached(EObject)}), and their
+ * numbers are reused by the types reached later.
+ * </p>
+ *
+ * @author arichard
+ */
+public class SpecializationIndex extends AdapterImpl {
+
+    private static final Object INDEX_LOCK = new Object();
+
+    private final Object lock = new Object();
+
+    private final Map<Type, Integer> numbers = new HashMap<>();
+
+    private final List<Type> types = new ArrayList<>();
+
+    private final Deque<Integer> freeNumbers = new ArrayDeque<>();
+
+    private final Map<Type, BitSet> supertypes = new HashMap<>();
+
+    private final Map<Type, List<Membership>> inheritedMemberships = new HashMap<>();
+
+    /**
+     * Get all the supertypes of the given type, the given type included.
+     *
+     * @param type
+     *            the given {@link Type}.
+     * @return the given type followed by all its direct and indirect supertypes.
+     */
+    public static List<Type> allSupertypes(Type type) {
+        List<Type> allSupertypes;
+        SpecializationIndex index = getIndex(type, true);
+        if (index != null) {
+            allSupertypes = index.getAllSupertypes(type);
+        } else {
+            allSupertypes = new SpecializationIndex().getAllSupertypes(type);
+        }
+        return allSupertypes;
+    }
+
+    /**
+     * Check whether the given type specializes, directly or indirectly, the given supertype. A type always specializes
+     * itself.
+     *
+     * @param type
+     *            the given {@link Type}.
+     * @param supertype
+     *            the potential supertype.
+     * @return <code>true</code> if the given type specializes the given supertype, <code>false</code> otherwise.
+     */
+    public static boolean specializes(Type type, Type supertype) {
+        boolean specializes = false;
+        if (type != null && supertype != null) {
+            if (type == supertype) {
+                specializes = true;
+            } else {
+                SpecializationIndex index = getIndex(type, true);
+                if (index != null) {
+                    specializes = index.isSupertype(type, supertype);
+                } else {
+                    specializes = new SpecializationIndex().isSupertype(type, supertype);
+                }
+            }
+        }
+        return specializes;
+    }
+
+    /**
+     * Get the memberships inherited by the given type from its supertypes, i.e. the non private memberships owned by
+     * its direct and indirect supertypes, without the ones of the features redefined by the type or by one of these
+     * supertypes.
+     *
+     * @param type
+     *            the given {@link Type}.
+     * @param excluded
+     *            the types whose memberships must not be inherited, neither directly nor through their supertypes.
+     * @return the memberships inherited by the given type.
+     */
+    public static List<Membership> inheritedMemberships(Type type, Collection<Type> excluded) {
+        List<Membership> inheritedMemberships;
+        SpecializationIndex index = null;
+        if (excluded.isEmpty()) {
+            index = getIndex(type, true);
+        }
+        if (index != null) {
+            inheritedMemberships = index.getInheritedMemberships(type);
+        } else {
+            inheritedMemberships = new SpecializationIndex().computeInheritedMemberships(type, new HashSet<>(excluded));
+        }
+        return inheritedMemberships;
+    }
+
+    /**
+     * Notify the index of the {@link ResourceSet} containing the given membership that the membership is about to be
+     * added to or removed from its namespace, or that its visibility changes. This method must be called before and
+     * after the modification.
+     *
+     * @param membership
+     *            the {@link Membership} being modified.
+     */
+    public static void membershipChanged(Membership membership) {
+        if (membership != null && membership.getOwningRelatedElement() instanceof Type type) {
+            SpecializationIndex index = getIndex(type, false);
+            if (index != null) {
+                index.invalidateInheritedMemberships(type);
+            }
+        }
+    }
+
+    /**
+     * Notify the index of the {@link ResourceSet} containing the given relationship that the relationship is about to
+     * change or has just changed. This method must be called before and after any modification of the specific and
+     * general ends of a {@link Specialization} or {@link Conjugation}, and of its container.
+     *
+     * @param relationship
+     *            the {@link Specialization} or the {@link Conjugation} being modified.
+     */
+    public static void specializationChanged(Relationship relationship) {
+        Type specific = getSpecific(relationship);
+        if (specific != null) {
+            // The visible memberships of the types include their inherited memberships
+            MembershipCache.changed(specific);
+            SpecializationIndex index = getIndex(specific, false);
+            if (index != null) {
+                index.invalidate(specific);
+            }
+            // The features redefined by an owned feature of a type are not inherited by this type
+            if (relationship instanceof Redefinition && specific.eContainer() instanceof Membership membership
+                    && membership.getOwningRelatedElement() instanceof Type owningType) {
+                MembershipCache.changed(owningType);
+                if (index != null) {
+                    index.invalidateInheritedMemberships(owningType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Prune the types of the given subtree, which has just been removed from the {@link ResourceSet} of this index.
+     *
+     * @param root
+     *            the root of the removed subtree.
+     */
+    public void detached(EObject root) {
+        synchronized (this.lock) {
+            if (!this.numbers.isEmpty()) {
+                this.prune(root);
+                TreeIterator<EObject> iterator = root.eAllContents();
+                while (iterator.hasNext()) {
+                    this.prune(iterator.next());
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SpecializationIndex.class;
+    }
+
+    private static SpecializationIndex getIndex(EObject eObject, boolean create) {
+        SpecializationIndex index = null;
+        Resource resource = eObject.eResource();
+        if (resource != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            if (resourceSet != null) {
+                boolean created = false;
+                synchronized (INDEX_LOCK) {
+                    index = (SpecializationIndex) EcoreUtil.getExistingAdapter(resourceSet, SpecializationIndex.class);
+                    if (index == null && create) {
+                        index = new SpecializationIndex();
+                        resourceSet.eAdapters().add(index);
+                        created = true;
+                    }
+                }
+                if (created) {
+                    IndexRegistry.register(resourceSet, index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Type getSpecific(Relationship relationship) {
+        Type specific = null;
+        if (relationship instanceof Specialization specialization) {
+            specific = specialization.getSpecific();
+        } else if (relationship instanceof Conjugation conjugation) {
+            specific = conjugation.getConjugatedType();
+        }
+        if (specific == null && relationship != null && relationship.getOwningRelatedElement() instanceof Type owningType) {
+            specific = owningType;
+        }
+        return specific;
+    }
+
+    private static Type getGeneral(Relationship relationship) {
+        Type general = null;
+        if (relationship instanceof Specialization specialization) {
+            general = specialization.getGeneral();
+            if (general == null) {
+                if (specialization instanceof Subclassification subclassification) {
+                    general = subclassification.getSuperclassifier();
+                } else if (specialization instanceof FeatureTyping featureTyping) {
+                    general = featureTyping.getType();
+                } else if (specialization instanceof Redefinition redefinition) {
+                    general = redefinition.getRedefinedFeature();
+                } else if (specialization instanceof ReferenceSubsetting referenceSubsetting) {
+                    general = referenceSubsetting.getReferencedFeature();
+                } else if (specialization instanceof Subsetting subsetting) {
+                    general = subsetting.getSubsettedFeature();
+                }
+            }
+        } else if (relationship instanceof Conjugation conjugation) {
+            general = conjugation.getOriginalType();
+        }
+        return general;
+    }
+
+    private List<Type> getAllSupertypes(Type type) {
+        synchronized (this.lock) {
+            BitSet closure = this.getClosure(type);
+            List<Type> allSupertypes = new ArrayList<>(closure.cardinality() + 1);
+            allSupertypes.add(type);
+            for (int number = closure.nextSetBit(0); number >= 0; number = closure.nextSetBit(number + 1)) {
+                allSupertypes.add(this.types.get(number));
+            }
+            return allSupertypes;
+        }
+    }
+
+    private boolean isSupertype(Type type, Type supertype) {
+        synchronized (this.lock) {
+            BitSet closure = this.getClosure(type);
+            Integer number = this.numbers.get(supertype);
+            return number != null && closure.get(number);
+        }
+    }
+
+    private List<Membership> getInheritedMemberships(Type type) {
+        synchronized (this.lock) {
+            return this.getInheritedMemberships(type, new HashSet<>());
+        }
+    }
+
+    private void invalidate(Type specific) {
+        synchronized (this.lock) {
+            Integer number = this.numbers.get(specific);
+            if (number != null) {
+                this.invalidate(specific, number);
+            }
+        }
+    }
+
+    /**
+     * Drop the memos of the given type and of the types whose closure contains it.
+     */
+    private void invalidate(Type type, int number) {
+        this.supertypes.remove(type);
+        this.inheritedMemberships.remove(type);
+        Iterator<Entry<Type, BitSet>> iterator = this.supertypes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Type, BitSet> entry = iterator.next();
+            if (entry.getValue().get(number)) {
+                this.inheritedMemberships.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void invalidateInheritedMemberships(Type type) {
+        synchronized (this.lock) {
+            Integer number = this.numbers.get(type);
+            if (number != null) {
+                this.inheritedMemberships.remove(type);
+                for (Entry<Type, BitSet> entry : this.supertypes.entrySet()) {
+                    if (entry.getValue().get(number)) {
+                        this.inheritedMemberships.remove(entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget the given type if it has been numbered, the closures containing it being dropped so that its number can
+     * be reused.
+     */
+    private void prune(EObject eObject) {
+        if (eObject instanceof Type type) {
+            Integer number = this.numbers.remove(type);
+            if (number != null) {
+                this.invalidate(type, number);
+                this.types.set(number, null);
+                this.freeNumbers.push(number);
+            }
+        }
+    }
+
+    private int getNumber(Type type) {
+        return this.numbers.computeIfAbsent(type, key -> {
+            int number;
+            if (this.freeNumbers.isEmpty()) {
+                number = this.types.size();
+                this.types.add(key);
+            } else {
+                number = this.freeNumbers.pop();
+                this.types.set(number, key);
+            }
+            return number;
+        });
+    }
+
+    /**
+     * Get the memoized inherited memberships of the given type, or compute them from the ones of its direct
+     * supertypes. The types in progress are skipped so that a cycle in the hierarchy does not prevent the computation
+     * from ending, the result of a type in a cycle is then not memoized since it may be incomplete.
+     */
+    private List<Membership> getInheritedMemberships(Type type, Set<Type> inProgress) {
+        List<Membership> memberships = this.inheritedMemberships.get(type);
+        if (memberships == null) {
+            // The memo of the inherited memberships relies on the one of the supertypes for its invalidation
+            this.getClosure(type);
+            inProgress.add(type);
+            Set<Membership> inherited = new LinkedHashSet<>();
+            boolean complete = true;
+            for (Type general : getDirectSupertypes(type)) {
+                if (inProgress.contains(general)) {
+                    complete = false;
+                } else {
+                    this.addNonPrivateMemberships(general, inherited);
+                    inherited.addAll(this.getInheritedMemberships(general, inProgress));
+                    complete = complete && this.inheritedMemberships.containsKey(general);
+                }
+            }
+            inProgress.remove(type);
+            removeRedefinedMemberships(type, inherited);
+            memberships = List.copyOf(inherited);
+            if (complete) {
+                this.inheritedMemberships.put(type, memberships);
+            }
+        }
+        return memberships;
+    }
+
+    /**
+     * Compute the inherited memberships of the given type, without the memo, ignoring the excluded types.
+     */
+    private List<Membership> computeInheritedMemberships(Type type, Set<Type> excluded) {
+        Set<Membership> inherited = new LinkedHashSet<>();
+        Set<Feature> redefinedFeatures = new HashSet<>();
+        excluded.add(type);
+        Deque<Type> toVisit = new ArrayDeque<>();
+        toVisit.push(type);
+        while (!toVisit.isEmpty()) {
+            Type current = toVisit.pop();
+            addRedefinedFeatures(current, redefinedFeatures);
+            for (Type general : getDirectSupertypes(current)) {
+                if (excluded.add(general)) {
+                    this.addNonPrivateMemberships(general, inherited);
+                    toVisit.push(general);
+                }
+            }
+        }
+        inherited.removeIf(membership -> isMembershipOf(membership, redefinedFeatures));
+        return List.copyOf(inherited);
+    }
+
+    /**
+     * Remove from the given memberships the ones of the features redefined by the features owned by the given type.
+     */
+    private static void removeRedefinedMemberships(Type type, Set<Membership> memberships) {
+        Set<Feature> redefinedFeatures = new HashSet<>();
+        addRedefinedFeatures(type, redefinedFeatures);
+        if (!redefinedFeatures.isEmpty()) {
+            memberships.removeIf(membership -> isMembershipOf(membership, redefinedFeatures));
+        }
+    }
+
+    /**
+     * Check whether the member of the given membership is one of the given features. The member of an
+     * {@link org.eclipse.syson.sysml.OwningMembership} is its owned related element, the other memberships reference
+     * it.
+     */
+    private static boolean isMembershipOf(Membership membership, Set<Feature> features) {
+        boolean isMembershipOf = features.contains(membership.getMemberElement());
+        for (Element ownedRelatedElement : membership.getOwnedRelatedElement()) {
+            isMembershipOf = isMembershipOf || features.contains(ownedRelatedElement);
+        }
+        return isMembershipOf;
+    }
+
+    private static void addRedefinedFeatures(Type type, Set<Feature> redefinedFeatures) {
+        for (Relationship relationship : type.getOwnedRelationship()) {
+            if (relationship instanceof Membership) {
+                for (Element ownedRelatedElement : relationship.getOwnedRelatedElement()) {
+                    if (ownedRelatedElement instanceof Feature feature) {
+                        for (Relationship featureRelationship : feature.getOwnedRelationship()) {
+                            if (featureRelationship instanceof Redefinition redefinition && redefinition.getRedefinedFeature() != null) {
+                                redefinedFeatures.add(redefinition.getRedefinedFeature());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void addNonPrivateMemberships(Type type, Set<Membership> memberships) {
+        for (Membership membership : type.getOwnedMembership()) {
+            if (membership.getVisibility() != VisibilityKind.PRIVATE) {
+                memberships.add(membership);
+            }
+        }
+    }
+
+    private static List<Type> getDirectSupertypes(Type type) {
+        List<Type> directSupertypes = new ArrayList<>();
+        for (Relationship relationship : type.getOwnedRelationship()) {
+            if ((relationship instanceof Specialization || relationship instanceof Conjugation) && type == getSpecific(relationship)) {
+                Type general = getGeneral(relationship);
+                if (general != null) {
+                    directSupertypes.add(general);
+                }
+            }
+        }
+        return directSupertypes;
+    }
+
+    /**
+     * Compute (or get the memoized) strict supertypes of the given type. The memoized closures of the supertypes
+     * encountered are reused, and the visited types are tracked so that a cycle in the hierarchy does not prevent the
+     * computation from ending.
+     */
+    private BitSet getClosure(Type type) {
+        BitSet closure = this.supertypes.get(type);
+        if (closure == null) {
+            closure = new BitSet();
+            BitSet visited = new BitSet();
+            visited.set(this.getNumber(type));
+            Deque<Type> toVisit = new ArrayDeque<>();
+            toVisit.push(type);
+            while (!toVisit.isEmpty()) {
+                Type current = toVisit.pop();
+                for (Type general : getDirectSupertypes(current)) {
+                    int number = this.getNumber(general);
+                    closure.set(number);
+                    if (!visited.get(number)) {
+                        visited.set(number);
+                        BitSet generalClosure = this.supertypes.get(general);
+                        if (generalClosure != null) {
+                            closure.or(generalClosure);
+                            visited.or(generalClosure);
+                        } else {
+                            toVisit.push(general);
+                        }
+                    }
+                }
+            }
+            closure.clear(this.getNumber(type));
+            this.supertypes.put(type, closure);
+        }
+        return closure;
+    }
+}
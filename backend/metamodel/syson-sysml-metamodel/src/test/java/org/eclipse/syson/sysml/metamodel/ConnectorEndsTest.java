@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.Connector;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.ReferenceUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.ConnectorEnds;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConnectorEnds} and the derived ends of the {@link Connector}s.
+ *
+ * @author arichard
+ */
+public class ConnectorEndsTest {
+
+    @Test
+    void testConnectorEnds() {
+        PortUsage port1 = SysmlFactory.eINSTANCE.createPortUsage();
+        PortUsage port2 = SysmlFactory.eINSTANCE.createPortUsage();
+        PortUsage port3 = SysmlFactory.eINSTANCE.createPortUsage();
+        BindingConnectorAsUsage bind = SysmlFactory.eINSTANCE.createBindingConnectorAsUsage();
+        assertEquals(List.of(), bind.getConnectorEnd());
+        assertNull(bind.getSourceFeature());
+        assertEquals(List.of(), bind.getTargetFeature());
+
+        Feature sourceEnd = this.addEnd(bind, port1);
+        Feature targetEnd = this.addEnd(bind, port2);
+        assertEquals(List.of(sourceEnd, targetEnd), bind.getConnectorEnd());
+        assertEquals(List.of(port1, port2), bind.getRelatedFeature());
+        assertEquals(port1, bind.getSourceFeature());
+        assertEquals(List.of(port2), bind.getTargetFeature());
+
+        // The ends are shared until they are modified
+        assertSame(ConnectorEnds.getConnectorEnds(bind), ConnectorEnds.getConnectorEnds(bind));
+        assertSame(ConnectorEnds.getRelatedFeatures(bind), ConnectorEnds.getRelatedFeatures(bind));
+
+        targetEnd.getOwnedReferenceSubsetting().setReferencedFeature(port3);
+        assertEquals(List.of(port3), bind.getTargetFeature());
+
+        sourceEnd.getOwnedRelationship().remove(sourceEnd.getOwnedReferenceSubsetting());
+        assertEquals(List.of(sourceEnd, targetEnd), bind.getConnectorEnd());
+        assertEquals(port3, bind.getSourceFeature());
+        assertEquals(List.of(), bind.getTargetFeature());
+
+        bind.getOwnedRelationship().remove(sourceEnd.getOwningRelationship());
+        assertEquals(List.of(targetEnd), bind.getConnectorEnd());
+    }
+
+    @Test
+    void testConnectorEndsOfConnector() {
+        PortUsage port1 = SysmlFactory.eINSTANCE.createPortUsage();
+        PortUsage port2 = SysmlFactory.eINSTANCE.createPortUsage();
+        Connector connector = SysmlFactory.eINSTANCE.createConnector();
+        this.addEnd(connector, port1);
+        assertEquals(List.of(port1), connector.getRelatedFeature());
+        this.addEnd(connector, port2);
+        assertEquals(port1, connector.getSourceFeature());
+        assertEquals(List.of(port2), connector.getTargetFeature());
+    }
+
+    @Test
+    void testReferenceUsageEnds() {
+        PortUsage port1 = SysmlFactory.eINSTANCE.createPortUsage();
+        PortUsage port2 = SysmlFactory.eINSTANCE.createPortUsage();
+        PortUsage port3 = SysmlFactory.eINSTANCE.createPortUsage();
+        BindingConnectorAsUsage bind = SysmlFactory.eINSTANCE.createBindingConnectorAsUsage();
+        ReferenceUsage sourceEnd = this.addReferenceUsageEnd(bind);
+        ReferenceUsage targetEnd = this.addReferenceUsageEnd(bind);
+        assertEquals(List.of(sourceEnd, targetEnd), bind.getConnectorEnd());
+        assertEquals(List.of(), bind.getRelatedFeature());
+
+        // The relationships added to or removed from the ends clear the cache of the connector
+        ReferenceSubsetting sourceSubsetting = this.addReferenceSubsetting(sourceEnd, port1);
+        this.addReferenceSubsetting(targetEnd, port2);
+        assertEquals(List.of(port1, port2), bind.getRelatedFeature());
+        assertEquals(port1, bind.getSourceFeature());
+        assertEquals(List.of(port2), bind.getTargetFeature());
+
+        targetEnd.getOwnedReferenceSubsetting().setReferencedFeature(port3);
+        assertEquals(List.of(port3), bind.getTargetFeature());
+
+        sourceEnd.getOwnedRelationship().remove(sourceSubsetting);
+        assertEquals(List.of(port3), bind.getRelatedFeature());
+
+        bind.getOwnedRelationship().remove(targetEnd.getOwningRelationship());
+        assertEquals(List.of(sourceEnd), bind.getConnectorEnd());
+        assertEquals(List.of(), bind.getRelatedFeature());
+    }
+
+    private ReferenceUsage addReferenceUsageEnd(Connector connector) {
+        EndFeatureMembership endFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
+        connector.getOwnedRelationship().add(endFeatureMembership);
+        ReferenceUsage referenceUsage = SysmlFactory.eINSTANCE.createReferenceUsage();
+        referenceUsage.setIsEnd(true);
+        endFeatureMembership.getOwnedRelatedElement().add(referenceUsage);
+        // Query the ends before they are complete, so that the cache has to be cleared by the next changes
+        connector.getConnectorEnd();
+        return referenceUsage;
+    }
+
+    private ReferenceSubsetting addReferenceSubsetting(Feature end, Feature referencedFeature) {
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        end.getOwnedRelationship().add(referenceSubsetting);
+        referenceSubsetting.setReferencedFeature(referencedFeature);
+        return referenceSubsetting;
+    }
+
+    private Feature addEnd(Connector connector, Feature referencedFeature) {
+        EndFeatureMembership endFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
+        connector.getOwnedRelationship().add(endFeatureMembership);
+        Feature feature = SysmlFactory.eINSTANCE.createFeature();
+        endFeatureMembership.getOwnedRelatedElement().add(feature);
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        feature.getOwnedRelationship().add(referenceSubsetting);
+        referenceSubsetting.setReferencedFeature(referencedFeature);
+        return feature;
+    }
+}
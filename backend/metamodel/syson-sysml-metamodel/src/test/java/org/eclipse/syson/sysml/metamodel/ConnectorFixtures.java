@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+
+/**
+ * Creation of the parts, ports and binding connectors used by the tests of the connectivity of the ports, shared with
+ * the tests of the other modules through the test jar of this module.
+ *
+ * @author arichard
+ */
+public final class ConnectorFixtures {
+
+    private ConnectorFixtures() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Create a part at the root of a new resource of the given {@link ResourceSet}.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the new part.
+     */
+    public static PartUsage createPart(ResourceSet resourceSet) {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(part);
+        return part;
+    }
+
+    /**
+     * Add a port to the given part.
+     *
+     * @param part
+     *            the given {@link PartUsage}.
+     * @return the new port.
+     */
+    public static PortUsage addPort(PartUsage part) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(featureMembership);
+        PortUsage port = SysmlFactory.eINSTANCE.createPortUsage();
+        featureMembership.getOwnedRelatedElement().add(port);
+        return port;
+    }
+
+    /**
+     * Add a binding connector between the given ports to the given part, one object at a time as done by the creation
+     * services of the diagrams.
+     *
+     * @param part
+     *            the given {@link PartUsage}.
+     * @param source
+     *            the source port.
+     * @param target
+     *            the target port.
+     * @return the new binding connector.
+     */
+    public static BindingConnectorAsUsage addBindingConnector(PartUsage part, PortUsage source, PortUsage target) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(featureMembership);
+        BindingConnectorAsUsage bind = SysmlFactory.eINSTANCE.createBindingConnectorAsUsage();
+        featureMembership.getOwnedRelatedElement().add(bind);
+        for (PortUsage port : List.of(source, target)) {
+            EndFeatureMembership endFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
+            bind.getOwnedRelationship().add(endFeatureMembership);
+            Feature feature = SysmlFactory.eINSTANCE.createFeature();
+            feature.setIsEnd(true);
+            endFeatureMembership.getOwnedRelatedElement().add(feature);
+            ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+            feature.getOwnedRelationship().add(referenceSubsetting);
+            referenceSubsetting.setReferencedFeature(port);
+        }
+        return bind;
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.ContentHash;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ContentHash}.
+ *
+ * @author arichard
+ */
+public class ContentHashTest {
+
+    @Test
+    void testContentHash() {
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        root.setDeclaredName("root");
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        partDefinition.setDeclaredName("part");
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(partDefinition);
+
+        // Copies with other elementIds have the same content
+        Package copy = EcoreUtil.copy(root);
+        copy.setElementId(UUID.randomUUID().toString());
+        assertTrue(ContentHash.haveSameContent(root, copy));
+
+        // Changes of a nested element invalidate the hashes of its containers
+        long rootHash = ContentHash.get(root);
+        partDefinition.setDeclaredName("renamed");
+        assertNotEquals(rootHash, ContentHash.get(root));
+        assertFalse(ContentHash.haveSameContent(root, copy));
+        partDefinition.setDeclaredName("part");
+        assertEquals(rootHash, ContentHash.get(root));
+
+        // New owned relationships
+        root.getOwnedRelationship().add(SysmlFactory.eINSTANCE.createOwningMembership());
+        assertNotEquals(rootHash, ContentHash.get(root));
+        partDefinition.setIsAbstract(true);
+        assertFalse(ContentHash.haveSameContent(root, copy));
+    }
+
+    @Test
+    void testContentHashWithReferences() {
+        Package library = SysmlFactory.eINSTANCE.createPackage();
+        PartDefinition vehicle = this.addPartDefinition(library, "Vehicle");
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        PartDefinition engine = this.addPartDefinition(root, "Engine");
+        PartDefinition car = this.addPartDefinition(root, "Car");
+        this.addTypedPart(car, engine);
+        this.addTypedPart(car, vehicle);
+
+        // The copies reference their own copied elements and the same elements outside of the subtree
+        Package copy = EcoreUtil.copy(root);
+        copy.eAllContents().forEachRemaining(eObject -> ((Element) eObject).setElementId(UUID.randomUUID().toString()));
+        assertEquals(ContentHash.compute(root), ContentHash.compute(copy));
+        assertTrue(ContentHash.haveSameContent(root, copy));
+        assertEquals(ContentHash.get(root), ContentHash.compute(root));
+
+        // A reference to another element of the subtree
+        PartDefinition otherEngine = this.addPartDefinition(copy, "Engine");
+        PartDefinition copiedCar = (PartDefinition) copy.getOwnedMember().get(1);
+        FeatureTyping copiedTyping = this.getOwnedTyping(copiedCar, 0);
+        copiedTyping.setType(otherEngine);
+        this.addPartDefinition(root, "Engine");
+        assertFalse(ContentHash.haveSameContent(root, copy));
+
+        // A reference to another element outside of the subtree
+        copiedTyping.setType((PartDefinition) copy.getOwnedMember().get(0));
+        assertTrue(ContentHash.haveSameContent(root, copy));
+        FeatureTyping otherTyping = this.getOwnedTyping(copiedCar, 1);
+        otherTyping.setType(this.addPartDefinition(library, "Vehicle"));
+        assertFalse(ContentHash.haveSameContent(root, copy));
+    }
+
+    private PartDefinition addPartDefinition(Package owner, String name) {
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        partDefinition.setDeclaredName(name);
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        owner.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(partDefinition);
+        return partDefinition;
+    }
+
+    private void addTypedPart(PartDefinition owner, PartDefinition type) {
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(partUsage);
+        FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setTypedFeature(partUsage);
+        featureTyping.setType(type);
+        partUsage.getOwnedRelationship().add(featureTyping);
+    }
+
+    /**
+     * Get the typing of the part at the given index among the parts added to the given owner by
+     * {@link #addTypedPart(PartDefinition, PartDefinition)}, navigating through the owned relationships.
+     */
+    private FeatureTyping getOwnedTyping(PartDefinition owner, int index) {
+        PartUsage partUsage = owner.getOwnedRelationship().stream()
+                .flatMap(relationship -> relationship.getOwnedRelatedElement().stream())
+                .filter(PartUsage.class::isInstance)
+                .map(PartUsage.class::cast)
+                .toList()
+                .get(index);
+        return partUsage.getOwnedRelationship().stream()
+                .filter(FeatureTyping.class::isInstance)
+                .map(FeatureTyping.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for the packed boolean attributes of the SysML elements, and report of their memory footprint.
+ *
+ * @author arichard
+ */
+public class ElementFootprintTest {
+
+    private static final int PART_COUNT = 1000;
+
+    /**
+     * The maximum shallow size of an element, in bytes. The largest classes hold about 15 references and ints (about
+     * 72 bytes with compressed references), the bound leaves room for a few more fields.
+     */
+    private static final long MAX_INSTANCE_SIZE = 128;
+
+    /**
+     * The maximum retained size of a part usage with its feature membership and its feature typing, in bytes. It
+     * includes the three elements, their elementIds, their containment lists and the name of the part usage (about 700
+     * bytes with compressed references), the bound catches any new eagerly allocated list or cache per element.
+     */
+    private static final long MAX_PART_USAGE_SIZE = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ElementFootprintTest.class);
+
+    /**
+     * Each boolean attribute of the deepest classes of the hierarchy must be stored in its own bit.
+     */
+    @Test
+    void testPackedBooleanAttributes() {
+        List<EClass> eClasses = List.of(SysmlPackage.eINSTANCE.getConnectionUsage(), SysmlPackage.eINSTANCE.getStateUsage(), SysmlPackage.eINSTANCE.getConnectionDefinition(),
+                SysmlPackage.eINSTANCE.getFeatureValue(), SysmlPackage.eINSTANCE.getNamespaceImport(), SysmlPackage.eINSTANCE.getLibraryPackage(), SysmlPackage.eINSTANCE.getLiteralBoolean());
+        for (EClass eClass : eClasses) {
+            List<EAttribute> booleanAttributes = eClass.getEAllAttributes().stream()
+                    .filter(eAttribute -> eAttribute.getEAttributeType() == EcorePackage.Literals.EBOOLEAN)
+                    .filter(eAttribute -> eAttribute.isChangeable() && !eAttribute.isDerived())
+                    .toList();
+            for (EAttribute booleanAttribute : booleanAttributes) {
+                EObject eObject = SysmlFactory.eINSTANCE.create(eClass);
+                boolean defaultValue = (boolean) booleanAttribute.getDefaultValue();
+                eObject.eSet(booleanAttribute, !defaultValue);
+                for (EAttribute otherAttribute : booleanAttributes) {
+                    boolean expected = (boolean) otherAttribute.getDefaultValue();
+                    if (otherAttribute == booleanAttribute) {
+                        expected = !expected;
+                    }
+                    assertEquals(expected, eObject.eGet(otherAttribute), eClass.getName() + "." + otherAttribute.getName() + " after setting " + booleanAttribute.getName());
+                }
+                assertTrue(eObject.eIsSet(booleanAttribute));
+                eObject.eUnset(booleanAttribute);
+                assertEquals(defaultValue, eObject.eGet(booleanAttribute));
+            }
+        }
+    }
+
+    /**
+     * Check and report the shallow size of the most common element types, and the retained size of a part usage typed
+     * by its owning part definition.
+     */
+    @Test
+    void testFootprint() {
+        List<EClass> eClasses = List.of(SysmlPackage.eINSTANCE.getPackage(), SysmlPackage.eINSTANCE.getPartDefinition(), SysmlPackage.eINSTANCE.getPartUsage(),
+                SysmlPackage.eINSTANCE.getAttributeUsage(), SysmlPackage.eINSTANCE.getConnectionUsage(), SysmlPackage.eINSTANCE.getOwningMembership(),
+                SysmlPackage.eINSTANCE.getFeatureMembership(), SysmlPackage.eINSTANCE.getFeatureTyping());
+        for (EClass eClass : eClasses) {
+            long instanceSize = ClassLayout.parseInstance(SysmlFactory.eINSTANCE.create(eClass)).instanceSize();
+            this.logger.info("{}: {} bytes", eClass.getName(), instanceSize);
+            assertTrue(instanceSize <= MAX_INSTANCE_SIZE, eClass.getName() + " takes " + instanceSize + " bytes");
+        }
+
+        // The classes and the metamodel reachable from the elements are shared, only the difference is reported
+        long emptySize = GraphLayout.parseInstance(this.createPartDefinition(0)).totalSize();
+        long totalSize = GraphLayout.parseInstance(this.createPartDefinition(PART_COUNT)).totalSize();
+        long partUsageSize = (totalSize - emptySize) / PART_COUNT;
+        this.logger.info("PartUsage with its FeatureMembership and FeatureTyping: {} bytes", partUsageSize);
+        assertTrue(partUsageSize > 0);
+        assertTrue(partUsageSize <= MAX_PART_USAGE_SIZE, "A PartUsage with its FeatureMembership and FeatureTyping takes " + partUsageSize + " bytes");
+    }
+
+    private PartDefinition createPartDefinition(int partCount) {
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        for (int i = 0; i < partCount; i++) {
+            FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+            partDefinition.getOwnedRelationship().add(featureMembership);
+            PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+            partUsage.setDeclaredName("part" + i);
+            featureMembership.getOwnedRelatedElement().add(partUsage);
+            FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+            featureTyping.setTypedFeature(partUsage);
+            featureTyping.setType(partDefinition);
+            partUsage.getOwnedRelationship().add(featureTyping);
+        }
+        return partDefinition;
+    }
+}
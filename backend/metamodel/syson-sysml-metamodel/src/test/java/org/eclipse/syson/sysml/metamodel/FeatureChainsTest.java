@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureChaining;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Subsetting;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.util.FeatureChains;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FeatureChains} and the chains of the {@link Feature}s.
+ *
+ * @author arichard
+ */
+public class FeatureChainsTest {
+
+    @Test
+    void testChainTarget() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        PartUsage root = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(root);
+        PartUsage a = this.addFeature(root, SysmlFactory.eINSTANCE.createPartUsage());
+        PartUsage b = this.addFeature(a, SysmlFactory.eINSTANCE.createPartUsage());
+        PortUsage port1 = this.addFeature(b, SysmlFactory.eINSTANCE.createPortUsage());
+        PortUsage port2 = this.addFeature(b, SysmlFactory.eINSTANCE.createPortUsage());
+
+        // a.b.port1
+        Feature chain = this.addFeature(root, SysmlFactory.eINSTANCE.createFeature());
+        FeatureChaining firstChaining = this.addChaining(chain, a);
+        this.addChaining(chain, b);
+        FeatureChaining lastChaining = this.addChaining(chain, port1);
+        assertEquals(List.of(a, b, port1), chain.getChainingFeature());
+        assertEquals(port1, FeatureChains.getChainTarget(chain));
+        assertSame(FeatureChains.getChainingFeatures(chain), FeatureChains.getChainingFeatures(chain));
+        assertEquals(port1, FeatureChains.getChainTarget(port1));
+
+        // a chain ending with a chain
+        Feature outerChain = this.addFeature(root, SysmlFactory.eINSTANCE.createFeature());
+        this.addChaining(outerChain, root);
+        this.addChaining(outerChain, chain);
+        assertEquals(port1, FeatureChains.getChainTarget(outerChain));
+
+        // Any change of a link of the chain is taken into account
+        lastChaining.setChainingFeature(port2);
+        assertEquals(port2, FeatureChains.getChainTarget(chain));
+        assertEquals(port2, FeatureChains.getChainTarget(outerChain));
+        chain.getOwnedRelationship().remove(lastChaining);
+        assertEquals(List.of(a, b), chain.getChainingFeature());
+        assertEquals(b, FeatureChains.getChainTarget(outerChain));
+
+        // Reordering the links of the chain changes its target as well
+        chain.getOwnedRelationship().move(chain.getOwnedRelationship().size() - 1, firstChaining);
+        assertEquals(List.of(b, a), chain.getChainingFeature());
+        assertEquals(a, FeatureChains.getChainTarget(chain));
+        assertEquals(a, FeatureChains.getChainTarget(outerChain));
+    }
+
+    @Test
+    void testChainsRemovedFromTheResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        PartUsage root = SysmlFactory.eINSTANCE.createPartUsage();
+        resource.getContents().add(root);
+        PartUsage a = this.addFeature(root, SysmlFactory.eINSTANCE.createPartUsage());
+        PortUsage port1 = this.addFeature(a, SysmlFactory.eINSTANCE.createPortUsage());
+        PortUsage port2 = this.addFeature(a, SysmlFactory.eINSTANCE.createPortUsage());
+        Feature chain = this.addFeature(root, SysmlFactory.eINSTANCE.createFeature());
+        this.addChaining(chain, a);
+        FeatureChaining lastChaining = this.addChaining(chain, port1);
+        assertEquals(port1, FeatureChains.getChainTarget(chain));
+
+        // The entries of the removed chain are dropped, its changes outside of the resource set are taken into account
+        FeatureMembership chainMembership = (FeatureMembership) chain.getOwningRelationship();
+        root.getOwnedRelationship().remove(chainMembership);
+        lastChaining.setChainingFeature(port2);
+        root.getOwnedRelationship().add(chainMembership);
+        assertEquals(List.of(a, port2), chain.getChainingFeature());
+        assertEquals(port2, FeatureChains.getChainTarget(chain));
+    }
+
+    @Test
+    void testSubsetsChain() {
+        PartUsage a = SysmlFactory.eINSTANCE.createPartUsage();
+        PartUsage b = SysmlFactory.eINSTANCE.createPartUsage();
+        Feature chain = SysmlFactory.eINSTANCE.createFeature();
+        this.addChaining(chain, a);
+        this.addChaining(chain, b);
+
+        Feature subsettingFeature = SysmlFactory.eINSTANCE.createFeature();
+        Subsetting subsetting = SysmlFactory.eINSTANCE.createSubsetting();
+        subsettingFeature.getOwnedRelationship().add(subsetting);
+        subsetting.setSubsettedFeature(chain);
+        assertTrue(subsettingFeature.subsetsChain(a, b));
+        assertFalse(subsettingFeature.subsetsChain(b, a));
+
+        Feature referencingFeature = SysmlFactory.eINSTANCE.createFeature();
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        referencingFeature.getOwnedRelationship().add(referenceSubsetting);
+        referenceSubsetting.setReferencedFeature(chain);
+        assertTrue(referencingFeature.subsetsChain(a, b));
+
+        this.addChaining(chain, SysmlFactory.eINSTANCE.createPortUsage());
+        assertFalse(referencingFeature.subsetsChain(a, b));
+    }
+
+    private <T extends Feature> T addFeature(Usage owner, T feature) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(feature);
+        return feature;
+    }
+
+    private FeatureChaining addChaining(Feature feature, Feature chainingFeature) {
+        FeatureChaining featureChaining = SysmlFactory.eINSTANCE.createFeatureChaining();
+        feature.getOwnedRelationship().add(featureChaining);
+        featureChaining.setChainingFeature(chainingFeature);
+        return featureChaining;
+    }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.Subclassification;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.IndexRegistry;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link IndexRegistry}, i.e. the update of the indexes of a {@link ResourceSet} on the containment changes
+ * of its elements.
+ *
+ * @author arichard
+ */
+public class IndexRegistryTest {
+
+    private static final int MOVE_COUNT = 100_000;
+
+    private final Logger logger = LoggerFactory.getLogger(IndexRegistryTest.class);
+
+    @Test
+    void testRegistryIsInstalledWithTheFirstIndex() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package root = this.createRoot(resourceSet);
+        PartDefinition vehicle = this.createPartDefinition(root);
+        assertNull(IndexRegistry.find(vehicle));
+
+        PartDefinition car = this.createPartDefinition(root);
+        this.subclassify(car, vehicle);
+        assertTrue(car.specializes(vehicle));
+        IndexRegistry registry = IndexRegistry.find(car);
+        assertNotNull(registry);
+
+        PortConnectivityIndex.getBindingConnectors(resourceSet);
+        assertSame(registry, IndexRegistry.find(vehicle));
+    }
+
+    @Test
+    void testTypesMovedToAnotherResourceSet() {
+        Package root = this.createRoot(new ResourceSetImpl());
+        PartDefinition vehicle = this.createPartDefinition(root);
+        PartDefinition car = this.createPartDefinition(root);
+        this.subclassify(car, vehicle);
+        assertEquals(List.of(car, vehicle), List.copyOf(car.allSupertypes()));
+
+        Package otherRoot = this.createRoot(new ResourceSetImpl());
+        otherRoot.getOwnedRelationship().add(car.getOwningMembership());
+        assertNull(IndexRegistry.find(car));
+        assertEquals(List.of(car, vehicle), List.copyOf(car.allSupertypes()));
+
+        // The number of the moved type is reused by the types reached later in its previous resource set
+        PartDefinition bike = this.createPartDefinition(root);
+        PartDefinition bicycle = this.createPartDefinition(root);
+        this.subclassify(bicycle, bike);
+        assertEquals(List.of(bicycle, bike), List.copyOf(bicycle.allSupertypes()));
+        assertFalse(bicycle.specializes(vehicle));
+        assertTrue(car.specializes(vehicle));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testContainmentChangesThroughput() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package source = this.createRoot(resourceSet);
+        Package target = this.createRoot(resourceSet);
+        List<OwningMembership> memberships = new ArrayList<>();
+        for (int i = 0; i < MOVE_COUNT; i++) {
+            memberships.add(this.createPartDefinition(source).getOwningMembership());
+        }
+
+        long withoutIndex = this.move(memberships, source, target);
+        PartDefinition vehicle = this.createPartDefinition(source);
+        assertTrue(vehicle.specializes(vehicle));
+        PortConnectivityIndex.getBindingConnectors(resourceSet);
+        long withIndexes = this.move(memberships, source, target);
+        this.logger.info("{} containment changes in {} ms without index, {} ms with the specialization and port connectivity indexes", MOVE_COUNT * 2, withoutIndex, withIndexes);
+
+        assertEquals(MOVE_COUNT + 1, source.getOwnedRelationship().size());
+    }
+
+    /**
+     * Move the given memberships from the source to the target and back, returning the duration in milliseconds.
+     */
+    private long move(List<OwningMembership> memberships, Package source, Package target) {
+        long start = System.nanoTime();
+        target.getOwnedRelationship().addAll(memberships);
+        source.getOwnedRelationship().addAll(memberships);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private Package createRoot(ResourceSet resourceSet) {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+        return root;
+    }
+
+    private PartDefinition createPartDefinition(Package root) {
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(partDefinition);
+        return partDefinition;
+    }
+
+    private Subclassification subclassify(PartDefinition subclassifier, PartDefinition superclassifier) {
+        Subclassification subclassification = SysmlFactory.eINSTANCE.createSubclassification();
+        subclassification.setSubclassifier(subclassifier);
+        subclassification.setSuperclassifier(superclassifier);
+        subclassification.setSpecific(subclassifier);
+        subclassification.setGeneral(superclassifier);
+        subclassifier.getOwnedRelationship().add(subclassification);
+        return subclassification;
+    }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.Subclassification;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.util.MembershipCache;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MembershipCache} through {@link Namespace#visibleMemberships(org.eclipse.emf.common.util.EList, boolean, boolean)}
+ * and the imported memberships of {@link Namespace}.
+ *
+ * @author arichard
+ */
+public class MembershipCacheTest {
+
+    private static final int DEPTH = 200;
+
+    /**
+     * Deeply nested packages, the deepest one importing recursively a package which itself imports recursively the
+     * root of the nested packages.
+     */
+    @Test
+    void testDeeplyNestedPackagesWithRecursiveImports() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+
+        Package nestedRoot = this.createPackage(root);
+        Package importing = this.createPackage(root);
+        PartDefinition importingPart = SysmlFactory.eINSTANCE.createPartDefinition();
+        this.addOwnedMember(importing, importingPart, VisibilityKind.PUBLIC);
+        this.addRecursiveImport(importing, nestedRoot);
+
+        Package current = nestedRoot;
+        for (int i = 0; i < DEPTH; i++) {
+            this.addOwnedMember(current, SysmlFactory.eINSTANCE.createPartDefinition(), VisibilityKind.PUBLIC);
+            this.addOwnedMember(current, SysmlFactory.eINSTANCE.createPartDefinition(), VisibilityKind.PRIVATE);
+            if (i < DEPTH - 1) {
+                Package nested = SysmlFactory.eINSTANCE.createPackage();
+                this.addOwnedMember(current, nested, VisibilityKind.PUBLIC);
+                current = nested;
+            }
+        }
+        this.addRecursiveImport(current, importing);
+
+        // The public part definitions and nested packages, the cycle through the import of the deepest package stops
+        // at the importing package
+        assertEquals(2 * DEPTH - 1, importing.getImportedMembership().size());
+        // The same ones, plus the public part definition of the importing package
+        Membership[] visibleMemberships = MembershipCache.getVisibleMemberships(nestedRoot, List.of(), true, false);
+        assertEquals(2 * DEPTH, visibleMemberships.length);
+        assertEquals(3 * DEPTH, nestedRoot.visibleMemberships(null, true, true).size());
+        assertSame(visibleMemberships, MembershipCache.getVisibleMemberships(nestedRoot, List.of(), true, false));
+
+        this.addOwnedMember(current, SysmlFactory.eINSTANCE.createPartDefinition(), VisibilityKind.PUBLIC);
+        Membership[] newVisibleMemberships = MembershipCache.getVisibleMemberships(nestedRoot, List.of(), true, false);
+        assertNotSame(visibleMemberships, newVisibleMemberships);
+        assertEquals(2 * DEPTH + 1, newVisibleMemberships.length);
+        assertEquals(2 * DEPTH, importing.getImportedMembership().size());
+    }
+
+    /**
+     * Only the cached namespaces depending on the modified namespace are invalidated, i.e. the namespaces importing or
+     * specializing it.
+     */
+    @Test
+    void testOnlyDependentNamespacesAreInvalidated() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+
+        Package imported = this.createPackage(root);
+        Package importing = this.createPackage(root);
+        this.addRecursiveImport(importing, imported);
+        Package unrelated = this.createPackage(root);
+        this.addOwnedMember(unrelated, SysmlFactory.eINSTANCE.createPartDefinition(), VisibilityKind.PUBLIC);
+        PartDefinition vehicle = SysmlFactory.eINSTANCE.createPartDefinition();
+        this.addOwnedMember(root, vehicle, VisibilityKind.PUBLIC);
+        PartDefinition car = SysmlFactory.eINSTANCE.createPartDefinition();
+        this.addOwnedMember(root, car, VisibilityKind.PUBLIC);
+        Subclassification subclassification = SysmlFactory.eINSTANCE.createSubclassification();
+        subclassification.setSubclassifier(car);
+        subclassification.setSuperclassifier(vehicle);
+        subclassification.setSpecific(car);
+        subclassification.setGeneral(vehicle);
+        car.getOwnedRelationship().add(subclassification);
+
+        Membership[] importingMemberships = MembershipCache.getVisibleMemberships(importing, List.of(), false, false);
+        Membership[] unrelatedMemberships = MembershipCache.getVisibleMemberships(unrelated, List.of(), false, false);
+        Membership[] carMemberships = MembershipCache.getVisibleMemberships(car, List.of(), false, false);
+        assertEquals(0, importingMemberships.length);
+        assertEquals(0, carMemberships.length);
+
+        this.addOwnedMember(imported, SysmlFactory.eINSTANCE.createPartDefinition(), VisibilityKind.PUBLIC);
+        assertEquals(1, MembershipCache.getVisibleMemberships(importing, List.of(), false, false).length);
+        assertSame(unrelatedMemberships, MembershipCache.getVisibleMemberships(unrelated, List.of(), false, false));
+        assertSame(carMemberships, MembershipCache.getVisibleMemberships(car, List.of(), false, false));
+
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        vehicle.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(SysmlFactory.eINSTANCE.createPartUsage());
+        assertEquals(1, MembershipCache.getVisibleMemberships(car, List.of(), false, false).length);
+        assertSame(unrelatedMemberships, MembershipCache.getVisibleMemberships(unrelated, List.of(), false, false));
+
+        car.getOwnedRelationship().remove(subclassification);
+        assertEquals(0, MembershipCache.getVisibleMemberships(car, List.of(), false, false).length);
+        assertSame(unrelatedMemberships, MembershipCache.getVisibleMemberships(unrelated, List.of(), false, false));
+    }
+
+    private Package createPackage(Package owningPackage) {
+        Package pkg = SysmlFactory.eINSTANCE.createPackage();
+        this.addOwnedMember(owningPackage, pkg, VisibilityKind.PUBLIC);
+        return pkg;
+    }
+
+    private void addOwnedMember(Namespace namespace, Element element, VisibilityKind visibility) {
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        owningMembership.setVisibility(visibility);
+        namespace.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(element);
+    }
+
+    private void addRecursiveImport(Namespace namespace, Namespace importedNamespace) {
+        NamespaceImport namespaceImport = SysmlFactory.eINSTANCE.createNamespaceImport();
+        namespaceImport.setImportedNamespace(importedNamespace);
+        namespaceImport.setIsRecursive(true);
+        namespace.getOwnedRelationship().add(namespaceImport);
+    }
+}
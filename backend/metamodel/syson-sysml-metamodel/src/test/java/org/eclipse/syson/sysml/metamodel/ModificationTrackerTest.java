@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.ModificationTracker;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ModificationTracker}.
+ *
+ * @author arichard
+ */
+public class ModificationTrackerTest {
+
+    @Test
+    void testModifications() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+        PartDefinition modified = this.addPartDefinition(root);
+        PartDefinition untouched = this.addPartDefinition(root);
+
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+        long start = tracker.getModificationCount();
+        assertFalse(tracker.isModifiedSince(modified, start));
+
+        // The modification of the contents of an element modifies the element and its containers
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        modified.getOwnedRelationship().add(featureMembership);
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        featureMembership.getOwnedRelatedElement().add(partUsage);
+        assertTrue(tracker.isModifiedSince(modified, start));
+        assertTrue(tracker.isModifiedSince(modified.getOwningMembership(), start));
+        assertTrue(tracker.isModifiedSince(root, start));
+        assertFalse(tracker.isModifiedSince(untouched, start));
+
+        long afterInsertion = tracker.getModificationCount();
+        partUsage.setIsAbstract(true);
+        assertTrue(tracker.isModifiedSince(modified, afterInsertion));
+        assertFalse(tracker.isModifiedSince(untouched, afterInsertion));
+
+        // A new name may be displayed by any other element
+        long beforeRenaming = tracker.getModificationCount();
+        modified.setDeclaredName("renamed");
+        assertTrue(tracker.isModifiedSince(untouched, beforeRenaming));
+        assertFalse(tracker.isModifiedSince(untouched, tracker.getModificationCount()));
+    }
+
+    @Test
+    void testResourceChanges() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package root = this.createRoot(resourceSet, "memory");
+        PartDefinition partDefinition = this.addPartDefinition(root);
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+
+        // The modified flag of the resources is toggled by the edition and the save of the documents
+        long start = tracker.getModificationCount();
+        root.eResource().setModified(true);
+        root.eResource().setModified(false);
+        assertFalse(tracker.isModifiedSince(partDefinition, start));
+
+        // A new root element or a new resource may be displayed by any other element
+        this.createRoot(resourceSet, "memory");
+        assertTrue(tracker.isModifiedSince(partDefinition, start));
+        long afterNewResource = tracker.getModificationCount();
+        root.eResource().getContents().add(SysmlFactory.eINSTANCE.createPackage());
+        assertTrue(tracker.isModifiedSince(partDefinition, afterNewResource));
+    }
+
+    @Test
+    void testDetachedElements() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package root = this.createRoot(resourceSet, "memory");
+        PartDefinition deleted = this.addPartDefinition(root);
+        PartDefinition moved = this.addPartDefinition(root);
+        Package otherRoot = this.createRoot(resourceSet, "memory");
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+        List<EObject> detached = new ArrayList<>();
+        tracker.addDetachListener(detached::add);
+
+        // The deleted subtree is detached, element by element
+        OwningMembership deletedMembership = deleted.getOwningMembership();
+        root.getOwnedRelationship().remove(deletedMembership);
+        assertEquals(2, detached.size());
+        assertTrue(detached.containsAll(List.of(deletedMembership, deleted)));
+
+        // A moved element is detached from its former container
+        detached.clear();
+        otherRoot.getOwnedRelationship().add(moved.getOwningMembership());
+        assertEquals(2, detached.size());
+        assertTrue(detached.containsAll(List.of(moved.getOwningMembership(), moved)));
+        assertTrue(moved.eAdapters().contains(tracker));
+
+        // The elements of an unloaded resource are detached as well
+        detached.clear();
+        resourceSet.getResources().remove(otherRoot.eResource());
+        assertTrue(detached.containsAll(List.of(otherRoot, moved)));
+    }
+
+    @Test
+    void testLibrariesAreNotTracked() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Package sysmlLibrary = this.createRoot(resourceSet, "sysmllibrary");
+        PartDefinition libraryPartDefinition = this.addPartDefinition(sysmlLibrary);
+        Package userModel = this.createRoot(resourceSet, "memory");
+
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+        assertFalse(sysmlLibrary.eResource().eAdapters().contains(tracker));
+        assertFalse(libraryPartDefinition.eAdapters().contains(tracker));
+        assertTrue(userModel.eAdapters().contains(tracker));
+
+        long start = tracker.getModificationCount();
+        libraryPartDefinition.setIsAbstract(true);
+        assertEquals(start, tracker.getModificationCount());
+
+        // The libraries loaded after the installation of the tracker are not tracked either
+        Package kermlLibrary = this.createRoot(resourceSet, "kermllibrary");
+        PartDefinition otherLibraryPartDefinition = this.addPartDefinition(kermlLibrary);
+        assertFalse(otherLibraryPartDefinition.eAdapters().contains(tracker));
+        PartDefinition userPartDefinition = this.addPartDefinition(userModel);
+        assertTrue(userPartDefinition.eAdapters().contains(tracker));
+    }
+
+    private Package createRoot(ResourceSet resourceSet, String uriScheme) {
+        Resource resource = new SysmlResourceImpl(URI.createURI(uriScheme + ":///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+        return root;
+    }
+
+    private PartDefinition addPartDefinition(Package root) {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        root.getOwnedRelationship().add(membership);
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        membership.getOwnedRelatedElement().add(partDefinition);
+        return partDefinition;
+    }
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addBindingConnector;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addPort;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.createPart;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureChaining;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.ReferenceUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PortConnectivityIndex}.
+ *
+ * @author arichard
+ */
+public class PortConnectivityIndexTest {
+
+    @Test
+    void testConnectivity() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        PartUsage part = createPart(resourceSet);
+        PortUsage port1 = addPort(part);
+        PortUsage port2 = addPort(part);
+        PortUsage port3 = addPort(part);
+
+        BindingConnectorAsUsage bind = addBindingConnector(part, port1, port2);
+        assertEquals(List.of(bind), PortConnectivityIndex.getBindingConnectors(resourceSet));
+        assertSame(port1, PortConnectivityIndex.getSourcePort(bind));
+        assertSame(port2, PortConnectivityIndex.getTargetPort(bind));
+        assertEquals(List.of(port2), PortConnectivityIndex.getConnectedPorts(port1));
+
+        // Binding connectors added after the creation of the index
+        BindingConnectorAsUsage otherBind = addBindingConnector(part, port3, port1);
+        assertEquals(List.of(port2, port3), PortConnectivityIndex.getConnectedPorts(port1));
+
+        // Reconnection
+        ReferenceSubsetting targetReferenceSubsetting = ((Feature) bind.getOwnedFeatureMembership().get(1).getOwnedRelatedElement().get(0)).getOwnedReferenceSubsetting();
+        targetReferenceSubsetting.setReferencedFeature(port3);
+        assertSame(port3, PortConnectivityIndex.getTargetPort(bind));
+        assertEquals(List.of(port3), PortConnectivityIndex.getConnectedPorts(port1));
+        assertTrue(PortConnectivityIndex.getConnectedPorts(port2).isEmpty());
+
+        // Removal
+        part.getOwnedRelationship().remove(otherBind.getOwningRelationship());
+        assertEquals(List.of(bind), PortConnectivityIndex.getBindingConnectors(resourceSet));
+        assertEquals(List.of(bind), PortConnectivityIndex.getBindingConnectors(port3));
+    }
+
+    @Test
+    void testReferenceUsageEnds() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        PartUsage part = createPart(resourceSet);
+        PortUsage port1 = addPort(part);
+        PortUsage port2 = addPort(part);
+        PortUsage port3 = addPort(part);
+        BindingConnectorAsUsage bind = addBindingConnector(part, port1, port2);
+        assertEquals(List.of(port2), PortConnectivityIndex.getConnectedPorts(port1));
+
+        // Replace the target end by a reference usage, one object at a time
+        EndFeatureMembership targetMembership = (EndFeatureMembership) bind.getOwnedFeatureMembership().get(1);
+        targetMembership.getOwnedRelatedElement().clear();
+        ReferenceUsage targetEnd = SysmlFactory.eINSTANCE.createReferenceUsage();
+        targetEnd.setIsEnd(true);
+        targetMembership.getOwnedRelatedElement().add(targetEnd);
+        assertTrue(PortConnectivityIndex.getConnectedPorts(port1).isEmpty());
+
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        targetEnd.getOwnedRelationship().add(referenceSubsetting);
+        referenceSubsetting.setReferencedFeature(port3);
+        assertSame(port3, PortConnectivityIndex.getTargetPort(bind));
+        assertEquals(List.of(port3), PortConnectivityIndex.getConnectedPorts(port1));
+    }
+
+    @Test
+    void testChainsOutsideOfTheConnectors() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        PartUsage part = createPart(resourceSet);
+        PortUsage port = addPort(part);
+        PartUsage engine = SysmlFactory.eINSTANCE.createPartUsage();
+        FeatureMembership engineMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(engineMembership);
+        engineMembership.getOwnedRelatedElement().add(engine);
+        PortUsage enginePort1 = addPort(engine);
+        PortUsage enginePort2 = addPort(engine);
+
+        // engine.enginePort1, owned by the part and referenced by the target end of the binding connector
+        Feature chain = SysmlFactory.eINSTANCE.createFeature();
+        FeatureMembership chainMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        part.getOwnedRelationship().add(chainMembership);
+        chainMembership.getOwnedRelatedElement().add(chain);
+        FeatureChaining engineChaining = SysmlFactory.eINSTANCE.createFeatureChaining();
+        chain.getOwnedRelationship().add(engineChaining);
+        engineChaining.setChainingFeature(engine);
+        FeatureChaining portChaining = SysmlFactory.eINSTANCE.createFeatureChaining();
+        chain.getOwnedRelationship().add(portChaining);
+        portChaining.setChainingFeature(enginePort1);
+        BindingConnectorAsUsage bind = addBindingConnector(part, port, enginePort2);
+        ((Feature) bind.getOwnedFeatureMembership().get(1).getOwnedRelatedElement().get(0)).getOwnedReferenceSubsetting().setReferencedFeature(chain);
+        assertEquals(List.of(enginePort1), PortConnectivityIndex.getConnectedPorts(port));
+
+        // The changes of the chain outdate the binding connectors referencing it
+        portChaining.setChainingFeature(enginePort2);
+        assertSame(enginePort2, PortConnectivityIndex.getTargetPort(bind));
+        assertEquals(List.of(bind), PortConnectivityIndex.getBindingConnectors(enginePort2));
+        assertTrue(PortConnectivityIndex.getBindingConnectors(enginePort1).isEmpty());
+
+        chain.getOwnedRelationship().remove(portChaining);
+        assertTrue(PortConnectivityIndex.getConnectedPorts(port).isEmpty());
+    }
+}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.metamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.LibraryPackage;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.Redefinition;
+import org.eclipse.syson.sysml.Subclassification;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.util.SpecializationIndex;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SpecializationIndex} through {@link Type#allSupertypes()}, {@link Type#specializes(Type)} and the
+ * inherited features of {@link Type}.
+ *
+ * @author arichard
+ */
+public class SpecializationIndexTest {
+
+    @Test
+    void testSpecializes() {
+        Package root = this.createRoot();
+        PartDefinition vehicle = this.createPartDefinition(root, "Vehicle");
+        PartDefinition car = this.createPartDefinition(root, "Car");
+        PartDefinition batmobile = this.createPartDefinition(root, "Batmobile");
+        this.subclassify(car, vehicle);
+        Subclassification batmobileSubclassification = this.subclassify(batmobile, car);
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        this.addOwnedMember(root, part);
+        var featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setTypedFeature(part);
+        featureTyping.setType(batmobile);
+        featureTyping.setSpecific(part);
+        featureTyping.setGeneral(batmobile);
+        part.getOwnedRelationship().add(featureTyping);
+
+        assertEquals(List.of(batmobile, car, vehicle), List.copyOf(batmobile.allSupertypes()));
+        assertTrue(part.specializes(vehicle));
+        assertTrue(batmobile.specializes(batmobile));
+        assertFalse(vehicle.specializes(car));
+
+        batmobile.getOwnedRelationship().remove(batmobileSubclassification);
+        assertFalse(part.specializes(vehicle));
+        assertTrue(part.specializes(batmobile));
+        assertEquals(List.of(batmobile), List.copyOf(batmobile.allSupertypes()));
+
+        this.subclassify(batmobile, vehicle);
+        assertTrue(part.specializes(vehicle));
+        assertFalse(part.specializes(car));
+    }
+
+    @Test
+    void testSpecializesWithCycle() {
+        Package root = this.createRoot();
+        PartDefinition a = this.createPartDefinition(root, "A");
+        PartDefinition b = this.createPartDefinition(root, "B");
+        this.subclassify(a, b);
+        this.subclassify(b, a);
+
+        assertTrue(a.specializes(b));
+        assertTrue(b.specializes(a));
+        assertEquals(List.of(a, b), List.copyOf(a.allSupertypes()));
+    }
+
+    @Test
+    void testDetachedTypesArePruned() {
+        Package root = this.createRoot();
+        PartDefinition vehicle = this.createPartDefinition(root, "Vehicle");
+        PartDefinition car = this.createPartDefinition(root, "Car");
+        PartDefinition batmobile = this.createPartDefinition(root, "Batmobile");
+        this.subclassify(car, vehicle);
+        this.subclassify(batmobile, car);
+        assertEquals(List.of(batmobile, car, vehicle), List.copyOf(batmobile.allSupertypes()));
+
+        // The closures containing the pruned types are dropped, so that their numbers can be reused by other types
+        root.getOwnedRelationship().remove(car.getOwningMembership());
+        root.getOwnedRelationship().remove(vehicle.getOwningMembership());
+        PartDefinition bike = this.createPartDefinition(root, "Bike");
+        PartDefinition bicycle = this.createPartDefinition(root, "Bicycle");
+        this.subclassify(bicycle, bike);
+        assertEquals(List.of(bicycle, bike), List.copyOf(bicycle.allSupertypes()));
+        assertFalse(batmobile.specializes(bike));
+        assertFalse(batmobile.specializes(bicycle));
+        assertEquals(List.of(batmobile, car, vehicle), List.copyOf(batmobile.allSupertypes()));
+    }
+
+    @Test
+    void testSpecializesFromLibrary() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        Namespace libraryRoot = SysmlFactory.eINSTANCE.createNamespace();
+        resource.getContents().add(libraryRoot);
+        LibraryPackage scalarValues = this.createLibraryPackage(libraryRoot, "ScalarValues");
+        PartDefinition real = this.createPartDefinition(scalarValues, "Real");
+        LibraryPackage other = this.createLibraryPackage(libraryRoot, "Other");
+        LibraryPackage nestedScalarValues = this.createLibraryPackage(other, "ScalarValues");
+        PartDefinition nestedReal = this.createPartDefinition(nestedScalarValues, "Real");
+
+        Package root = this.createRoot();
+        PartDefinition temperature = this.createPartDefinition(root, "Temperature");
+        this.subclassify(temperature, nestedReal);
+        assertFalse(temperature.specializesFromLibrary("ScalarValues::Real"));
+        assertTrue(temperature.specializesFromLibrary("Other::ScalarValues::Real"));
+
+        this.subclassify(temperature, real);
+        assertTrue(temperature.specializesFromLibrary("ScalarValues::Real"));
+        assertFalse(temperature.specializesFromLibrary("Real"));
+    }
+
+    @Test
+    void testInheritedFeatures() {
+        Package root = this.createRoot();
+        PartDefinition vehicle = this.createPartDefinition(root, "Vehicle");
+        PartDefinition car = this.createPartDefinition(root, "Car");
+        PartDefinition batmobile = this.createPartDefinition(root, "Batmobile");
+        this.subclassify(car, vehicle);
+        this.subclassify(batmobile, car);
+        PartUsage wheels = this.createOwnedPart(vehicle, VisibilityKind.PUBLIC);
+        PartUsage engine = this.createOwnedPart(car, VisibilityKind.PROTECTED);
+        PartUsage driver = this.createOwnedPart(car, VisibilityKind.PRIVATE);
+
+        assertEquals(List.of(engine, wheels), List.copyOf(batmobile.getInheritedFeature()));
+        assertEquals(List.of(wheels), List.copyOf(car.getInheritedFeature()));
+        assertEquals(List.of(engine, driver, wheels), List.copyOf(car.getFeature()));
+        assertEquals(List.of(engine), List.copyOf(batmobile.inheritedMemberships(new BasicEList<>(List.of(vehicle))).stream()
+                .map(Membership::getOwnedRelatedElement)
+                .flatMap(List::stream)
+                .toList()));
+
+        PartUsage body = this.createOwnedPart(vehicle, VisibilityKind.PUBLIC);
+        assertEquals(List.of(engine, wheels, body), List.copyOf(batmobile.getInheritedFeature()));
+        driver.getOwningMembership().setVisibility(VisibilityKind.PUBLIC);
+        assertEquals(List.of(engine, driver, wheels, body), List.copyOf(batmobile.getInheritedFeature()));
+    }
+
+    @Test
+    void testRedefinedFeaturesAreNotInherited() {
+        Package root = this.createRoot();
+        PartDefinition vehicle = this.createPartDefinition(root, "Vehicle");
+        PartDefinition car = this.createPartDefinition(root, "Car");
+        PartDefinition batmobile = this.createPartDefinition(root, "Batmobile");
+        this.subclassify(car, vehicle);
+        this.subclassify(batmobile, car);
+        PartUsage wheels = this.createOwnedPart(vehicle, VisibilityKind.PUBLIC);
+        PartUsage carWheels = this.createOwnedPart(car, VisibilityKind.PUBLIC);
+        Redefinition redefinition = SysmlFactory.eINSTANCE.createRedefinition();
+        redefinition.setRedefiningFeature(carWheels);
+        redefinition.setRedefinedFeature(wheels);
+        redefinition.setSpecific(carWheels);
+        redefinition.setGeneral(wheels);
+        carWheels.getOwnedRelationship().add(redefinition);
+
+        assertEquals(List.of(), List.copyOf(car.getInheritedFeature()));
+        assertEquals(List.of(carWheels), List.copyOf(car.getFeature()));
+        assertEquals(List.of(carWheels), List.copyOf(batmobile.getInheritedFeature()));
+        assertEquals(List.of(carWheels), List.copyOf(batmobile.inheritedMemberships(new BasicEList<>(List.of(batmobile))).stream()
+                .map(Membership::getOwnedRelatedElement)
+                .flatMap(List::stream)
+                .toList()));
+
+        carWheels.getOwnedRelationship().remove(redefinition);
+        assertEquals(List.of(wheels), List.copyOf(car.getInheritedFeature()));
+        assertEquals(List.of(carWheels, wheels), List.copyOf(batmobile.getInheritedFeature()));
+    }
+
+    private Package createRoot() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        Package root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+        return root;
+    }
+
+    private LibraryPackage createLibraryPackage(Namespace owner, String name) {
+        LibraryPackage libraryPackage = SysmlFactory.eINSTANCE.createLibraryPackage();
+        libraryPackage.setDeclaredName(name);
+        libraryPackage.setIsStandard(true);
+        this.addOwnedMember(owner, libraryPackage);
+        return libraryPackage;
+    }
+
+    private PartDefinition createPartDefinition(Namespace root, String name) {
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        partDefinition.setDeclaredName(name);
+        this.addOwnedMember(root, partDefinition);
+        return partDefinition;
+    }
+
+    private PartUsage createOwnedPart(Type owningType, VisibilityKind visibility) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        featureMembership.setVisibility(visibility);
+        owningType.getOwnedRelationship().add(featureMembership);
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        featureMembership.getOwnedRelatedElement().add(partUsage);
+        return partUsage;
+    }
+
+    private void addOwnedMember(Namespace root, Namespace namespace) {
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(namespace);
+    }
+
+    private Subclassification subclassify(PartDefinition subclassifier, PartDefinition superclassifier) {
+        Subclassification subclassification = SysmlFactory.eINSTANCE.createSubclassification();
+        subclassification.setSubclassifier(subclassifier);
+        subclassification.setSuperclassifier(superclassifier);
+        subclassification.setSpecific(subclassifier);
+        subclassification.setGeneral(superclassifier);
+        subclassifier.getOwnedRelationship().add(subclassification);
+        return subclassification;
+    }
+}
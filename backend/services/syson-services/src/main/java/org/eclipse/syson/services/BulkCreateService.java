@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.EndFeatureMembership;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.SysmlFactory;
+
+/**
+ * Bulk creation of elements (e.g. for scripted model construction and imports), which creates any number of
+ * elements of the same kind under an owner in one pass.
+ * <p>
+ * The elements are fully built (memberships, ends, reference subsettings...) before being attached to their owner, so
+ * that their own modifications are not notified to the adapters of the editing context. They are then attached with a
+ * single addition to the owned relationships of the owner, pre-sized for all of them: the adapters of the owner
+ * receive one {@link org.eclipse.emf.common.notify.Notification#ADD_MANY} notification for all the created elements.
+ * The single element creation services of the representations rely on the same methods.
+ * </p>
+ *
+ * @author arichard
+ */
+public class BulkCreateService {
+
+    /**
+     * The default name of the binding connectors.
+     */
+    public static final String BINDING_CONNECTOR_NAME = "bind";
+
+    /**
+     * Create binding connectors under the given owner, the i-th connector binding the i-th source to the i-th target.
+     *
+     * @param owner
+     *            the owner of the binding connectors (e.g. a {@link PartUsage}).
+     * @param sources
+     *            the features bound by the first end of the binding connectors.
+     * @param targets
+     *            the features bound by the last end of the binding connectors.
+     * @return the created {@link BindingConnectorAsUsage}s, in the order of the sources.
+     */
+    public List<BindingConnectorAsUsage> createBindingConnectors(Element owner, List<? extends Feature> sources, List<? extends Feature> targets) {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("The number of sources (" + sources.size() + ") and targets (" + targets.size() + ") of the binding connectors must be the same");
+        }
+        List<BindingConnectorAsUsage> bindingConnectors = new ArrayList<>(sources.size());
+        List<Relationship> memberships = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            BindingConnectorAsUsage bindingConnector = SysmlFactory.eINSTANCE.createBindingConnectorAsUsage();
+            bindingConnector.setDeclaredName(BINDING_CONNECTOR_NAME);
+            EList<Relationship> ends = bindingConnector.getOwnedRelationship();
+            ends.add(this.createEnd(sources.get(i)));
+            ends.add(this.createEnd(targets.get(i)));
+            memberships.add(this.createFeatureMembership(bindingConnector));
+            bindingConnectors.add(bindingConnector);
+        }
+        this.attach(owner, memberships);
+        return bindingConnectors;
+    }
+
+    /**
+     * Create nested {@link PartUsage}s under the given owner, one for each of the given names.
+     *
+     * @param owner
+     *            the owner of the parts (e.g. a {@link PartUsage}).
+     * @param names
+     *            the names of the parts.
+     * @return the created {@link PartUsage}s, in the order of the names.
+     */
+    public List<PartUsage> createNestedParts(Element owner, List<String> names) {
+        List<PartUsage> parts = new ArrayList<>(names.size());
+        List<Relationship> memberships = new ArrayList<>(names.size());
+        for (String name : names) {
+            PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+            partUsage.setDeclaredName(name);
+            memberships.add(this.createFeatureMembership(partUsage));
+            parts.add(partUsage);
+        }
+        this.attach(owner, memberships);
+        return parts;
+    }
+
+    private FeatureMembership createFeatureMembership(Feature feature) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        featureMembership.getOwnedRelatedElement().add(feature);
+        return featureMembership;
+    }
+
+    private EndFeatureMembership createEnd(Feature referencedFeature) {
+        ReferenceSubsetting referenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
+        referenceSubsetting.setReferencedFeature(referencedFeature);
+        Feature feature = SysmlFactory.eINSTANCE.createFeature();
+        feature.setIsEnd(true);
+        feature.getOwnedRelationship().add(referenceSubsetting);
+        EndFeatureMembership endFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
+        endFeatureMembership.getOwnedRelatedElement().add(feature);
+        return endFeatureMembership;
+    }
+
+    /**
+     * Attach the given relationships to the given owner with a single addition, the created relationships being
+     * unique by construction. The addition sends a single notification for all the relationships.
+     */
+    private void attach(Element owner, List<Relationship> relationships) {
+        if (relationships.size() == 1) {
+            owner.getOwnedRelationship().add(relationships.get(0));
+        } else if (!relationships.isEmpty()) {
+            EList<Relationship> ownedRelationships = owner.getOwnedRelationship();
+            if (ownedRelationships instanceof BasicEList<Relationship> basicEList) {
+                basicEList.grow(ownedRelationships.size() + relationships.size());
+            }
+            if (ownedRelationships instanceof InternalEList<Relationship> internalEList) {
+                internalEList.addAllUnique(relationships);
+            } else {
+                ownedRelationships.addAll(relationships);
+            }
+        }
+    }
+}
@@ -15,6 +15,9 @@ package org.eclipse.syson.services;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,24 +44,22 @@ import org.springframework.core.io.ClassPathResource;
  */
 public class ColorProvider implements IColorProvider {
 
-    private final Logger logger = LoggerFactory.getLogger(ColorProvider.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColorProvider.class);
 
-    private final View view;
+    /**
+     * The colors of studioColorPalettes.json, indexed by name. They are loaded once and shared by all instances.
+     */
+    private static final Map<String, UserColor> STUDIO_COLORS = loadStudioColors();
 
-    private final Optional<View> studioColorPalettesView;
+    private final View view;
 
     public ColorProvider(View view) {
         this.view = Objects.requireNonNull(view);
-        ResourceSet resourceSet = new ResourceSetImpl();
-        this.studioColorPalettesView = this.loadStudioColorPalettes(resourceSet);
     }
 
     @Override
     public UserColor getColor(String colorName) {
-        UserColor color = null;
-        if (studioColorPalettesView.isPresent()) {
-            color = this.getColorFromPalette(studioColorPalettesView.get(), colorName);
-        }
+        UserColor color = STUDIO_COLORS.get(colorName);
         if (color == null) {
             color = this.getColorFromPalette(this.view, colorName);
         }
@@ -75,23 +76,29 @@ public class ColorProvider implements IColorProvider {
                 .orElse(null);
     }
 
-    private Optional<View> loadStudioColorPalettes(ResourceSet resourceSet) {
+    private static Map<String, UserColor> loadStudioColors() {
+        Map<String, UserColor> colors = new HashMap<>();
+        loadStudioColorPalettes(new ResourceSetImpl()).ifPresent(studioColorPalettesView -> {
+            studioColorPalettesView.getColorPalettes()
+                    .stream()
+                    .map(ColorPalette::getColors)
+                    .flatMap(Collection::stream)
+                    .forEach(userColor -> colors.putIfAbsent(userColor.getName(), userColor));
+        });
+        return Collections.unmodifiableMap(colors);
+    }
+
+    private static Optional<View> loadStudioColorPalettes(ResourceSet resourceSet) {
         ClassPathResource classPathResource = new ClassPathResource("studioColorPalettes.json");
         URI uri = URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + UUID.nameUUIDFromBytes(classPathResource.getPath().getBytes()));
-        Resource resource = null;
-        Optional<Resource> existingResource = resourceSet.getResources().stream().filter(r -> uri.equals(r.getURI())).findFirst();
-        if (existingResource.isEmpty()) {
-            resource = new JSONResourceFactory().createResource(uri);
-            try (var inputStream = new ByteArrayInputStream(classPathResource.getContentAsByteArray())) {
-                resourceSet.getResources().add(resource);
-                resource.load(inputStream, null);
-                resource.eAdapters().add(new ResourceMetadataAdapter("studioColorPalettes"));
-            } catch (IOException exception) {
-                this.logger.warn("An error occured while loading document studioColorPalettes.json: {}.", exception.getMessage());
-                resourceSet.getResources().remove(resource);
-            }
-        } else {
-            resource = existingResource.get();
+        Resource resource = new JSONResourceFactory().createResource(uri);
+        try (var inputStream = new ByteArrayInputStream(classPathResource.getContentAsByteArray())) {
+            resourceSet.getResources().add(resource);
+            resource.load(inputStream, null);
+            resource.eAdapters().add(new ResourceMetadataAdapter("studioColorPalettes"));
+        } catch (IOException exception) {
+            LOGGER.warn("An error occured while loading document studioColorPalettes.json: {}.", exception.getMessage());
+            resourceSet.getResources().remove(resource);
         }
         return resource.getContents()
                 .stream()
@@ -99,4 +106,4 @@ public class ColorProvider implements IColorProvider {
                 .map(View.class::cast)
                 .findFirst();
     }
-}
\ No newline at end of file
+}
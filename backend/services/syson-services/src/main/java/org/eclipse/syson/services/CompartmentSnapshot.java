@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.SysmlPackage;
+
+/**
+ * The contents of the list compartments of an {@link Element} (e.g. <code>ownedAttribute</code> and
+ * <code>ownedPort</code> of a part definition), computed in a single traversal of its owned relationships instead of
+ * one traversal per derived reference.
+ * <p>
+ * The items of a reference are the elements of its type owned through a <code>FeatureMembership</code> (or through a
+ * <code>VariantMembership</code> for <code>enumeratedValue</code>), in the order of the owned relationships, as
+ * computed by the derived references themselves.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class CompartmentSnapshot {
+
+    private final Map<EReference, List<EObject>> items;
+
+    private CompartmentSnapshot(Map<EReference, List<EObject>> items) {
+        this.items = items;
+    }
+
+    /**
+     * Get the snapshot of the given references of the given {@link Element}, shared until the element or its contents
+     * are modified (see {@link RenderingCache}).
+     *
+     * @param element
+     *            the given {@link Element}.
+     * @param references
+     *            the references listed in the compartments of the element, which must always be the same for a given
+     *            element.
+     * @return the snapshot of the given references.
+     */
+    public static CompartmentSnapshot get(Element element, List<EReference> references) {
+        return RenderingCache.get(element, "compartmentSnapshot", owner -> compute(owner, references));
+    }
+
+    /**
+     * Compute the snapshot of the given references of the given {@link Element}.
+     *
+     * @param element
+     *            the given {@link Element}.
+     * @param references
+     *            the references listed in the compartments of the element.
+     * @return the snapshot of the given references.
+     */
+    public static CompartmentSnapshot compute(Element element, List<EReference> references) {
+        Map<EReference, List<EObject>> items = new LinkedHashMap<>();
+        references.forEach(reference -> items.put(reference, new ArrayList<>()));
+        for (Relationship relationship : element.getOwnedRelationship()) {
+            EClass membershipType = null;
+            if (SysmlPackage.eINSTANCE.getFeatureMembership().isInstance(relationship)) {
+                membershipType = SysmlPackage.eINSTANCE.getFeatureMembership();
+            } else if (SysmlPackage.eINSTANCE.getVariantMembership().isInstance(relationship)) {
+                membershipType = SysmlPackage.eINSTANCE.getVariantMembership();
+            }
+            if (membershipType != null) {
+                for (Element ownedRelatedElement : relationship.getOwnedRelatedElement()) {
+                    for (EReference reference : references) {
+                        if (getMembershipType(reference) == membershipType && reference.getEType().isInstance(ownedRelatedElement)) {
+                            items.get(reference).add(ownedRelatedElement);
+                        }
+                    }
+                }
+            }
+        }
+        items.replaceAll((reference, referenceItems) -> Collections.unmodifiableList(referenceItems));
+        return new CompartmentSnapshot(items);
+    }
+
+    private static EClass getMembershipType(EReference reference) {
+        EClass membershipType = SysmlPackage.eINSTANCE.getFeatureMembership();
+        if (reference == SysmlPackage.eINSTANCE.getEnumerationDefinition_EnumeratedValue()) {
+            membershipType = SysmlPackage.eINSTANCE.getVariantMembership();
+        }
+        return membershipType;
+    }
+
+    /**
+     * Get the items of the given reference.
+     *
+     * @param reference
+     *            the given reference.
+     * @return the items of the given reference, or <code>null</code> if the reference is not part of the snapshot.
+     */
+    public List<EObject> getItems(EReference reference) {
+        return this.items.get(reference);
+    }
+
+    /**
+     * Get the items of the reference with the given name.
+     *
+     * @param referenceName
+     *            the name of the reference.
+     * @return the items of the reference, or <code>null</code> if the reference is not part of the snapshot.
+     */
+    public List<EObject> getItems(String referenceName) {
+        List<EObject> referenceItems = null;
+        for (Map.Entry<EReference, List<EObject>> entry : this.items.entrySet()) {
+            if (entry.getKey().getName().equals(referenceName)) {
+                referenceItems = entry.getValue();
+            }
+        }
+        return referenceItems;
+    }
+}
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+
+/**
+ * Connected components, fan-in, fan-out and dangling ends of the {@link PortUsage}s connected by
+ * {@link BindingConnectorAsUsage}s in a {@link ResourceSet}.
+ * <p>
+ * The ports found at the ends of the binding connectors are numbered, and merged in a union-find (with path halving
+ * and union by size) for each binding connector with both a source and a target port, so that the analysis runs in
+ * near-linear time in the number of binding connectors. The ports which are not connected to any binding connector
+ * are not part of the analysis. A binding connector is dangling when one of its ends is not a port contained in the
+ * {@link ResourceSet}.
+ * </p>
+ * <p>
+ * The root of the component of each port is resolved once the union-find is complete, so that the queries only read
+ * the analysis, which can then be shared by concurrent renderings.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class ConnectivityAnalysis {
+
+    private final Map<PortUsage, Integer> portIds = new IdentityHashMap<>();
+
+    private final List<PortUsage> ports = new ArrayList<>();
+
+    private int[] parents = new int[16];
+
+    private int[] sizes = new int[16];
+
+    private int[] fanIns = new int[16];
+
+    private int[] fanOuts = new int[16];
+
+    private int[] roots;
+
+    private final Set<BindingConnectorAsUsage> danglingConnectors = new LinkedHashSet<>();
+
+    private final Map<Integer, List<PortUsage>> componentsByRoot = new LinkedHashMap<>();
+
+    private ConnectivityAnalysis() {
+        // Use compute
+    }
+
+    /**
+     * Analyze the binding connectors of the given {@link ResourceSet}.
+     *
+     * @param resourceSet
+     *            the given {@link ResourceSet}.
+     * @return the analysis of the binding connectors of the given {@link ResourceSet}.
+     */
+    public static ConnectivityAnalysis compute(ResourceSet resourceSet) {
+        ConnectivityAnalysis analysis = new ConnectivityAnalysis();
+        for (BindingConnectorAsUsage bindingConnector : PortConnectivityIndex.getBindingConnectors(resourceSet)) {
+            PortUsage source = PortConnectivityIndex.getSourcePort(bindingConnector);
+            PortUsage target = PortConnectivityIndex.getTargetPort(bindingConnector);
+            int sourceId = analysis.getOrCreateId(source, resourceSet);
+            int targetId = analysis.getOrCreateId(target, resourceSet);
+            if (sourceId >= 0) {
+                analysis.fanOuts[sourceId]++;
+            }
+            if (targetId >= 0) {
+                analysis.fanIns[targetId]++;
+            }
+            if (sourceId >= 0 && targetId >= 0) {
+                analysis.union(sourceId, targetId);
+            } else {
+                analysis.danglingConnectors.add(bindingConnector);
+            }
+        }
+        analysis.roots = new int[analysis.ports.size()];
+        for (int id = 0; id < analysis.ports.size(); id++) {
+            analysis.roots[id] = analysis.find(id);
+            analysis.componentsByRoot.computeIfAbsent(analysis.roots[id], root -> new ArrayList<>()).add(analysis.ports.get(id));
+        }
+        return analysis;
+    }
+
+    /**
+     * Get the connected components of the ports, i.e. the groups of ports connected directly or transitively by
+     * binding connectors, in the order of their first port.
+     *
+     * @return the connected components of the ports.
+     */
+    public List<List<PortUsage>> getConnectedComponents() {
+        List<List<PortUsage>> components = new ArrayList<>(this.componentsByRoot.size());
+        this.componentsByRoot.values().forEach(component -> components.add(Collections.unmodifiableList(component)));
+        return components;
+    }
+
+    /**
+     * Get the ports of the connected component of the given port.
+     *
+     * @param port
+     *            the given {@link PortUsage}.
+     * @return the ports connected directly or transitively to the given port, the given port included, or an empty
+     *         list if the port is not connected to any binding connector.
+     */
+    public List<PortUsage> getConnectedComponent(PortUsage port) {
+        List<PortUsage> component = List.of();
+        Integer id = this.portIds.get(port);
+        if (id != null) {
+            component = Collections.unmodifiableList(this.componentsByRoot.get(this.roots[id]));
+        }
+        return component;
+    }
+
+    /**
+     * Check whether the given ports are connected, directly or transitively, by binding connectors.
+     *
+     * @param port
+     *            the first {@link PortUsage}.
+     * @param otherPort
+     *            the second {@link PortUsage}.
+     * @return <code>true</code> if the ports belong to the same connected component, <code>false</code> otherwise.
+     */
+    public boolean areConnected(PortUsage port, PortUsage otherPort) {
+        Integer id = this.portIds.get(port);
+        Integer otherId = this.portIds.get(otherPort);
+        return id != null && otherId != null && this.roots[id] == this.roots[otherId];
+    }
+
+    /**
+     * Get the number of binding connectors whose target is the given port.
+     *
+     * @param port
+     *            the given {@link PortUsage}.
+     * @return the fan-in of the given port.
+     */
+    public int getFanIn(PortUsage port) {
+        Integer id = this.portIds.get(port);
+        int fanIn = 0;
+        if (id != null) {
+            fanIn = this.fanIns[id];
+        }
+        return fanIn;
+    }
+
+    /**
+     * Get the number of binding connectors whose source is the given port.
+     *
+     * @param port
+     *            the given {@link PortUsage}.
+     * @return the fan-out of the given port.
+     */
+    public int getFanOut(PortUsage port) {
+        Integer id = this.portIds.get(port);
+        int fanOut = 0;
+        if (id != null) {
+            fanOut = this.fanOuts[id];
+        }
+        return fanOut;
+    }
+
+    /**
+     * Get the binding connectors with an end which is not a port of the {@link ResourceSet}.
+     *
+     * @return the dangling binding connectors.
+     */
+    public List<BindingConnectorAsUsage> getDanglingConnectors() {
+        return List.copyOf(this.danglingConnectors);
+    }
+
+    /**
+     * Check whether the given binding connector has an end which is not a port of the {@link ResourceSet}.
+     *
+     * @param bindingConnector
+     *            the given {@link BindingConnectorAsUsage}.
+     * @return <code>true</code> if the binding connector is dangling, <code>false</code> otherwise.
+     */
+    public boolean isDangling(BindingConnectorAsUsage bindingConnector) {
+        return this.danglingConnectors.contains(bindingConnector);
+    }
+
+    /**
+     * Get the number of ports connected to at least one binding connector.
+     *
+     * @return the number of connected ports.
+     */
+    public int getPortCount() {
+        return this.ports.size();
+    }
+
+    private int getOrCreateId(PortUsage port, ResourceSet resourceSet) {
+        int id = -1;
+        if (port != null && this.isInResourceSet(port, resourceSet)) {
+            Integer existingId = this.portIds.get(port);
+            if (existingId != null) {
+                id = existingId;
+            } else {
+                id = this.ports.size();
+                if (id == this.parents.length) {
+                    int capacity = id * 2;
+                    this.parents = Arrays.copyOf(this.parents, capacity);
+                    this.sizes = Arrays.copyOf(this.sizes, capacity);
+                    this.fanIns = Arrays.copyOf(this.fanIns, capacity);
+                    this.fanOuts = Arrays.copyOf(this.fanOuts, capacity);
+                }
+                this.parents[id] = id;
+                this.sizes[id] = 1;
+                this.ports.add(port);
+                this.portIds.put(port, id);
+            }
+        }
+        return id;
+    }
+
+    private boolean isInResourceSet(PortUsage port, ResourceSet resourceSet) {
+        Resource resource = port.eResource();
+        return resource != null && resource.getResourceSet() == resourceSet;
+    }
+
+    private int find(int id) {
+        int current = id;
+        while (this.parents[current] != current) {
+            this.parents[current] = this.parents[this.parents[current]];
+            current = this.parents[current];
+        }
+        return current;
+    }
+
+    private void union(int id, int otherId) {
+        int root = this.find(id);
+        int otherRoot = this.find(otherId);
+        if (root != otherRoot) {
+            if (this.sizes[root] < this.sizes[otherRoot]) {
+                int swap = root;
+                root = otherRoot;
+                otherRoot = swap;
+            }
+            this.parents[otherRoot] = root;
+            this.sizes[root] += this.sizes[otherRoot];
+        }
+    }
+}
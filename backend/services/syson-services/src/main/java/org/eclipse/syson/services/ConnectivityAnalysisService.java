@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.List;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+
+/**
+ * Connectivity-related Java services used by SysON representations, computed from the {@link ConnectivityAnalysis} of
+ * the binding connectors of the {@link ResourceSet}.
+ * <p>
+ * The analysis is computed once and shared by all the calls, as long as the connectivity graph of the
+ * {@link ResourceSet} does not change (see {@link PortConnectivityIndex#getModificationCount(ResourceSet)}).
+ * </p>
+ *
+ * @author arichard
+ */
+public class ConnectivityAnalysisService {
+
+    /**
+     * Get the {@link ConnectivityAnalysis} of the binding connectors of the {@link ResourceSet} of the given
+     * {@link EObject}.
+     *
+     * @param eObject
+     *            the {@link EObject} stored in a {@link ResourceSet}.
+     * @return the {@link ConnectivityAnalysis} of the {@link ResourceSet}, or <code>null</code> if the given object
+     *         is not stored in a {@link ResourceSet}.
+     */
+    public ConnectivityAnalysis getConnectivityAnalysis(EObject eObject) {
+        ConnectivityAnalysis analysis = null;
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            int modificationCount = PortConnectivityIndex.getModificationCount(resourceSet);
+            CachedAnalysis cachedAnalysis;
+            synchronized (resourceSet) {
+                cachedAnalysis = (CachedAnalysis) EcoreUtil.getExistingAdapter(resourceSet, CachedAnalysis.class);
+                if (cachedAnalysis == null) {
+                    cachedAnalysis = new CachedAnalysis();
+                    resourceSet.eAdapters().add(cachedAnalysis);
+                }
+            }
+            analysis = cachedAnalysis.get(resourceSet, modificationCount);
+        }
+        return analysis;
+    }
+
+    /**
+     * Get the ports connected, directly or transitively, to the given port by binding connectors.
+     *
+     * @param portUsage
+     *            the given {@link PortUsage}.
+     * @return the ports of the connected component of the given port.
+     */
+    public List<PortUsage> getConnectedComponent(PortUsage portUsage) {
+        List<PortUsage> component = List.of();
+        ConnectivityAnalysis analysis = this.getConnectivityAnalysis(portUsage);
+        if (analysis != null) {
+            component = analysis.getConnectedComponent(portUsage);
+        }
+        return component;
+    }
+
+    /**
+     * Get the number of binding connectors whose target is the given port.
+     *
+     * @param portUsage
+     *            the given {@link PortUsage}.
+     * @return the fan-in of the given port.
+     */
+    public int getFanIn(PortUsage portUsage) {
+        int fanIn = 0;
+        ConnectivityAnalysis analysis = this.getConnectivityAnalysis(portUsage);
+        if (analysis != null) {
+            fanIn = analysis.getFanIn(portUsage);
+        }
+        return fanIn;
+    }
+
+    /**
+     * Get the number of binding connectors whose source is the given port.
+     *
+     * @param portUsage
+     *            the given {@link PortUsage}.
+     * @return the fan-out of the given port.
+     */
+    public int getFanOut(PortUsage portUsage) {
+        int fanOut = 0;
+        ConnectivityAnalysis analysis = this.getConnectivityAnalysis(portUsage);
+        if (analysis != null) {
+            fanOut = analysis.getFanOut(portUsage);
+        }
+        return fanOut;
+    }
+
+    /**
+     * Check whether the given binding connector has an end which is not a port of its {@link ResourceSet}.
+     *
+     * @param bindingConnector
+     *            the given {@link BindingConnectorAsUsage}.
+     * @return <code>true</code> if the binding connector is dangling, <code>false</code> otherwise.
+     */
+    public boolean isDangling(BindingConnectorAsUsage bindingConnector) {
+        boolean isDangling = false;
+        ConnectivityAnalysis analysis = this.getConnectivityAnalysis(bindingConnector);
+        if (analysis != null) {
+            isDangling = analysis.isDangling(bindingConnector);
+        }
+        return isDangling;
+    }
+
+    /**
+     * The last {@link ConnectivityAnalysis} of a {@link ResourceSet}, with the modification count of its connectivity
+     * graph at the time of the analysis.
+     *
+     * @author arichard
+     */
+    private static final class CachedAnalysis extends AdapterImpl {
+
+        private ConnectivityAnalysis analysis;
+
+        private int modificationCount;
+
+        @Override
+        public boolean isAdapterForType(Object type) {
+            return type == CachedAnalysis.class;
+        }
+
+        synchronized ConnectivityAnalysis get(ResourceSet resourceSet, int currentModificationCount) {
+            if (this.analysis == null || this.modificationCount != currentModificationCount) {
+                this.analysis = ConnectivityAnalysis.compute(resourceSet);
+                this.modificationCount = currentModificationCount;
+            }
+            return this.analysis;
+        }
+    }
+}
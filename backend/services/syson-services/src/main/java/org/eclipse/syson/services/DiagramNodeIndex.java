@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * Index of the nodes of a {@link Diagram} by target object id, used to look up the nodes of the previous diagram
+ * during a rendering.
+ * <p>
+ * The indexes are retrieved from a {@link Cache}, which keeps the indexes of the last diagrams by identity. The
+ * services rendering several diagrams concurrently thus get the index of the previous diagram of their own rendering,
+ * built once per rendering, and the indexes of the old diagrams are dropped as new diagrams are rendered.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class DiagramNodeIndex {
+
+    private static final DiagramNodeIndex EMPTY = new DiagramNodeIndex(null);
+
+    private final Diagram diagram;
+
+    private final Map<String, List<Node>> nodesByTargetObjectId = new HashMap<>();
+
+    private final Map<Node, Node> parentNodes = new IdentityHashMap<>();
+
+    private DiagramNodeIndex(Diagram diagram) {
+        this.diagram = diagram;
+        if (diagram != null) {
+            this.index(null, diagram.getNodes());
+        }
+    }
+
+    /**
+     * Get the nodes of the indexed diagram targeting the given object, in depth-first order.
+     *
+     * @param targetObjectId
+     *            the id of the target object.
+     * @return the nodes targeting the given object, or an empty list if none.
+     */
+    public List<Node> getNodes(String targetObjectId) {
+        return this.nodesByTargetObjectId.getOrDefault(targetObjectId, List.of());
+    }
+
+    /**
+     * Get the first node of the indexed diagram targeting the given object.
+     *
+     * @param targetObjectId
+     *            the id of the target object.
+     * @return the first node targeting the given object, or <code>null</code> if none.
+     */
+    public Node getNode(String targetObjectId) {
+        List<Node> nodes = this.getNodes(targetObjectId);
+        Node node = null;
+        if (!nodes.isEmpty()) {
+            node = nodes.get(0);
+        }
+        return node;
+    }
+
+    /**
+     * Get the parent node of the given node of the indexed diagram.
+     *
+     * @param node
+     *            the given {@link Node}.
+     * @return the parent node, or <code>null</code> if the node is at the root of the diagram.
+     */
+    public Node getParentNode(Node node) {
+        return this.parentNodes.get(node);
+    }
+
+    private void index(Node parentNode, List<Node> nodes) {
+        for (Node node : nodes) {
+            this.nodesByTargetObjectId.computeIfAbsent(node.getTargetObjectId(), key -> new ArrayList<>()).add(node);
+            if (parentNode != null) {
+                this.parentNodes.put(node, parentNode);
+            }
+            this.index(node, node.getChildNodes());
+        }
+    }
+
+    /**
+     * Bounded cache of the {@link DiagramNodeIndex} of the last diagrams, compared by identity.
+     *
+     * @author arichard
+     */
+    public static final class Cache {
+
+        private final int capacity;
+
+        private final Deque<DiagramNodeIndex> indexes = new ArrayDeque<>();
+
+        /**
+         * Create a cache keeping the indexes of the given number of diagrams.
+         *
+         * @param capacity
+         *            the maximum number of indexes kept, i.e. of diagrams rendered concurrently.
+         */
+        public Cache(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Get the index of the given diagram, building it if needed.
+         *
+         * @param diagram
+         *            the given {@link Diagram}, usually the previous diagram of a rendering.
+         * @return the index of the given diagram, empty if the diagram is <code>null</code>.
+         */
+        public DiagramNodeIndex get(Diagram diagram) {
+            DiagramNodeIndex index = EMPTY;
+            if (diagram != null) {
+                index = this.find(diagram);
+                if (index == null) {
+                    // The index is built outside of the lock, a concurrent rendering of the same diagram builds its own
+                    index = new DiagramNodeIndex(diagram);
+                    this.add(index);
+                }
+            }
+            return index;
+        }
+
+        private synchronized DiagramNodeIndex find(Diagram diagram) {
+            DiagramNodeIndex result = null;
+            Iterator<DiagramNodeIndex> iterator = this.indexes.iterator();
+            while (result == null && iterator.hasNext()) {
+                DiagramNodeIndex index = iterator.next();
+                if (index.diagram == diagram) {
+                    result = index;
+                }
+            }
+            return result;
+        }
+
+        private synchronized void add(DiagramNodeIndex index) {
+            this.indexes.addFirst(index);
+            if (this.indexes.size() > this.capacity) {
+                this.indexes.removeLast();
+            }
+        }
+    }
+}
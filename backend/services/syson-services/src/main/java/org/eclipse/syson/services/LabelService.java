@@ -64,14 +64,15 @@ public class LabelService {
     }
 
     /**
-     * Return the container label for the given {@link Element}.
+     * Return the container label for the given {@link Element}. The label is only computed again if the element has
+     * been modified since the last time it has been computed (see {@link RenderingCache}).
      *
      * @param element
      *            the given {@link Element}.
      * @return the container label for the given {@link Element}.
      */
     public String getContainerLabel(Element element) {
-        return new MultiLineLabelSwitch().doSwitch(element);
+        return RenderingCache.get(element, "containerLabel", new MultiLineLabelSwitch()::doSwitch);
     }
 
     /**
@@ -103,8 +104,11 @@ public class LabelService {
         ParseTree tree = parser.expression();
         ParseTreeWalker walker = new ParseTreeWalker();
         DirectEditListener listener = new DiagramDirectEditListener(element, feedbackMessageService, options);
-        walker.walk(listener, tree);
-        return element;
+        // The name, multiplicity, typing, subsetting, redefinition and value of the element are notified once at the end
+        return NotificationBatch.run(element, () -> {
+            walker.walk(listener, tree);
+            return element;
+        });
     }
 
     /**
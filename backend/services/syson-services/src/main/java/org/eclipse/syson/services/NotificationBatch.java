@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Scope of a bulk modification of an {@link EObject}, which delivers one notification per modified feature instead of
+ * one notification per modification.
+ * <p>
+ * The delivery of the notifications of the target is disabled during the operation, and the values of its features
+ * are recorded before. Once the operation is done, the delivery is enabled again and the recorded values are compared
+ * to the new ones: each changed single-valued feature is notified with one {@link Notification#SET}, and each changed
+ * many-valued feature with the elements removed and added, so that the adapters of the target (e.g. the item providers
+ * and the cross referencer) see the same end result. Moving an element inside a list is not notified. The other
+ * objects modified by the operation, such as the relationships created under the target, notify their own changes as
+ * usual.
+ * </p>
+ * <p>
+ * The duration of the bulk modifications and the number of notifications delivered at their end are available in
+ * the <code>syson.notifications.batch.duration</code> and <code>syson.notifications.batch.delivered</code> metrics of
+ * the global {@link Metrics} registry.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class NotificationBatch {
+
+    private static final Timer DURATION = Timer.builder("syson.notifications.batch.duration")
+            .description("Duration of the bulk modifications, notifications included")
+            .register(Metrics.globalRegistry);
+
+    private static final DistributionSummary DELIVERED = DistributionSummary.builder("syson.notifications.batch.delivered")
+            .description("Number of notifications delivered at the end of a bulk modification")
+            .register(Metrics.globalRegistry);
+
+    private final InternalEObject target;
+
+    private final Map<EStructuralFeature, Object> oldValues = new LinkedHashMap<>();
+
+    private NotificationBatch(EObject target) {
+        this.target = (InternalEObject) Objects.requireNonNull(target);
+    }
+
+    /**
+     * Run the given operation, which modifies the given target, and deliver the notifications of the target once the
+     * operation is done. Nested batches on the same target are merged in the outermost one.
+     *
+     * @param target
+     *            the {@link EObject} modified by the operation.
+     * @param operation
+     *            the operation to run.
+     * @return the result of the operation.
+     */
+    public static <T> T run(EObject target, Supplier<T> operation) {
+        T result;
+        if (!(target instanceof InternalEObject) || !target.eDeliver()) {
+            result = operation.get();
+        } else {
+            NotificationBatch batch = new NotificationBatch(target);
+            result = DURATION.record(() -> {
+                batch.record();
+                target.eSetDeliver(false);
+                try {
+                    return operation.get();
+                } finally {
+                    target.eSetDeliver(true);
+                    DELIVERED.record(batch.deliver());
+                }
+            });
+        }
+        return result;
+    }
+
+    private void record() {
+        for (EStructuralFeature feature : this.target.eClass().getEAllStructuralFeatures()) {
+            if (this.isRecorded(feature)) {
+                Object value = this.target.eGet(feature, false);
+                if (feature.isMany()) {
+                    value = new ArrayList<>((List<?>) value);
+                }
+                this.oldValues.put(feature, value);
+            }
+        }
+    }
+
+    private boolean isRecorded(EStructuralFeature feature) {
+        return feature.isChangeable() && !feature.isDerived() && !feature.isTransient() && !feature.isVolatile();
+    }
+
+    private int deliver() {
+        int delivered = 0;
+        if (this.target.eNotificationRequired()) {
+            for (Entry<EStructuralFeature, Object> entry : this.oldValues.entrySet()) {
+                EStructuralFeature feature = entry.getKey();
+                Object newValue = this.target.eGet(feature, false);
+                if (feature.isMany()) {
+                    delivered += this.deliverListChanges(feature, (List<?>) entry.getValue(), (List<?>) newValue);
+                } else if (!Objects.equals(entry.getValue(), newValue)) {
+                    this.target.eNotify(new ENotificationImpl(this.target, Notification.SET, feature, entry.getValue(), newValue));
+                    delivered++;
+                }
+            }
+        }
+        return delivered;
+    }
+
+    private int deliverListChanges(EStructuralFeature feature, List<?> oldList, List<?> newList) {
+        int delivered = 0;
+        Set<Object> oldElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldElements.addAll(oldList);
+        Set<Object> newElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        newElements.addAll(newList);
+
+        List<Object> removed = new ArrayList<>();
+        List<Integer> removedPositions = new ArrayList<>();
+        for (int i = 0; i < oldList.size(); i++) {
+            if (!newElements.contains(oldList.get(i))) {
+                removed.add(oldList.get(i));
+                removedPositions.add(i);
+            }
+        }
+        if (removed.size() == 1) {
+            this.target.eNotify(new ENotificationImpl(this.target, Notification.REMOVE, feature, removed.get(0), null, removedPositions.get(0)));
+            delivered++;
+        } else if (!removed.isEmpty()) {
+            int[] positions = removedPositions.stream().mapToInt(Integer::intValue).toArray();
+            this.target.eNotify(new ENotificationImpl(this.target, Notification.REMOVE_MANY, feature, removed, positions, positions[0]));
+            delivered++;
+        }
+
+        List<Object> added = new ArrayList<>();
+        int firstAddedPosition = -1;
+        for (int i = 0; i < newList.size(); i++) {
+            if (!oldElements.contains(newList.get(i))) {
+                if (added.isEmpty()) {
+                    firstAddedPosition = i;
+                }
+                added.add(newList.get(i));
+            }
+        }
+        if (added.size() == 1) {
+            this.target.eNotify(new ENotificationImpl(this.target, Notification.ADD, feature, null, added.get(0), firstAddedPosition));
+            delivered++;
+        } else if (!added.isEmpty()) {
+            this.target.eNotify(new ENotificationImpl(this.target, Notification.ADD_MANY, feature, null, added, firstAddedPosition));
+            delivered++;
+        }
+        return delivered;
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.util.ModificationTracker;
+
+/**
+ * Values computed from the elements during the rendering of the representations (labels, compartment contents...),
+ * reused by the next renderings as long as the elements have not been modified (see {@link ModificationTracker}), so
+ * that the cost of a refresh depends on the elements modified by the command and not on the size of the
+ * representation.
+ * <p>
+ * The values are stored on the {@link ResourceSet} of the elements, and the values of an element are dropped as soon
+ * as it is detached from the {@link ResourceSet} (see {@link ModificationTracker#addDetachListener}), since they may
+ * reference its contents. The values of the elements which are not stored in a {@link ResourceSet} are not cached.
+ * </p>
+ *
+ * @author arichard
+ */
+public final class RenderingCache {
+
+    private RenderingCache() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the value of the given kind computed from the given element, computing it if the element has been modified
+     * since the value has been cached.
+     *
+     * @param <T>
+     *            the type of the value.
+     * @param <E>
+     *            the type of the element.
+     * @param element
+     *            the given element.
+     * @param kind
+     *            the kind of value (e.g. the name of the service computing it).
+     * @param compute
+     *            the computation of the value from the element.
+     * @return the value of the given kind for the given element.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E extends EObject> T get(E element, String kind, Function<E, T> compute) {
+        Resource resource = element.eResource();
+        if (resource == null || resource.getResourceSet() == null) {
+            return compute.apply(element);
+        }
+        ResourceSet resourceSet = resource.getResourceSet();
+        ModificationTracker tracker = ModificationTracker.get(resourceSet);
+        CachedValues cachedValues;
+        synchronized (resourceSet) {
+            cachedValues = (CachedValues) EcoreUtil.getExistingAdapter(resourceSet, CachedValues.class);
+            if (cachedValues == null) {
+                cachedValues = new CachedValues();
+                resourceSet.eAdapters().add(cachedValues);
+                tracker.addDetachListener(cachedValues::remove);
+            }
+        }
+        CachedValue cachedValue = cachedValues.get(element, kind);
+        if (cachedValue == null || tracker.isModifiedSince(element, cachedValue.modificationCount())) {
+            long modificationCount = tracker.getModificationCount();
+            cachedValue = new CachedValue(compute.apply(element), modificationCount);
+            cachedValues.put(element, kind, cachedValue);
+        }
+        return (T) cachedValue.value();
+    }
+
+    /**
+     * A value, with the modification count of the {@link ModificationTracker} when it has been computed.
+     *
+     * @author arichard
+     */
+    private record CachedValue(Object value, long modificationCount) {
+    }
+
+    /**
+     * The values cached for the elements of a {@link ResourceSet}.
+     *
+     * @author arichard
+     */
+    private static final class CachedValues extends AdapterImpl {
+
+        private final Map<EObject, Map<String, CachedValue>> values = new HashMap<>();
+
+        @Override
+        public boolean isAdapterForType(Object type) {
+            return type == CachedValues.class;
+        }
+
+        synchronized CachedValue get(EObject element, String kind) {
+            CachedValue cachedValue = null;
+            Map<String, CachedValue> elementValues = this.values.get(element);
+            if (elementValues != null) {
+                cachedValue = elementValues.get(kind);
+            }
+            return cachedValue;
+        }
+
+        synchronized void put(EObject element, String kind, CachedValue cachedValue) {
+            this.values.computeIfAbsent(element, key -> new HashMap<>()).put(kind, cachedValue);
+        }
+
+        synchronized void remove(EObject element) {
+            this.values.remove(element);
+        }
+    }
+}
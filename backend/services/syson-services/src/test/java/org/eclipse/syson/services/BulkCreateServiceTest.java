@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addBindingConnector;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addPort;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.createPart;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.util.ModificationTracker;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BulkCreateService} tests.
+ *
+ * @author arichard
+ */
+public class BulkCreateServiceTest {
+
+    private static final int CONNECTOR_COUNT = 10_000;
+
+    private final Logger logger = LoggerFactory.getLogger(BulkCreateServiceTest.class);
+
+    @Test
+    void testCreateBindingConnectors() {
+        PartUsage part = createPart(new ResourceSetImpl());
+        List<PortUsage> sources = List.of(addPort(part), addPort(part));
+        List<PortUsage> targets = List.of(addPort(part), addPort(part));
+        List<Notification> notifications = new ArrayList<>();
+        part.eAdapters().add(new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification msg) {
+                notifications.add(msg);
+            }
+        });
+
+        List<BindingConnectorAsUsage> bindingConnectors = new BulkCreateService().createBindingConnectors(part, sources, targets);
+
+        assertEquals(2, bindingConnectors.size());
+        for (int i = 0; i < bindingConnectors.size(); i++) {
+            BindingConnectorAsUsage bindingConnector = bindingConnectors.get(i);
+            assertEquals(part, bindingConnector.getOwningUsage());
+            assertEquals(BulkCreateService.BINDING_CONNECTOR_NAME, bindingConnector.getDeclaredName());
+            assertEquals(sources.get(i), bindingConnector.getSourceFeature());
+            assertEquals(List.of(targets.get(i)), bindingConnector.getTargetFeature());
+            assertTrue(bindingConnector.getConnectorEnd().stream().allMatch(Feature::isIsEnd));
+            assertEquals(List.of(targets.get(i)), PortConnectivityIndex.getConnectedPorts(sources.get(i)));
+        }
+        assertEquals(1, notifications.size());
+        assertEquals(Notification.ADD_MANY, notifications.get(0).getEventType());
+        assertThrows(IllegalArgumentException.class, () -> new BulkCreateService().createBindingConnectors(part, sources, List.of()));
+    }
+
+    @Test
+    void testCreateNestedParts() {
+        PartUsage part = createPart(new ResourceSetImpl());
+        List<PartUsage> nestedParts = new BulkCreateService().createNestedParts(part, List.of("part1", "part2", "part3"));
+        assertEquals(nestedParts, part.getNestedPart());
+        assertEquals("part3", nestedParts.get(2).getDeclaredName());
+        PartUsage singlePart = new BulkCreateService().createNestedParts(nestedParts.get(0), List.of("part")).get(0);
+        assertEquals(nestedParts.get(0), singlePart.getOwningUsage());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testBindingConnectorsThroughput() {
+        List<Long> durations = new ArrayList<>();
+        for (boolean bulk : List.of(false, true)) {
+            ResourceSet resourceSet = new ResourceSetImpl();
+            PartUsage part = createPart(resourceSet);
+            // The adapters installed on the resource set of an editing context
+            resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+            ModificationTracker.get(resourceSet);
+            List<PortUsage> sources = new ArrayList<>(CONNECTOR_COUNT);
+            List<PortUsage> targets = new ArrayList<>(CONNECTOR_COUNT);
+            for (int i = 0; i < CONNECTOR_COUNT; i++) {
+                sources.add(addPort(part));
+                targets.add(addPort(part));
+            }
+
+            long start = System.nanoTime();
+            if (bulk) {
+                new BulkCreateService().createBindingConnectors(part, sources, targets);
+            } else {
+                // One object at a time, as done by the creation services before the bulk creation
+                for (int i = 0; i < CONNECTOR_COUNT; i++) {
+                    addBindingConnector(part, sources.get(i), targets.get(i)).setDeclaredName(BulkCreateService.BINDING_CONNECTOR_NAME);
+                }
+            }
+            durations.add(System.nanoTime() - start);
+            assertEquals(CONNECTOR_COUNT, PortConnectivityIndex.getBindingConnectors(resourceSet).size());
+        }
+        this.logger.info("{} binding connectors created in {} ms one by one ({} connectors/s), in {} ms in bulk ({} connectors/s)", CONNECTOR_COUNT,
+                durations.get(0) / 1_000_000, this.getThroughput(durations.get(0)), durations.get(1) / 1_000_000, this.getThroughput(durations.get(1)));
+    }
+
+    private long getThroughput(long duration) {
+        return CONNECTOR_COUNT * 1_000_000_000L / Math.max(duration, 1);
+    }
+}
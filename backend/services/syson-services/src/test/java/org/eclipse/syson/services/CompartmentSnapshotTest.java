@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.EnumerationDefinition;
+import org.eclipse.syson.sysml.EnumerationUsage;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.VariantMembership;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link CompartmentSnapshot} tests.
+ *
+ * @author arichard
+ */
+public class CompartmentSnapshotTest {
+
+    private static final int ATTRIBUTE_COUNT = 500;
+
+    private static final int PORT_COUNT = 100;
+
+    private static final int RENDERING_COUNT = 100;
+
+    private static final List<EReference> PART_DEFINITION_REFERENCES = List.of(SysmlPackage.eINSTANCE.getDefinition_OwnedAttribute(), SysmlPackage.eINSTANCE.getDefinition_OwnedPort());
+
+    private final Logger logger = LoggerFactory.getLogger(CompartmentSnapshotTest.class);
+
+    @Test
+    void testCompartmentSnapshot() {
+        PartDefinition partDefinition = this.createPartDefinition(new ResourceSetImpl(), 3, 2);
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        partDefinition.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(SysmlFactory.eINSTANCE.createAttributeUsage());
+
+        CompartmentSnapshot snapshot = CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES);
+        assertEquals(partDefinition.getOwnedAttribute(), snapshot.getItems(SysmlPackage.eINSTANCE.getDefinition_OwnedAttribute()));
+        assertEquals(partDefinition.getOwnedPort(), snapshot.getItems("ownedPort"));
+        assertEquals(3, snapshot.getItems("ownedAttribute").size());
+        assertEquals(null, snapshot.getItems("ownedReference"));
+
+        // The snapshot is shared until the element or its contents are modified
+        assertSame(snapshot, CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES));
+        partDefinition.getOwnedAttribute().get(0).setDeclaredName("renamed");
+        CompartmentSnapshot renamedSnapshot = CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES);
+        assertNotSame(snapshot, renamedSnapshot);
+        this.addFeature(partDefinition, SysmlFactory.eINSTANCE.createAttributeUsage());
+        CompartmentSnapshot newSnapshot = CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES);
+        assertNotSame(renamedSnapshot, newSnapshot);
+        assertEquals(partDefinition.getOwnedAttribute(), newSnapshot.getItems("ownedAttribute"));
+    }
+
+    @Test
+    void testEnumeratedValues() {
+        EnumerationDefinition enumerationDefinition = SysmlFactory.eINSTANCE.createEnumerationDefinition();
+        for (int i = 0; i < 3; i++) {
+            VariantMembership variantMembership = SysmlFactory.eINSTANCE.createVariantMembership();
+            enumerationDefinition.getOwnedRelationship().add(variantMembership);
+            EnumerationUsage enumerationUsage = SysmlFactory.eINSTANCE.createEnumerationUsage();
+            variantMembership.getOwnedRelatedElement().add(enumerationUsage);
+        }
+        this.addFeature(enumerationDefinition, SysmlFactory.eINSTANCE.createEnumerationUsage());
+
+        CompartmentSnapshot snapshot = CompartmentSnapshot.compute(enumerationDefinition, List.of(SysmlPackage.eINSTANCE.getEnumerationDefinition_EnumeratedValue()));
+        assertEquals(enumerationDefinition.getEnumeratedValue(), snapshot.getItems("enumeratedValue"));
+        assertEquals(3, snapshot.getItems("enumeratedValue").size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testCompartmentSnapshotOfLargeDefinitions() {
+        PartDefinition partDefinition = this.createPartDefinition(new ResourceSetImpl(), ATTRIBUTE_COUNT, PORT_COUNT);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RENDERING_COUNT; i++) {
+            partDefinition.getOwnedAttribute();
+            partDefinition.getOwnedPort();
+        }
+        long derivedReferences = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < RENDERING_COUNT; i++) {
+            CompartmentSnapshot.compute(partDefinition, PART_DEFINITION_REFERENCES);
+        }
+        long snapshots = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < RENDERING_COUNT; i++) {
+            CompartmentSnapshot snapshot = CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES);
+            snapshot.getItems("ownedAttribute");
+            snapshot.getItems("ownedPort");
+        }
+        long cachedSnapshots = System.nanoTime() - start;
+        this.logger.info("Compartments of a part definition with {} attributes and {} ports computed {} times: {} ms with the derived references, {} ms with snapshots, {} ms with cached snapshots",
+                ATTRIBUTE_COUNT, PORT_COUNT, RENDERING_COUNT, derivedReferences / 1_000_000, snapshots / 1_000_000, cachedSnapshots / 1_000_000);
+
+        CompartmentSnapshot snapshot = CompartmentSnapshot.get(partDefinition, PART_DEFINITION_REFERENCES);
+        assertEquals(ATTRIBUTE_COUNT, snapshot.getItems("ownedAttribute").size());
+        assertEquals(PORT_COUNT, snapshot.getItems("ownedPort").size());
+    }
+
+    private PartDefinition createPartDefinition(ResourceSet resourceSet, int attributeCount, int portCount) {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        resourceSet.getResources().add(resource);
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        resource.getContents().add(partDefinition);
+        for (int i = 0; i < attributeCount; i++) {
+            AttributeUsage attributeUsage = SysmlFactory.eINSTANCE.createAttributeUsage();
+            attributeUsage.setDeclaredName("attribute" + i);
+            this.addFeature(partDefinition, attributeUsage);
+            if (i < portCount) {
+                PortUsage portUsage = SysmlFactory.eINSTANCE.createPortUsage();
+                portUsage.setDeclaredName("port" + i);
+                this.addFeature(partDefinition, portUsage);
+            }
+        }
+        return partDefinition;
+    }
+
+    private void addFeature(Element owner, Element feature) {
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(feature);
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addBindingConnector;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.addPort;
+import static org.eclipse.syson.sysml.metamodel.ConnectorFixtures.createPart;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.BindingConnectorAsUsage;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ConnectivityAnalysis} and {@link ConnectivityAnalysisService} tests.
+ *
+ * @author arichard
+ */
+public class ConnectivityAnalysisTest {
+
+    private static final int CONNECTOR_COUNT = 20_000;
+
+    private final Logger logger = LoggerFactory.getLogger(ConnectivityAnalysisTest.class);
+
+    @Test
+    void testConnectivityAnalysis() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        PartUsage part = createPart(resourceSet);
+        PortUsage port1 = addPort(part);
+        PortUsage port2 = addPort(part);
+        PortUsage port3 = addPort(part);
+        PortUsage port4 = addPort(part);
+        PortUsage port5 = addPort(part);
+        addBindingConnector(part, port1, port2);
+        addBindingConnector(part, port1, port3);
+        addBindingConnector(part, port4, port5);
+        BindingConnectorAsUsage dangling = addBindingConnector(part, port5, SysmlFactory.eINSTANCE.createPortUsage());
+
+        ConnectivityAnalysisService service = new ConnectivityAnalysisService();
+        ConnectivityAnalysis analysis = service.getConnectivityAnalysis(part);
+        assertEquals(List.of(List.of(port1, port2, port3), List.of(port4, port5)), analysis.getConnectedComponents());
+        assertTrue(analysis.areConnected(port2, port3));
+        assertFalse(analysis.areConnected(port1, port4));
+        assertEquals(2, service.getFanOut(port1));
+        assertEquals(0, service.getFanIn(port1));
+        assertEquals(1, service.getFanIn(port5));
+        assertEquals(List.of(dangling), analysis.getDanglingConnectors());
+        assertTrue(service.isDangling(dangling));
+
+        // The analysis is shared until the connectivity graph changes
+        assertSame(analysis, service.getConnectivityAnalysis(port1));
+        addBindingConnector(part, port3, port4);
+        assertEquals(List.of(port1, port2, port3, port4, port5), service.getConnectedComponent(port5));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testConnectivityAnalysisOfLargeModels() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        PartUsage part = createPart(resourceSet);
+        List<PortUsage> ports = new ArrayList<>();
+        for (int i = 0; i < CONNECTOR_COUNT; i++) {
+            ports.add(addPort(part));
+        }
+        for (int i = 0; i < CONNECTOR_COUNT; i++) {
+            // Chains of 10 ports
+            if (i % 10 != 9) {
+                addBindingConnector(part, ports.get(i), ports.get(i + 1));
+            }
+        }
+
+        Instant start = Instant.now();
+        ConnectivityAnalysis analysis = ConnectivityAnalysis.compute(resourceSet);
+        long firstAnalysis = Duration.between(start, Instant.now()).toMillis();
+        start = Instant.now();
+        analysis = ConnectivityAnalysis.compute(resourceSet);
+        long secondAnalysis = Duration.between(start, Instant.now()).toMillis();
+        this.logger.info("Analysis of {} binding connectors in {} ms, then {} ms once the connectivity graph is built", CONNECTOR_COUNT * 9 / 10, firstAnalysis, secondAnalysis);
+
+        assertEquals(CONNECTOR_COUNT / 10, analysis.getConnectedComponents().size());
+        assertEquals(CONNECTOR_COUNT, analysis.getPortCount());
+        assertTrue(analysis.getDanglingConnectors().isEmpty());
+    }
+}
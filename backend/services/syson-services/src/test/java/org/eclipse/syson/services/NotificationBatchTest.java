@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link NotificationBatch} tests.
+ *
+ * @author arichard
+ */
+public class NotificationBatchTest {
+
+    @DisplayName("The changes of a bulk modification are notified once per feature")
+    @Test
+    void testCoalescedNotifications() {
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        partUsage.setDeclaredName("initial");
+        OwningMembership removedMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        partUsage.getOwnedRelationship().add(removedMembership);
+        List<Notification> notifications = new ArrayList<>();
+        partUsage.eAdapters().add(new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification msg) {
+                notifications.add(msg);
+            }
+        });
+
+        NotificationBatch.run(partUsage, () -> {
+            partUsage.setDeclaredName("intermediate");
+            partUsage.setDeclaredName("final");
+            partUsage.setIsVariation(true);
+            partUsage.setIsVariation(false);
+            partUsage.getOwnedRelationship().remove(removedMembership);
+            FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+            partUsage.getOwnedRelationship().add(featureTyping);
+            partUsage.getOwnedRelationship().add(SysmlFactory.eINSTANCE.createOwningMembership());
+            return partUsage;
+        });
+
+        assertTrue(partUsage.eDeliver());
+        assertEquals(3, notifications.size());
+        assertEquals(SysmlPackage.eINSTANCE.getElement_DeclaredName(), notifications.get(0).getFeature());
+        assertEquals("initial", notifications.get(0).getOldValue());
+        assertEquals("final", notifications.get(0).getNewValue());
+        assertEquals(Notification.REMOVE, notifications.get(1).getEventType());
+        assertEquals(removedMembership, notifications.get(1).getOldValue());
+        assertEquals(Notification.ADD_MANY, notifications.get(2).getEventType());
+        assertEquals(2, ((List<?>) notifications.get(2).getNewValue()).size());
+    }
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RenderingCache} tests, i.e. the values computed during the rendering are computed again once the elements they
+ * are computed from are modified.
+ *
+ * @author arichard
+ */
+public class RenderingCacheTest {
+
+    private Package root;
+
+    private PartDefinition vehicle;
+
+    private PartDefinition bike;
+
+    private PartUsage engine;
+
+    private FeatureTyping engineTyping;
+
+    @BeforeEach
+    void setUp() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        this.root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(this.root);
+        this.vehicle = this.addPartDefinition("Vehicle");
+        this.bike = this.addPartDefinition("Bike");
+        PartDefinition system = this.addPartDefinition("System");
+        this.engine = SysmlFactory.eINSTANCE.createPartUsage();
+        this.engine.setDeclaredName("engine");
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        system.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(this.engine);
+        this.engineTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        this.engineTyping.setTypedFeature(this.engine);
+        this.engineTyping.setType(this.vehicle);
+        this.engine.getOwnedRelationship().add(this.engineTyping);
+    }
+
+    @Test
+    void testValuesAreComputedAgainAfterRetyping() {
+        AtomicInteger computations = new AtomicInteger();
+        Function<PartUsage, String> typeName = partUsage -> {
+            computations.incrementAndGet();
+            return partUsage.getDefinition().get(0).getDeclaredName();
+        };
+        assertEquals("Vehicle", RenderingCache.get(this.engine, "typeName", typeName));
+        assertEquals("Vehicle", RenderingCache.get(this.engine, "typeName", typeName));
+        assertEquals(1, computations.get());
+
+        // The modifications of the other elements do not impact the cached value
+        this.addPartDefinition("Wheel");
+        this.bike.setIsAbstract(true);
+        assertEquals("Vehicle", RenderingCache.get(this.engine, "typeName", typeName));
+        assertEquals(1, computations.get());
+
+        // Changing the type of the feature typing owned by the usage modifies the usage
+        this.engineTyping.setType(this.bike);
+        assertEquals("Bike", RenderingCache.get(this.engine, "typeName", typeName));
+        assertEquals("Bike", RenderingCache.get(this.engine, "typeName", typeName));
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testValuesAreDroppedWithDetachedElements() {
+        AtomicInteger computations = new AtomicInteger();
+        Function<PartUsage, String> name = partUsage -> {
+            computations.incrementAndGet();
+            return partUsage.getDeclaredName();
+        };
+        assertEquals("engine", RenderingCache.get(this.engine, "name", name));
+        assertEquals(1, computations.get());
+
+        // The values of a detached element are dropped, even if it is attached again without being modified
+        FeatureMembership featureMembership = (FeatureMembership) this.engine.getOwningRelationship();
+        PartDefinition system = (PartDefinition) featureMembership.getOwningRelatedElement();
+        system.getOwnedRelationship().remove(featureMembership);
+        system.getOwnedRelationship().add(featureMembership);
+        assertEquals("engine", RenderingCache.get(this.engine, "name", name));
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void testContainerLabelIsRefreshedAfterRetyping() {
+        IFeedbackMessageService feedbackMessageService = (IFeedbackMessageService) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { IFeedbackMessageService.class },
+                (proxy, method, arguments) -> null);
+        LabelService labelService = new LabelService(feedbackMessageService);
+        assertTrue(labelService.getContainerLabel(this.engine).endsWith("engine : Vehicle"));
+
+        this.engineTyping.setType(this.bike);
+        assertTrue(labelService.getContainerLabel(this.engine).endsWith("engine : Bike"));
+
+        // The new name of the type is displayed as well
+        this.bike.setDeclaredName("Bicycle");
+        assertTrue(labelService.getContainerLabel(this.engine).endsWith("engine : Bicycle"));
+    }
+
+    private PartDefinition addPartDefinition(String name) {
+        PartDefinition partDefinition = SysmlFactory.eINSTANCE.createPartDefinition();
+        partDefinition.setDeclaredName(name);
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(partDefinition);
+        return partDefinition;
+    }
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link UtilService} tests.
+ *
+ * @author arichard
+ */
+public class UtilServiceTest {
+
+    private UtilService utilService;
+
+    private Package root;
+
+    @BeforeEach
+    void setUp() {
+        this.utilService = new UtilService();
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        this.root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(this.root);
+    }
+
+    @Test
+    void testReachableFeatureTypingsOwnedByNestedUsages() {
+        PartDefinition vehicle = SysmlFactory.eINSTANCE.createPartDefinition();
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(vehicle);
+        PartUsage system = SysmlFactory.eINSTANCE.createPartUsage();
+        OwningMembership systemMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(systemMembership);
+        systemMembership.getOwnedRelatedElement().add(system);
+        PartUsage car = this.addNestedPart(system);
+        PartUsage wheel = this.addNestedPart(car);
+        FeatureTyping carTyping = this.addTyping(car, vehicle);
+        FeatureTyping wheelTyping = this.addTyping(wheel, vehicle);
+
+        List<EObject> featureTypings = this.utilService.getAllReachable(this.root, SysmlPackage.eINSTANCE.getFeatureTyping());
+        assertEquals(List.of(carTyping, wheelTyping), featureTypings);
+    }
+
+    @Test
+    void testReachableFeatureTypingsWithUnresolvedTypes() {
+        PartDefinition libraryType = SysmlFactory.eINSTANCE.createPartDefinition();
+        ((InternalEObject) libraryType).eSetProxyURI(URI.createURI("kermllibrary:///" + UUID.randomUUID() + "#" + UUID.randomUUID()));
+        PartUsage part = SysmlFactory.eINSTANCE.createPartUsage();
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(part);
+        FeatureTyping featureTyping = this.addTyping(part, libraryType);
+
+        List<EObject> featureTypings = this.utilService.getAllReachable(this.root, SysmlPackage.eINSTANCE.getFeatureTyping());
+        assertEquals(List.of(featureTyping), featureTypings);
+        assertTrue(featureTyping.getType().eIsProxy());
+    }
+
+    private PartUsage addNestedPart(Usage owner) {
+        PartUsage partUsage = SysmlFactory.eINSTANCE.createPartUsage();
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(partUsage);
+        return partUsage;
+    }
+
+    private FeatureTyping addTyping(Usage usage, Type type) {
+        FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setTypedFeature(usage);
+        featureTyping.setType(type);
+        usage.getOwnedRelationship().add(featureTyping);
+        return featureTyping;
+    }
+}
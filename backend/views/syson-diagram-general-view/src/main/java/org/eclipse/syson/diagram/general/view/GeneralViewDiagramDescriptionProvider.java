@@ -48,8 +48,11 @@ import org.eclipse.syson.diagram.general.view.nodes.EmptyDiagramNodeDescriptionP
 import org.eclipse.syson.diagram.general.view.nodes.FakeNodeDescriptionProvider;
 import org.eclipse.syson.diagram.general.view.nodes.PackageNodeDescriptionProvider;
 import org.eclipse.syson.diagram.general.view.nodes.UsageNodeDescriptionProvider;
+import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeToolProvider;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.SysMLMetamodelHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Description of the General View diagram using the ViewBuilder API from Sirius Web.
@@ -91,6 +94,8 @@ public class GeneralViewDiagramDescriptionProvider implements IRepresentationDes
             Map.entry(SysmlPackage.eINSTANCE.getPortUsage(),             List.of(SysmlPackage.eINSTANCE.getUsage_NestedAttribute(), SysmlPackage.eINSTANCE.getUsage_NestedReference()))
             );
 
+    private final Logger logger = LoggerFactory.getLogger(GeneralViewDiagramDescriptionProvider.class);
+
     private final DiagramBuilders diagramBuilderHelper = new DiagramBuilders();
 
     private final ViewBuilders viewBuilderHelper = new ViewBuilders();
@@ -108,12 +113,14 @@ public class GeneralViewDiagramDescriptionProvider implements IRepresentationDes
 
         var diagramDescription = diagramDescriptionBuilder.build();
 
+        long start = System.nanoTime();
         var cache = new GeneralViewDiagramElementFinder();
+        var edgeToolProvider = new GeneralViewEdgeToolProvider(cache);
         var diagramElementDescriptionProviders = new ArrayList<IDiagramElementDescriptionProvider<? extends DiagramElementDescription>>();
         diagramElementDescriptionProviders.add(new FakeNodeDescriptionProvider(colorProvider));
         diagramElementDescriptionProviders.add(new EmptyDiagramNodeDescriptionProvider(colorProvider));
 
-        diagramElementDescriptionProviders.add(new PackageNodeDescriptionProvider(colorProvider));
+        diagramElementDescriptionProviders.add(new PackageNodeDescriptionProvider(colorProvider, edgeToolProvider));
         diagramElementDescriptionProviders.add(new PartDefinitionOwnedItemEdgeDescriptionProvider(colorProvider));
         diagramElementDescriptionProviders.add(new PartUsageNestedPartEdgeDescriptionProvider(colorProvider));
         diagramElementDescriptionProviders.add(new DependencyEdgeDescriptionProvider(colorProvider));
@@ -123,11 +130,11 @@ public class GeneralViewDiagramDescriptionProvider implements IRepresentationDes
         diagramElementDescriptionProviders.add(new FeatureTypingEdgeDescriptionProvider(colorProvider));
 
         DEFINITIONS.forEach(definition -> {
-            diagramElementDescriptionProviders.add(new DefinitionNodeDescriptionProvider(definition, colorProvider));
+            diagramElementDescriptionProviders.add(new DefinitionNodeDescriptionProvider(definition, colorProvider, edgeToolProvider));
         });
 
         USAGES.forEach(usage -> {
-            diagramElementDescriptionProviders.add(new UsageNodeDescriptionProvider(usage, colorProvider));
+            diagramElementDescriptionProviders.add(new UsageNodeDescriptionProvider(usage, colorProvider, edgeToolProvider));
         });
 
         COMPARTMENTS_WITH_LIST_ITEMS.forEach((eClass, listItems) -> {
@@ -145,6 +152,15 @@ public class GeneralViewDiagramDescriptionProvider implements IRepresentationDes
         var palette = this.createDiagramPalette(cache);
         diagramDescription.setPalette(palette);
 
+        if (this.logger.isDebugEnabled()) {
+            int size = 0;
+            for (var iterator = diagramDescription.eAllContents(); iterator.hasNext(); iterator.next()) {
+                size++;
+            }
+            this.logger.debug("{} description created in {} ms: {} objects, {} edge tools built for {} edge tools", DESCRIPTION_NAME, (System.nanoTime() - start) / 1_000_000, size,
+                    edgeToolProvider.getBuiltEdgeToolCount(), edgeToolProvider.getEdgeToolCount());
+        }
+
         return diagramDescription;
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -33,29 +33,30 @@ public class GeneralViewDiagramElementFinder implements IViewObjectCache, IViewD
 
     private final Map<String, List<EObject>> data = new HashMap<>();
 
+    private final Map<String, NodeDescription> nodeDescriptionsByName = new HashMap<>();
+
+    private final Map<String, EdgeDescription> edgeDescriptionsByName = new HashMap<>();
+
     @Override
     public void put(EObject eObject) {
         var eObjects = this.data.getOrDefault(eObject.eClass().getName(), new ArrayList<>());
         eObjects.add(eObject);
         this.data.put(eObject.eClass().getName(), eObjects);
+        if (eObject instanceof NodeDescription nodeDescription && nodeDescription.getName() != null) {
+            this.nodeDescriptionsByName.putIfAbsent(nodeDescription.getName(), nodeDescription);
+        } else if (eObject instanceof EdgeDescription edgeDescription && edgeDescription.getName() != null) {
+            this.edgeDescriptionsByName.putIfAbsent(edgeDescription.getName(), edgeDescription);
+        }
     }
 
     @Override
     public Optional<NodeDescription> getNodeDescription(String name) {
-        return this.data.getOrDefault("NodeDescription", List.of()).stream()
-                .filter(NodeDescription.class::isInstance)
-                .map(NodeDescription.class::cast)
-                .filter(nodeDescription -> nodeDescription.getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(this.nodeDescriptionsByName.get(name));
     }
 
     @Override
     public Optional<EdgeDescription> getEdgeDescription(String name) {
-        return this.data.getOrDefault("EdgeDescription", List.of()).stream()
-                .filter(EdgeDescription.class::isInstance)
-                .map(EdgeDescription.class::cast)
-                .filter(edgeDescription -> edgeDescription.getName().equals(name))
-                .findFirst();
+        return Optional.ofNullable(this.edgeDescriptionsByName.get(name));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewCreateService;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeService;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewLabelService;
+import org.eclipse.syson.diagram.general.view.services.GeneralViewNodeService;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewToolService;
 import org.eclipse.syson.services.DeleteService;
 import org.eclipse.syson.services.UtilService;
@@ -43,6 +44,7 @@ public class GeneralViewJavaServiceProvider implements IJavaServiceProvider {
                     DeleteService.class,
                     GeneralViewEdgeService.class,
                     GeneralViewLabelService.class,
+                    GeneralViewNodeService.class,
                     GeneralViewToolService.class,
                     UtilService.class);
         }
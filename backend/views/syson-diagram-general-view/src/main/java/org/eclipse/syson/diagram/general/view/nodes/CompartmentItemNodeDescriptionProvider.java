@@ -51,7 +51,8 @@ public class CompartmentItemNodeDescriptionProvider extends AbstractNodeDescript
                 .domainType(SysMLMetamodelHelper.buildQualifiedName(this.eReference.getEType()))
                 .labelExpression(AQLConstants.AQL_SELF + ".getCompartmentItemUsageLabel()")
                 .name(GVDescriptionNameGenerator.getCompartmentItemName(this.eClass, this.eReference))
-                .semanticCandidatesExpression(AQLConstants.AQL_SELF + "." + this.eReference.getName())
+                .semanticCandidatesExpression(AQLConstants.AQL_SELF + ".getCompartmentItemCandidates('" + this.eReference.getName() + "', '"
+                        + GVDescriptionNameGenerator.getCompartmentItemName(this.eClass, this.eReference) + "', editingContext, previousDiagram)")
                 .style(this.createCompartmentItemNodeStyle())
                 .userResizable(false)
                 .palette(this.createCompartmentItemNodePalette())
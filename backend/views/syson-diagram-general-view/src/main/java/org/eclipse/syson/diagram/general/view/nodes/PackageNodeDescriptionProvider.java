@@ -14,6 +14,7 @@ package org.eclipse.syson.diagram.general.view.nodes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.sirius.components.view.builder.IViewDiagramElementFinder;
@@ -31,6 +32,7 @@ import org.eclipse.sirius.components.view.diagram.NodeToolSection;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.syson.diagram.general.view.GVDescriptionNameGenerator;
 import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeToolProvider;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeToolSwitch;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysmlcustomnodes.SysMLCustomnodesFactory;
@@ -48,8 +50,11 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
 
     public static final String NAME = "GV Node Package";
 
-    public PackageNodeDescriptionProvider(IColorProvider colorProvider) {
+    private final GeneralViewEdgeToolProvider edgeToolProvider;
+
+    public PackageNodeDescriptionProvider(IColorProvider colorProvider, GeneralViewEdgeToolProvider edgeToolProvider) {
         super(colorProvider);
+        this.edgeToolProvider = Objects.requireNonNull(edgeToolProvider);
     }
 
     @Override
@@ -63,7 +68,7 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
                 .domainType(domainType)
                 .labelExpression("aql:self.getContainerLabel()")
                 .name(NAME)
-                .semanticCandidatesExpression("aql:self.getAllReachable(" + domainType + ")")
+                .semanticCandidatesExpression("aql:self.getNodeCandidates(" + domainType + ", editingContext, diagramContext, previousDiagram)")
                 .style(this.createPackageNodeStyle())
                 .userResizable(true)
                 .synchronizationPolicy(SynchronizationPolicy.UNSYNCHRONIZED)
@@ -76,23 +81,18 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
         NodeDescription packageNodeDescription = optPackageNodeDescription.get();
         diagramDescription.getNodeDescriptions().add(packageNodeDescription);
 
-        var allTargetNodeDescriptions = new ArrayList<NodeDescription>();
-
         GeneralViewDiagramDescriptionProvider.DEFINITIONS.forEach(definition -> {
             var optNodeDescription = cache.getNodeDescription(GVDescriptionNameGenerator.getNodeName(definition));
-            allTargetNodeDescriptions.add(optNodeDescription.get());
             packageNodeDescription.getReusedChildNodeDescriptions().add(optNodeDescription.get());
         });
 
         GeneralViewDiagramDescriptionProvider.USAGES.forEach(usage -> {
             var optNodeDescription = cache.getNodeDescription(GVDescriptionNameGenerator.getNodeName(usage));
-            allTargetNodeDescriptions.add(optNodeDescription.get());
             packageNodeDescription.getReusedChildNodeDescriptions().add(optNodeDescription.get());
         });
 
-        allTargetNodeDescriptions.add(packageNodeDescription);
         packageNodeDescription.getReusedChildNodeDescriptions().add(packageNodeDescription);
-        packageNodeDescription.setPalette(this.createNodePalette(packageNodeDescription, cache, allTargetNodeDescriptions));
+        packageNodeDescription.setPalette(this.createNodePalette(packageNodeDescription, cache));
     }
 
     protected NodeStyleDescription createPackageNodeStyle() {
@@ -105,7 +105,7 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
         return nodeStyleDescription;
     }
 
-    private NodePalette createNodePalette(NodeDescription nodeDescription, IViewDiagramElementFinder cache, List<NodeDescription> allNodeDescriptions) {
+    private NodePalette createNodePalette(NodeDescription nodeDescription, IViewDiagramElementFinder cache) {
         var changeContext = this.viewBuilderHelper.newChangeContext()
                 .expression("aql:self.deleteFromModel()");
 
@@ -122,7 +122,7 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
                 .body(callEditService.build());
 
         var edgeTools = new ArrayList<EdgeTool>();
-        edgeTools.addAll(getEdgeTools(nodeDescription, allNodeDescriptions));
+        edgeTools.addAll(getEdgeTools(nodeDescription));
 
         return this.diagramBuilderHelper.newNodePalette()
                 .deleteTool(deleteTool.build())
@@ -133,8 +133,8 @@ public class PackageNodeDescriptionProvider extends AbstractNodeDescriptionProvi
                 .build();
     }
 
-    private List<EdgeTool> getEdgeTools(NodeDescription nodeDescription, List<NodeDescription> allNodeDescriptions) {
-        GeneralViewEdgeToolSwitch edgeToolSwitch = new GeneralViewEdgeToolSwitch(nodeDescription, allNodeDescriptions);
+    private List<EdgeTool> getEdgeTools(NodeDescription nodeDescription) {
+        GeneralViewEdgeToolSwitch edgeToolSwitch = new GeneralViewEdgeToolSwitch(nodeDescription, this.edgeToolProvider);
         edgeToolSwitch.doSwitch(SysmlPackage.eINSTANCE.getPackage());
         return edgeToolSwitch.getEdgeTools();
     }
@@ -28,6 +28,7 @@ import org.eclipse.sirius.components.view.diagram.NodeToolSection;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.syson.diagram.general.view.GVDescriptionNameGenerator;
 import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeToolProvider;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewEdgeToolSwitch;
 import org.eclipse.syson.diagram.general.view.services.GeneralViewNodeToolSectionSwitch;
 import org.eclipse.syson.util.AQLConstants;
@@ -43,9 +44,12 @@ public class UsageNodeDescriptionProvider extends AbstractNodeDescriptionProvide
 
     private final EClass eClass;
 
-    public UsageNodeDescriptionProvider(EClass eClass, IColorProvider colorProvider) {
+    private final GeneralViewEdgeToolProvider edgeToolProvider;
+
+    public UsageNodeDescriptionProvider(EClass eClass, IColorProvider colorProvider, GeneralViewEdgeToolProvider edgeToolProvider) {
         super(colorProvider);
         this.eClass = Objects.requireNonNull(eClass);
+        this.edgeToolProvider = Objects.requireNonNull(edgeToolProvider);
     }
 
     @Override
@@ -59,7 +63,7 @@ public class UsageNodeDescriptionProvider extends AbstractNodeDescriptionProvide
                 .domainType(domainType)
                 .labelExpression("aql:self.getContainerLabel()")
                 .name(GVDescriptionNameGenerator.getNodeName(this.eClass))
-                .semanticCandidatesExpression("aql:self.getAllReachable(" + domainType + ")")
+                .semanticCandidatesExpression("aql:self.getNodeCandidates(" + domainType + ", editingContext, diagramContext, previousDiagram)")
                 .style(this.createUsageNodeStyle())
                 .userResizable(true)
                 .synchronizationPolicy(SynchronizationPolicy.UNSYNCHRONIZED)
@@ -127,7 +131,7 @@ public class UsageNodeDescriptionProvider extends AbstractNodeDescriptionProvide
                 .body(callEditService.build());
 
         var edgeTools = new ArrayList<EdgeTool>();
-        edgeTools.addAll(getEdgeTools(nodeDescription, allNodeDescriptions));
+        edgeTools.addAll(getEdgeTools(nodeDescription));
 
         var toolSections = new ArrayList<NodeToolSection>();
         toolSections.addAll(getToolSections(nodeDescription, allNodeDescriptions));
@@ -140,8 +144,8 @@ public class UsageNodeDescriptionProvider extends AbstractNodeDescriptionProvide
                 .build();
     }
 
-    private List<EdgeTool> getEdgeTools(NodeDescription nodeDescription, List<NodeDescription> allNodeDescriptions) {
-        GeneralViewEdgeToolSwitch edgeToolSwitch = new GeneralViewEdgeToolSwitch(nodeDescription, allNodeDescriptions);
+    private List<EdgeTool> getEdgeTools(NodeDescription nodeDescription) {
+        GeneralViewEdgeToolSwitch edgeToolSwitch = new GeneralViewEdgeToolSwitch(nodeDescription, this.edgeToolProvider);
         edgeToolSwitch.doSwitch(this.eClass);
         return edgeToolSwitch.getEdgeTools();
     }
@@ -13,7 +13,9 @@
 package org.eclipse.syson.diagram.general.view.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -23,11 +25,10 @@ import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionSearchService;
 import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
 import org.eclipse.syson.diagram.general.view.nodes.EmptyDiagramNodeDescriptionProvider;
+import org.eclipse.syson.services.BulkCreateService;
 import org.eclipse.syson.services.ElementInitializerSwitch;
 import org.eclipse.syson.sysml.Element;
-import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.PartUsage;
-import org.eclipse.syson.sysml.SysmlFactory;
 
 /**
  * Creation-related Java services used by the {@link GeneralViewDiagramDescriptionProvider}.
@@ -40,9 +41,18 @@ public class GeneralViewCreateService {
 
     private final ElementInitializerSwitch elementInitializerSwitch;
 
+    private final BulkCreateService bulkCreateService;
+
+    /**
+     * Whether the node descriptions of the previous nodes, by id, are the description of the empty diagram node, so
+     * that the view node descriptions are only searched once.
+     */
+    private final Map<String, Boolean> emptyDiagramNodeDescriptions = new ConcurrentHashMap<>();
+
     public GeneralViewCreateService(IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService) {
         this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
         this.elementInitializerSwitch = new ElementInitializerSwitch();
+        this.bulkCreateService = new BulkCreateService();
     }
 
     /**
@@ -65,12 +75,7 @@ public class GeneralViewCreateService {
      * @return the created element.
      */
     public PartUsage createNestedPartUsage(PartUsage partUsage) {
-        PartUsage newPartUsage = SysmlFactory.eINSTANCE.createPartUsage();
-        newPartUsage.setDeclaredName("part");
-        FeatureMembership membership = SysmlFactory.eINSTANCE.createFeatureMembership();
-        membership.getOwnedRelatedElement().add(newPartUsage);
-        partUsage.getOwnedRelationship().add(membership);
-        return newPartUsage;
+        return this.bulkCreateService.createNestedParts(partUsage, List.of("part")).get(0);
     }
 
     /**
@@ -91,8 +96,7 @@ public class GeneralViewCreateService {
         if (previousDiagram != null && diagramContext != null) {
             List<Node> previousNodes = previousDiagram.getNodes();
             List<ViewCreationRequest> viewCreationRequests = diagramContext.getViewCreationRequests();
-            if (viewCreationRequests.isEmpty() && (previousNodes.isEmpty() || previousNodes.stream().anyMatch(node -> this.viewRepresentationDescriptionSearchService
-                    .findViewNodeDescriptionById(editingContext, node.getDescriptionId()).stream().anyMatch(nd -> EmptyDiagramNodeDescriptionProvider.NAME.equals(nd.getName()))))) {
+            if (viewCreationRequests.isEmpty() && (previousNodes.isEmpty() || previousNodes.stream().anyMatch(node -> this.isEmptyDiagramNode(node, editingContext)))) {
                 emptyDiagram = true;
             }
         } else {
@@ -103,4 +107,9 @@ public class GeneralViewCreateService {
         }
         return null;
     }
+
+    private boolean isEmptyDiagramNode(Node node, IEditingContext editingContext) {
+        return this.emptyDiagramNodeDescriptions.computeIfAbsent(node.getDescriptionId(), descriptionId -> this.viewRepresentationDescriptionSearchService
+                .findViewNodeDescriptionById(editingContext, descriptionId).stream().anyMatch(nd -> EmptyDiagramNodeDescriptionProvider.NAME.equals(nd.getName())));
+    }
 }
@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.general.view.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.view.builder.IViewDiagramElementFinder;
+import org.eclipse.sirius.components.view.builder.generated.DiagramBuilders;
+import org.eclipse.sirius.components.view.builder.generated.ViewBuilders;
+import org.eclipse.sirius.components.view.diagram.EdgeTool;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.syson.diagram.general.view.GVDescriptionNameGenerator;
+import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.diagram.general.view.nodes.PackageNodeDescriptionProvider;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.util.AQLConstants;
+import org.eclipse.syson.util.SysMLMetamodelHelper;
+
+/**
+ * Provides the EdgeTools of the node descriptions of a General View diagram description.
+ * <p>
+ * Each kind of EdgeTool is built once with the builders, then copied for each node description palette (a tool can
+ * only be contained by one palette). The node descriptions targeted by the tools are resolved once from the
+ * {@link IViewDiagramElementFinder}, by {@link EClass}, when the first tool is requested, i.e. once all the node
+ * descriptions have been created.
+ * </p>
+ *
+ * @author arichard
+ */
+public class GeneralViewEdgeToolProvider {
+
+    private static final String METAMODEL_ICONS_PATH = "/icons/full/obj16/";
+
+    private static final String SVG = ".svg";
+
+    private final ViewBuilders viewBuilderHelper = new ViewBuilders();
+
+    private final DiagramBuilders diagramBuilderHelper = new DiagramBuilders();
+
+    private final IViewDiagramElementFinder cache;
+
+    private final Map<String, EdgeTool> edgeToolTemplates = new HashMap<>();
+
+    private Map<EClass, NodeDescription> nodeDescriptionsByEClass;
+
+    private List<NodeDescription> allNodeDescriptions;
+
+    private int edgeToolCount;
+
+    public GeneralViewEdgeToolProvider(IViewDiagramElementFinder cache) {
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    /**
+     * Get the number of EdgeTools provided so far.
+     *
+     * @return the number of EdgeTools provided.
+     */
+    public int getEdgeToolCount() {
+        return this.edgeToolCount;
+    }
+
+    /**
+     * Get the number of EdgeTools built with the builders so far, the other ones being copies.
+     *
+     * @return the number of EdgeTools built.
+     */
+    public int getBuiltEdgeToolCount() {
+        return this.edgeToolTemplates.size();
+    }
+
+    public EdgeTool createDependencyEdgeTool() {
+        return this.createEdgeTool("Dependency", this::buildDependencyEdgeTool, this.getAllNodeDescriptions());
+    }
+
+    public EdgeTool createSubclassificationEdgeTool(NodeDescription nodeDescription) {
+        return this.createEdgeTool("Subclassification", this::buildSubclassificationEdgeTool, List.of(nodeDescription));
+    }
+
+    public EdgeTool createRedefinitionEdgeTool(NodeDescription nodeDescription) {
+        return this.createEdgeTool("Redefinition", this::buildRedefinitionEdgeTool, List.of(nodeDescription));
+    }
+
+    public EdgeTool createSubsettingEdgeTool(NodeDescription nodeDescription) {
+        return this.createEdgeTool("Subsetting", this::buildSubsettingEdgeTool, List.of(nodeDescription));
+    }
+
+    public EdgeTool createAddAsNestedPartEdgeTool() {
+        return this.createEdgeTool("AddAsNestedPart", this::buildAddAsNestedPartEdgeTool, List.of(this.getNodeDescription(SysmlPackage.eINSTANCE.getPartUsage())));
+    }
+
+    public EdgeTool createBecomeNestedPartEdgeTool() {
+        return this.createEdgeTool("BecomeNestedPart", this::buildBecomeNestedPartEdgeTool,
+                List.of(this.getNodeDescription(SysmlPackage.eINSTANCE.getPartUsage()), this.getNodeDescription(SysmlPackage.eINSTANCE.getPartDefinition())));
+    }
+
+    private EdgeTool createEdgeTool(String kind, Supplier<EdgeTool> builder, List<NodeDescription> targetElementDescriptions) {
+        EdgeTool edgeTool = EcoreUtil.copy(this.edgeToolTemplates.computeIfAbsent(kind, key -> builder.get()));
+        edgeTool.getTargetElementDescriptions().addAll(targetElementDescriptions);
+        this.edgeToolCount++;
+        return edgeTool;
+    }
+
+    private NodeDescription getNodeDescription(EClass eClass) {
+        this.resolveNodeDescriptions();
+        return this.nodeDescriptionsByEClass.get(eClass);
+    }
+
+    private List<NodeDescription> getAllNodeDescriptions() {
+        this.resolveNodeDescriptions();
+        return this.allNodeDescriptions;
+    }
+
+    private void resolveNodeDescriptions() {
+        if (this.nodeDescriptionsByEClass == null) {
+            this.nodeDescriptionsByEClass = new LinkedHashMap<>();
+            GeneralViewDiagramDescriptionProvider.DEFINITIONS.forEach(definition -> this.cache.getNodeDescription(GVDescriptionNameGenerator.getNodeName(definition))
+                    .ifPresent(nodeDescription -> this.nodeDescriptionsByEClass.put(definition, nodeDescription)));
+            GeneralViewDiagramDescriptionProvider.USAGES.forEach(usage -> this.cache.getNodeDescription(GVDescriptionNameGenerator.getNodeName(usage))
+                    .ifPresent(nodeDescription -> this.nodeDescriptionsByEClass.put(usage, nodeDescription)));
+            this.allNodeDescriptions = new ArrayList<>(this.nodeDescriptionsByEClass.values());
+            this.cache.getNodeDescription(PackageNodeDescriptionProvider.NAME).ifPresent(this.allNodeDescriptions::add);
+        }
+    }
+
+    private EdgeTool buildDependencyEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var setName = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getElement_DeclaredName().getName())
+                .valueExpression("dependency");
+
+        var setClient = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getDependency_Client().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setSupplier = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getDependency_Supplier().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var changeContextNewInstance = this.viewBuilderHelper.newChangeContext()
+                .expression("aql:newInstance")
+                .children(setName.build(), setClient.build(), setSupplier.build());
+
+        var createInstance = this.viewBuilderHelper.newCreateInstance()
+                .typeName(SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getDependency()))
+                .referenceName(SysmlPackage.eINSTANCE.getRelationship_OwnedRelatedElement().getName())
+                .variableName("newInstance")
+                .children(changeContextNewInstance.build());
+
+        var changeContextMembership = this.viewBuilderHelper.newChangeContext()
+                .expression("aql:newOwningMembership")
+                .children(createInstance.build());
+
+        var createMembership = this.viewBuilderHelper.newCreateInstance()
+                .typeName(SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getOwningMembership()))
+                .referenceName(SysmlPackage.eINSTANCE.getElement_OwnedRelationship().getName())
+                .variableName("newOwningMembership")
+                .children(changeContextMembership.build());
+
+        var body = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE + ".getContainerPackage()")
+                .children(createMembership.build());
+
+        return builder
+                .name("New " + SysmlPackage.eINSTANCE.getDependency().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getDependency().getName() + SVG)
+                .body(body.build())
+                .build();
+    }
+
+    private EdgeTool buildSubclassificationEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var setName = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getElement_DeclaredName().getName())
+                .valueExpression("specializes");
+
+        var setSubclassifier = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubclassification_Subclassifier().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setSuperclassifier = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubclassification_Superclassifier().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var setSpecific = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_Specific().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setGeneral = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_General().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var changeContextNewInstance = this.viewBuilderHelper.newChangeContext()
+                .expression("aql:newInstance")
+                .children(setName.build(), setSubclassifier.build(), setSuperclassifier.build(), setSpecific.build(), setGeneral.build());
+
+        var createInstance = this.viewBuilderHelper.newCreateInstance()
+                .typeName(SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getSubclassification()))
+                .referenceName(SysmlPackage.eINSTANCE.getElement_OwnedRelationship().getName())
+                .variableName("newInstance")
+                .children(changeContextNewInstance.build());
+
+        var body = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE)
+                .children(createInstance.build());
+
+        return builder
+                .name("New " + SysmlPackage.eINSTANCE.getSubclassification().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getSubclassification().getName() + SVG)
+                .body(body.build())
+                .build();
+    }
+
+    private EdgeTool buildRedefinitionEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var setName = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getElement_DeclaredName().getName())
+                .valueExpression("redefines");
+
+        var setRedefiningFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getRedefinition_RedefiningFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setRedefinedFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getRedefinition_RedefinedFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var setSubsettingFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubsetting_SubsettingFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setSubsettedFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubsetting_SubsettedFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var setSpecific = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_Specific().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setGeneral = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_General().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var changeContextNewInstance = this.viewBuilderHelper.newChangeContext()
+                .expression("aql:newInstance")
+                .children(setName.build(), setRedefiningFeature.build(), setRedefinedFeature.build(), setSubsettingFeature.build(), setSubsettedFeature.build(), setSpecific.build(),
+                        setGeneral.build());
+
+        var createInstance = this.viewBuilderHelper.newCreateInstance()
+                .typeName(SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getRedefinition()))
+                .referenceName(SysmlPackage.eINSTANCE.getElement_OwnedRelationship().getName())
+                .variableName("newInstance")
+                .children(changeContextNewInstance.build());
+
+        var body = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE)
+                .children(createInstance.build());
+
+        return builder
+                .name("New " + SysmlPackage.eINSTANCE.getRedefinition().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getRedefinition().getName() + SVG)
+                .body(body.build())
+                .build();
+    }
+
+    private EdgeTool buildSubsettingEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var setName = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getElement_DeclaredName().getName())
+                .valueExpression("subsets");
+
+        var setSubsettingFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubsetting_SubsettingFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setSubsettedFeature = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSubsetting_SubsettedFeature().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var setSpecific = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_Specific().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE);
+
+        var setGeneral = this.viewBuilderHelper.newSetValue()
+                .featureName(SysmlPackage.eINSTANCE.getSpecialization_General().getName())
+                .valueExpression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_TARGET);
+
+        var changeContextNewInstance = this.viewBuilderHelper.newChangeContext()
+                .expression("aql:newInstance")
+                .children(setName.build(), setSubsettingFeature.build(), setSubsettedFeature.build(), setSpecific.build(),
+                        setGeneral.build());
+
+        var createInstance = this.viewBuilderHelper.newCreateInstance()
+                .typeName(SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getSubsetting()))
+                .referenceName(SysmlPackage.eINSTANCE.getElement_OwnedRelationship().getName())
+                .variableName("newInstance")
+                .children(changeContextNewInstance.build());
+
+        var body = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE)
+                .children(createInstance.build());
+
+        return builder
+                .name("New " + SysmlPackage.eINSTANCE.getSubsetting().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getSubsetting().getName() + SVG)
+                .body(body.build())
+                .build();
+    }
+
+    private EdgeTool buildAddAsNestedPartEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var callService = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE + ".addAsNestedPart(" + EdgeDescription.SEMANTIC_EDGE_TARGET + ")");
+
+        return builder
+                .name("Add Part Usage as nested " + SysmlPackage.eINSTANCE.getPartUsage().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getMembership().getName() + SVG)
+                .body(callService.build())
+                .build();
+    }
+
+    private EdgeTool buildBecomeNestedPartEdgeTool() {
+        var builder = this.diagramBuilderHelper.newEdgeTool();
+
+        var callService = this.viewBuilderHelper.newChangeContext()
+                .expression(AQLConstants.AQL + EdgeDescription.SEMANTIC_EDGE_SOURCE + ".becomeNestedPart(" + EdgeDescription.SEMANTIC_EDGE_TARGET + ")");
+
+        return builder
+                .name("Become nested " + SysmlPackage.eINSTANCE.getPartUsage().getName())
+                .iconURLsExpression(METAMODEL_ICONS_PATH + SysmlPackage.eINSTANCE.getMembership().getName() + SVG)
+                .body(callService.build())
+                .build();
+    }
+}
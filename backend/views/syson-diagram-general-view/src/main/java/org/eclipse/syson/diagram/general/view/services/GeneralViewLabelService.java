@@ -15,6 +15,7 @@ package org.eclipse.syson.diagram.general.view.services;
 import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
 import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
 import org.eclipse.syson.services.LabelService;
+import org.eclipse.syson.services.RenderingCache;
 import org.eclipse.syson.sysml.Dependency;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.FeatureValue;
@@ -33,13 +34,18 @@ public class GeneralViewLabelService extends LabelService {
     }
 
     /**
-     * Return the label for the given {@link Usage}.
+     * Return the label for the given {@link Usage}. The label is only computed again if the usage has been modified
+     * since the last time it has been computed (see {@link RenderingCache}).
      *
      * @param usage
      *            the given {@link Usage}.
      * @return the label for the given {@link Usage}.
      */
     public String getCompartmentItemUsageLabel(Usage usage) {
+        return RenderingCache.get(usage, "compartmentItemUsageLabel", this::computeCompartmentItemUsageLabel);
+    }
+
+    private String computeCompartmentItemUsageLabel(Usage usage) {
         StringBuilder label = new StringBuilder();
         String declaredName = usage.getDeclaredName();
         if (declaredName != null) {
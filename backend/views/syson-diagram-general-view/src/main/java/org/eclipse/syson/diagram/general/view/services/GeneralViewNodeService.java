@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.general.view.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
+import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionSearchService;
+import org.eclipse.syson.diagram.general.view.GeneralViewDiagramDescriptionProvider;
+import org.eclipse.syson.services.CompartmentSnapshot;
+import org.eclipse.syson.services.DiagramNodeIndex;
+import org.eclipse.syson.services.RenderingCache;
+import org.eclipse.syson.services.UtilService;
+import org.eclipse.syson.sysml.Element;
+import org.springframework.core.env.Environment;
+
+/**
+ * Node-related Java services used by the {@link GeneralViewDiagramDescriptionProvider}.
+ * <p>
+ * By default, the candidates of the (unsynchronized) definition, usage and package nodes are all the elements of their
+ * type reachable in the editing context, even if only the elements already displayed, or added with a tool, are
+ * rendered. With <code>org.eclipse.syson.generalview.lazyCandidates.enabled=true</code>, the candidates are directly
+ * the elements displayed in the previous diagram and the elements of the views to create, so that large models are
+ * not traversed for each node description and each package on each rendering. In this mode, the compartment items of
+ * a collapsed node are not computed either: the items previously displayed are kept (hidden) until the node is
+ * expanded again.
+ * </p>
+ * <p>
+ * The compartment items of an element are computed for all its compartments at once (see
+ * {@link CompartmentSnapshot}), and reused from the {@link RenderingCache} as long as the element has not been
+ * modified.
+ * </p>
+ *
+ * @author arichard
+ */
+public class GeneralViewNodeService {
+
+    /**
+     * The name of the property enabling the computation of the candidates from the previous diagram.
+     */
+    public static final String LAZY_CANDIDATES_PROPERTY = "org.eclipse.syson.generalview.lazyCandidates.enabled";
+
+    private static final int INDEXED_DIAGRAM_COUNT = 16;
+
+    private final IObjectService objectService;
+
+    private final IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService;
+
+    private final UtilService utilService;
+
+    private final boolean lazyCandidates;
+
+    private final Map<String, String> nodeDescriptionNames = new ConcurrentHashMap<>();
+
+    private final DiagramNodeIndex.Cache previousDiagramIndexes = new DiagramNodeIndex.Cache(INDEXED_DIAGRAM_COUNT);
+
+    public GeneralViewNodeService(IObjectService objectService, IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, Environment environment) {
+        this.objectService = Objects.requireNonNull(objectService);
+        this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
+        this.utilService = new UtilService();
+        this.lazyCandidates = environment.getProperty(LAZY_CANDIDATES_PROPERTY, Boolean.class, false);
+    }
+
+    /**
+     * Get the candidates of the unsynchronized nodes of the given type, displayed in the diagram or in the node of the
+     * given {@link Element}.
+     *
+     * @param element
+     *            the element of the diagram or of the parent node.
+     * @param eClass
+     *            the type of the candidates.
+     * @param editingContext
+     *            the {@link IEditingContext} retrieved from the Variable Manager.
+     * @param diagramContext
+     *            the {@link IDiagramContext} retrieved from the Variable Manager.
+     * @param previousDiagram
+     *            the previous {@link Diagram} retrieved from the Variable Manager.
+     * @return the candidates of the nodes.
+     */
+    public List<EObject> getNodeCandidates(Element element, EClass eClass, IEditingContext editingContext, IDiagramContext diagramContext, Diagram previousDiagram) {
+        if (!this.lazyCandidates || diagramContext == null) {
+            return this.utilService.getAllReachable(element, eClass);
+        }
+        String targetObjectId = this.objectService.getId(element);
+        Set<String> parentIds = new LinkedHashSet<>();
+        Set<String> candidateIds = new LinkedHashSet<>();
+        if (previousDiagram != null && Objects.equals(previousDiagram.getTargetObjectId(), targetObjectId)) {
+            parentIds.add(previousDiagram.getId());
+            previousDiagram.getNodes().forEach(node -> candidateIds.add(node.getTargetObjectId()));
+        }
+        for (Node node : this.getPreviousNodes(targetObjectId, previousDiagram)) {
+            parentIds.add(node.getId());
+            node.getChildNodes().forEach(child -> candidateIds.add(child.getTargetObjectId()));
+        }
+        if (diagramContext.getDiagram() != null && Objects.equals(diagramContext.getDiagram().getTargetObjectId(), targetObjectId)) {
+            parentIds.add(diagramContext.getDiagram().getId());
+        }
+        for (ViewCreationRequest request : diagramContext.getViewCreationRequests()) {
+            if (parentIds.contains(request.getParentElementId())) {
+                candidateIds.add(request.getTargetObjectId());
+            }
+        }
+        return this.resolve(candidateIds, eClass, editingContext);
+    }
+
+    /**
+     * Get the candidates of the items of a compartment of the node of the given {@link Element}.
+     *
+     * @param element
+     *            the element of the node owning the compartment.
+     * @param referenceName
+     *            the name of the reference of the element listed in the compartment.
+     * @param itemDescriptionName
+     *            the name of the node description of the items of the compartment.
+     * @param editingContext
+     *            the {@link IEditingContext} retrieved from the Variable Manager.
+     * @param previousDiagram
+     *            the previous {@link Diagram} retrieved from the Variable Manager.
+     * @return the candidates of the compartment items.
+     */
+    public List<EObject> getCompartmentItemCandidates(Element element, String referenceName, String itemDescriptionName, IEditingContext editingContext, Diagram previousDiagram) {
+        List<Node> ownerNodes = List.of();
+        if (this.lazyCandidates) {
+            // The compartments target the same element as their owner node
+            ownerNodes = this.getPreviousNodes(this.objectService.getId(element), previousDiagram).stream()
+                    .filter(node -> !this.isCompartment(node, previousDiagram))
+                    .toList();
+        }
+        if (ownerNodes.isEmpty() || ownerNodes.stream().anyMatch(node -> node.getCollapsingState() != CollapsingState.COLLAPSED)) {
+            return this.getCompartmentItems(element, referenceName);
+        }
+        Set<String> candidateIds = new LinkedHashSet<>();
+        for (Node collapsedNode : ownerNodes) {
+            for (Node compartment : collapsedNode.getChildNodes()) {
+                compartment.getChildNodes().stream()
+                        .filter(item -> itemDescriptionName.equals(this.getNodeDescriptionName(item, editingContext)))
+                        .forEach(item -> candidateIds.add(item.getTargetObjectId()));
+            }
+        }
+        return this.resolve(candidateIds, null, editingContext);
+    }
+
+    /**
+     * Get the items of a compartment from the {@link CompartmentSnapshot} of the given {@link Element}, which feeds
+     * all its compartments with a single traversal of its owned relationships.
+     */
+    private List<EObject> getCompartmentItems(Element element, String referenceName) {
+        List<EObject> items = null;
+        List<EReference> references = GeneralViewDiagramDescriptionProvider.COMPARTMENTS_WITH_LIST_ITEMS.get(element.eClass());
+        if (references != null) {
+            items = CompartmentSnapshot.get(element, references).getItems(referenceName);
+        }
+        if (items == null) {
+            items = RenderingCache.get(element, "compartmentItems " + referenceName, owner -> this.getReferencedElements(owner, referenceName));
+        }
+        return items;
+    }
+
+    private List<EObject> getReferencedElements(Element element, String referenceName) {
+        List<EObject> referencedElements = new ArrayList<>();
+        EStructuralFeature feature = element.eClass().getEStructuralFeature(referenceName);
+        if (feature != null) {
+            Object value = element.eGet(feature);
+            if (value instanceof List<?> values) {
+                values.stream().filter(EObject.class::isInstance).map(EObject.class::cast).forEach(referencedElements::add);
+            } else if (value instanceof EObject eObject) {
+                referencedElements.add(eObject);
+            }
+        }
+        return Collections.unmodifiableList(referencedElements);
+    }
+
+    private List<EObject> resolve(Set<String> ids, EClass eClass, IEditingContext editingContext) {
+        List<EObject> eObjects = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            this.objectService.getObject(editingContext, id)
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .filter(eObject -> eClass == null || eClass.isInstance(eObject))
+                    .ifPresent(eObjects::add);
+        }
+        return eObjects;
+    }
+
+    private String getNodeDescriptionName(Node node, IEditingContext editingContext) {
+        return this.nodeDescriptionNames.computeIfAbsent(node.getDescriptionId(), descriptionId -> this.viewRepresentationDescriptionSearchService
+                .findViewNodeDescriptionById(editingContext, descriptionId)
+                .map(org.eclipse.sirius.components.view.diagram.NodeDescription::getName)
+                .orElse(""));
+    }
+
+    /**
+     * Get the nodes of the previous diagram targeting the given object, the nodes of the previous diagram being indexed
+     * by target object id once per rendering.
+     */
+    private List<Node> getPreviousNodes(String targetObjectId, Diagram previousDiagram) {
+        return this.previousDiagramIndexes.get(previousDiagram).getNodes(targetObjectId);
+    }
+
+    /**
+     * Check whether the given node of the previous diagram is a compartment, i.e. a child node targeting the same
+     * element as its parent node.
+     */
+    private boolean isCompartment(Node node, Diagram previousDiagram) {
+        Node parentNode = this.previousDiagramIndexes.get(previousDiagram).getParentNode(node);
+        return parentNode != null && Objects.equals(parentNode.getTargetObjectId(), node.getTargetObjectId());
+    }
+}
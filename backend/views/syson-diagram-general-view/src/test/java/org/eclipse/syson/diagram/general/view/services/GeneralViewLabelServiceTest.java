@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.general.view.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
+import org.eclipse.syson.sysml.AttributeDefinition;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link GeneralViewLabelService} tests, with the labels cached between the renderings.
+ *
+ * @author arichard
+ */
+public class GeneralViewLabelServiceTest {
+
+    private final GeneralViewLabelService labelService = new GeneralViewLabelService(mock(IFeedbackMessageService.class));
+
+    private Package root;
+
+    @BeforeEach
+    void setUp() {
+        Resource resource = new SysmlResourceImpl(URI.createURI("memory:///" + UUID.randomUUID()));
+        new ResourceSetImpl().getResources().add(resource);
+        this.root = SysmlFactory.eINSTANCE.createPackage();
+        resource.getContents().add(this.root);
+    }
+
+    @Test
+    void testCompartmentItemUsageLabelIsRefreshedAfterRetyping() {
+        AttributeDefinition mass = this.addAttributeDefinition("Mass");
+        AttributeDefinition weight = this.addAttributeDefinition("Weight");
+        PartDefinition vehicle = SysmlFactory.eINSTANCE.createPartDefinition();
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(vehicle);
+        AttributeUsage attributeUsage = SysmlFactory.eINSTANCE.createAttributeUsage();
+        attributeUsage.setDeclaredName("m");
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        vehicle.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(attributeUsage);
+        FeatureTyping featureTyping = SysmlFactory.eINSTANCE.createFeatureTyping();
+        featureTyping.setTypedFeature(attributeUsage);
+        featureTyping.setType(mass);
+        attributeUsage.getOwnedRelationship().add(featureTyping);
+        assertEquals("m : Mass", this.labelService.getCompartmentItemUsageLabel(attributeUsage));
+
+        // Changing the type of the feature typing owned by the usage modifies the usage
+        featureTyping.setType(weight);
+        assertEquals("m : Weight", this.labelService.getCompartmentItemUsageLabel(attributeUsage));
+
+        // The new name of the type is displayed as well
+        weight.setDeclaredName("Force");
+        assertEquals("m : Force", this.labelService.getCompartmentItemUsageLabel(attributeUsage));
+    }
+
+    private AttributeDefinition addAttributeDefinition(String name) {
+        AttributeDefinition attributeDefinition = SysmlFactory.eINSTANCE.createAttributeDefinition();
+        attributeDefinition.setDeclaredName(name);
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(attributeDefinition);
+        return attributeDefinition;
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.general.view.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionSearchService;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * {@link GeneralViewNodeService} tests, with the candidates computed from the previous diagram.
+ *
+ * @author arichard
+ */
+public class GeneralViewNodeServiceTest {
+
+    private static final String ATTRIBUTE_ITEM_DESCRIPTION_ID = "attributeItem";
+
+    private static final String ATTRIBUTE_ITEM_DESCRIPTION_NAME = "GV Node Description Attribute Item";
+
+    private final Map<String, Element> elements = new HashMap<>();
+
+    private final IEditingContext editingContext = mock(IEditingContext.class);
+
+    private GeneralViewNodeService nodeService;
+
+    private Package root;
+
+    private IDiagramContext diagramContext;
+
+    @BeforeEach
+    void setUp() {
+        IObjectService objectService = mock(IObjectService.class);
+        when(objectService.getId(any())).thenAnswer(invocation -> ((Element) invocation.getArgument(0)).getElementId());
+        when(objectService.getObject(any(), anyString())).thenAnswer(invocation -> Optional.ofNullable(this.elements.get(invocation.getArgument(1))));
+        NodeDescription attributeItemDescription = DiagramFactory.eINSTANCE.createNodeDescription();
+        attributeItemDescription.setName(ATTRIBUTE_ITEM_DESCRIPTION_NAME);
+        IViewRepresentationDescriptionSearchService searchService = mock(IViewRepresentationDescriptionSearchService.class);
+        when(searchService.findViewNodeDescriptionById(any(), eq(ATTRIBUTE_ITEM_DESCRIPTION_ID))).thenReturn(Optional.of(attributeItemDescription));
+        MockEnvironment environment = new MockEnvironment().withProperty(GeneralViewNodeService.LAZY_CANDIDATES_PROPERTY, "true");
+        this.nodeService = new GeneralViewNodeService(objectService, searchService, environment);
+
+        this.root = this.register(SysmlFactory.eINSTANCE.createPackage());
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getId()).thenReturn("diagram");
+        when(diagram.getTargetObjectId()).thenReturn(this.root.getElementId());
+        this.diagramContext = mock(IDiagramContext.class);
+        when(this.diagramContext.getDiagram()).thenReturn(diagram);
+        when(this.diagramContext.getViewCreationRequests()).thenReturn(List.of());
+    }
+
+    @Test
+    void testNodeCandidatesFromThePreviousDiagram() {
+        PartDefinition vehicle = this.addPartDefinition();
+        PartDefinition engine = this.addPartDefinition();
+        this.addPartDefinition();
+        Diagram previousDiagram = this.createDiagram(this.createNode(vehicle, CollapsingState.EXPANDED));
+
+        assertEquals(List.of(vehicle), this.nodeService.getNodeCandidates(this.root, SysmlPackage.eINSTANCE.getPartDefinition(), this.editingContext, this.diagramContext, previousDiagram));
+
+        // The elements of the views to create in the diagram are candidates as well
+        ViewCreationRequest request = mock(ViewCreationRequest.class);
+        when(request.getParentElementId()).thenReturn("diagram");
+        when(request.getTargetObjectId()).thenReturn(engine.getElementId());
+        when(this.diagramContext.getViewCreationRequests()).thenReturn(List.of(request));
+        assertEquals(List.of(vehicle, engine), this.nodeService.getNodeCandidates(this.root, SysmlPackage.eINSTANCE.getPartDefinition(), this.editingContext, this.diagramContext, previousDiagram));
+    }
+
+    @Test
+    void testCompartmentItemCandidatesOfCollapsedNodes() {
+        PartDefinition vehicle = this.addPartDefinition();
+        AttributeUsage mass = this.addAttribute(vehicle);
+        AttributeUsage speed = this.addAttribute(vehicle);
+        Node massNode = this.createNode(mass, CollapsingState.EXPANDED);
+        when(massNode.getDescriptionId()).thenReturn(ATTRIBUTE_ITEM_DESCRIPTION_ID);
+        Node compartmentNode = this.createNode(vehicle, CollapsingState.EXPANDED, massNode);
+        Diagram collapsedDiagram = this.createDiagram(this.createNode(vehicle, CollapsingState.COLLAPSED, compartmentNode));
+        Diagram expandedDiagram = this.createDiagram(this.createNode(vehicle, CollapsingState.EXPANDED, compartmentNode));
+
+        // Two renderings of different diagrams in progress at the same time, each previous diagram being indexed once
+        for (int i = 0; i < 3; i++) {
+            assertEquals(List.of(mass), this.nodeService.getCompartmentItemCandidates(vehicle, "ownedAttribute", ATTRIBUTE_ITEM_DESCRIPTION_NAME, this.editingContext, collapsedDiagram));
+            assertEquals(List.of(mass, speed), this.nodeService.getCompartmentItemCandidates(vehicle, "ownedAttribute", ATTRIBUTE_ITEM_DESCRIPTION_NAME, this.editingContext, expandedDiagram));
+        }
+        verify(collapsedDiagram, times(1)).getNodes();
+        verify(expandedDiagram, times(1)).getNodes();
+    }
+
+    private <T extends Element> T register(T element) {
+        this.elements.put(element.getElementId(), element);
+        return element;
+    }
+
+    private PartDefinition addPartDefinition() {
+        PartDefinition partDefinition = this.register(SysmlFactory.eINSTANCE.createPartDefinition());
+        OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+        this.root.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(partDefinition);
+        return partDefinition;
+    }
+
+    private AttributeUsage addAttribute(PartDefinition partDefinition) {
+        AttributeUsage attributeUsage = this.register(SysmlFactory.eINSTANCE.createAttributeUsage());
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        partDefinition.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(attributeUsage);
+        return attributeUsage;
+    }
+
+    private Node createNode(Element element, CollapsingState collapsingState, Node... childNodes) {
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn("node " + element.getElementId());
+        when(node.getTargetObjectId()).thenReturn(element.getElementId());
+        when(node.getCollapsingState()).thenReturn(collapsingState);
+        when(node.getChildNodes()).thenReturn(List.of(childNodes));
+        return node;
+    }
+
+    private Diagram createDiagram(Node... nodes) {
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getId()).thenReturn("diagram");
+        when(diagram.getTargetObjectId()).thenReturn(this.root.getElementId());
+        when(diagram.getNodes()).thenReturn(List.of(nodes));
+        return diagram;
+    }
+}
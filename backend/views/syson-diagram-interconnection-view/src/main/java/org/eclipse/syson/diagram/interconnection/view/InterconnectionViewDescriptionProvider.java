@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.syson.diagram.interconnection.view;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,6 +34,8 @@ import org.eclipse.sirius.components.view.emf.IViewConverter;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.services.api.representations.IInMemoryViewRegistry;
 import org.eclipse.syson.services.ColorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -44,32 +48,55 @@ public class InterconnectionViewDescriptionProvider implements IEditingContextRe
 
     private static final String INTERCONNECTION_VIEW_DIAGRAM_ID = "InterconnectionViewDiagram";
 
+    private final Logger logger = LoggerFactory.getLogger(InterconnectionViewDescriptionProvider.class);
+
     private final IViewConverter viewConverter;
 
     private final EPackage.Registry ePackagesRegistry;
 
-    private final IInMemoryViewRegistry inMemoryViewRegistry;
+    private final View view;
+
+    private List<IRepresentationDescription> representationDescriptions;
 
     public InterconnectionViewDescriptionProvider(IViewConverter viewConverter, Registry ePackagesRegistry, IInMemoryViewRegistry inMemoryViewRegistry) {
         this.viewConverter = viewConverter;
         this.ePackagesRegistry = ePackagesRegistry;
-        this.inMemoryViewRegistry = inMemoryViewRegistry;
+        Instant start = Instant.now();
+        this.view = this.createView();
+        inMemoryViewRegistry.register(this.view);
+        Instant finish = Instant.now();
+        long timeElapsed = Duration.between(start, finish).toMillis();
+        this.logger.info("Interconnection View description creation completed in {} ms", timeElapsed);
     }
 
     @Override
-    public List<IRepresentationDescription> getRepresentationDescriptions(IEditingContext editingContext) {
+    public synchronized List<IRepresentationDescription> getRepresentationDescriptions(IEditingContext editingContext) {
+        // The Interconnection View does not depend on the editing context, it is only converted once
+        if (this.representationDescriptions == null) {
+            Instant start = Instant.now();
+            // Convert org.eclipse.sirius.components.view.RepresentationDescription to org.eclipse.sirius.components.representations.IRepresentationDescription
+            List<EPackage> staticEPackages = this.ePackagesRegistry.values().stream().filter(EPackage.class::isInstance).map(EPackage.class::cast).toList();
+            this.representationDescriptions = this.viewConverter.convert(List.of(this.view), staticEPackages);
+            Instant finish = Instant.now();
+            long timeElapsed = Duration.between(start, finish).toMillis();
+            this.logger.info("Interconnection View description conversion completed in {} ms", timeElapsed);
+        }
+        return this.representationDescriptions;
+    }
+
+    private View createView() {
         // Create org.eclipse.sirius.components.view.View
         ViewBuilder viewBuilder = new ViewBuilder();
-        View view = viewBuilder.build();
-        IColorProvider colorProvider = new ColorProvider(view);
+        View interconnectionView = viewBuilder.build();
+        IColorProvider colorProvider = new ColorProvider(interconnectionView);
 
         // Create org.eclipse.sirius.components.view.RepresentationDescription
         InterconnectionViewDiagramDescriptionProvider diagramDescriptionProvider = new InterconnectionViewDiagramDescriptionProvider();
         RepresentationDescription viewRepresentationDescription = diagramDescriptionProvider.create(colorProvider);
-        view.getDescriptions().add(viewRepresentationDescription);
+        interconnectionView.getDescriptions().add(viewRepresentationDescription);
 
         // Add an ID to all view elements
-        view.eAllContents().forEachRemaining(eObject -> {
+        interconnectionView.eAllContents().forEachRemaining(eObject -> {
             eObject.eAdapters().add(new IDAdapter(UUID.nameUUIDFromBytes(EcoreUtil.getURI(eObject).toString().getBytes())));
         });
 
@@ -77,12 +104,7 @@ public class InterconnectionViewDescriptionProvider implements IEditingContextRe
         String resourcePath = UUID.nameUUIDFromBytes(INTERCONNECTION_VIEW_DIAGRAM_ID.getBytes()).toString();
         JsonResource resource = new JSONResourceFactory().createResourceFromPath(resourcePath);
         resource.eAdapters().add(new ResourceMetadataAdapter(INTERCONNECTION_VIEW_DIAGRAM_ID));
-        resource.getContents().add(view);
-        this.inMemoryViewRegistry.register(view);
-
-        // Convert org.eclipse.sirius.components.view.RepresentationDescription to org.eclipse.sirius.components.representations.IRepresentationDescription
-        List<EPackage> staticEPackages = this.ePackagesRegistry.values().stream().filter(EPackage.class::isInstance).map(EPackage.class::cast).toList();
-
-        return this.viewConverter.convert(List.of(view), staticEPackages);
+        resource.getContents().add(interconnectionView);
+        return interconnectionView;
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,9 @@ import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
 import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewCreateService;
 import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewEdgeService;
 import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewLabelService;
+import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewNodeService;
 import org.eclipse.syson.diagram.interconnection.view.services.InterconnectionViewToolService;
+import org.eclipse.syson.services.ConnectivityAnalysisService;
 import org.eclipse.syson.services.DeleteService;
 import org.eclipse.syson.services.UtilService;
 import org.springframework.context.annotation.Configuration;
@@ -39,10 +41,12 @@ public class InterconnectionViewJavaServiceProvider implements IJavaServiceProvi
             .filter(desc -> InterconnectionViewDiagramDescriptionProvider.DESCRIPTION_NAME.equals(desc.getName()))
             .findFirst();
         if (optGVDescription.isPresent()) {
-            return List.of(DeleteService.class,
+            return List.of(ConnectivityAnalysisService.class,
+                    DeleteService.class,
                     InterconnectionViewCreateService.class,
                     InterconnectionViewEdgeService.class,
                     InterconnectionViewLabelService.class,
+                    InterconnectionViewNodeService.class,
                     InterconnectionViewToolService.class,
                     UtilService.class);
         }
@@ -64,7 +64,7 @@ public class BindingConnectorAsUsageEdgeDescriptionProvider implements IEdgeDesc
                 .isDomainBasedEdge(true)
                 .labelExpression("")
                 .name(NAME)
-                .semanticCandidatesExpression("aql:self.getAllReachable(" + domainType + ")")
+                .semanticCandidatesExpression("aql:self.getAllReachableBindingConnectors()")
                 .sourceNodesExpression("aql:self.getSourcePort()")
                 .style(this.createEdgeStyle())
                 .synchronizationPolicy(SynchronizationPolicy.SYNCHRONIZED)
@@ -60,12 +60,13 @@ public class ChildPartUsageNodeDescriptionProvider implements INodeDescriptionPr
         String domainType = SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getPartUsage());
         return this.diagramBuilderHelper.newNodeDescription()
                 .childrenLayoutStrategy(new FreeFormLayoutStrategyDescriptionBuilder().build())
+                .collapsible(true)
                 .defaultHeightExpression("100")
                 .defaultWidthExpression("150")
                 .domainType(domainType)
                 .labelExpression(AQLConstants.AQL_SELF + ".getContainerLabel()")
                 .name(NAME)
-                .semanticCandidatesExpression(AQLConstants.AQL_SELF + "." + SysmlPackage.eINSTANCE.getUsage_NestedPart().getName())
+                .semanticCandidatesExpression(AQLConstants.AQL_SELF + ".getNestedPartsToRender(editingContext, diagramContext, previousDiagram)")
                 .style(this.createChildPartUsageNodeStyle())
                 .userResizable(true)
                 .synchronizationPolicy(SynchronizationPolicy.UNSYNCHRONIZED)
@@ -60,7 +60,7 @@ public class PortUsageBorderNodeDescriptionProvider implements INodeDescriptionP
                 .domainType(domainType)
                 .labelExpression(AQLConstants.AQL_SELF + ".getBorderNodePortUsageLabel()")
                 .name(NAME)
-                .semanticCandidatesExpression(AQLConstants.AQL_SELF + "." + SysmlPackage.eINSTANCE.getUsage_NestedPort().getName())
+                .semanticCandidatesExpression(AQLConstants.AQL_SELF + ".getNestedPortsToRender(editingContext, diagramContext, previousDiagram)")
                 .style(this.createPortUsageNodeStyle())
                 .userResizable(true)
                 .synchronizationPolicy(SynchronizationPolicy.SYNCHRONIZED)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,16 +12,14 @@
  *******************************************************************************/
 package org.eclipse.syson.diagram.interconnection.view.services;
 
+import java.util.List;
+
 import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
+import org.eclipse.syson.services.BulkCreateService;
 import org.eclipse.syson.services.UtilService;
 import org.eclipse.syson.sysml.BindingConnectorAsUsage;
-import org.eclipse.syson.sysml.EndFeatureMembership;
-import org.eclipse.syson.sysml.Feature;
-import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.PartUsage;
 import org.eclipse.syson.sysml.PortUsage;
-import org.eclipse.syson.sysml.ReferenceSubsetting;
-import org.eclipse.syson.sysml.SysmlFactory;
 
 /**
  * Creation-related Java services used by the {@link InterconnectionViewDiagramDescriptionProvider}.
@@ -32,8 +30,11 @@ public class InterconnectionViewCreateService {
 
     private final UtilService utilService;
 
+    private final BulkCreateService bulkCreateService;
+
     public InterconnectionViewCreateService() {
         this.utilService = new UtilService();
+        this.bulkCreateService = new BulkCreateService();
     }
 
     public BindingConnectorAsUsage createBindingConnectorAsUsage(PortUsage sourcePort, PortUsage targetPort) {
@@ -41,31 +42,6 @@ public class InterconnectionViewCreateService {
         if (containerPart == null) {
             return null;
         }
-        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
-        containerPart.getOwnedRelationship().add(featureMembership);
-
-        BindingConnectorAsUsage bindingConnectorAsUsage = SysmlFactory.eINSTANCE.createBindingConnectorAsUsage();
-        bindingConnectorAsUsage.setDeclaredName("bind");
-        featureMembership.getOwnedRelatedElement().add(bindingConnectorAsUsage);
-
-        EndFeatureMembership sourceEndFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
-        bindingConnectorAsUsage.getOwnedRelationship().add(sourceEndFeatureMembership);
-        Feature sourceFeature = SysmlFactory.eINSTANCE.createFeature();
-        sourceFeature.setIsEnd(true);
-        sourceEndFeatureMembership.getOwnedRelatedElement().add(sourceFeature);
-        ReferenceSubsetting sourceReferenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
-        sourceFeature.getOwnedRelationship().add(sourceReferenceSubsetting);
-        sourceReferenceSubsetting.setReferencedFeature(sourcePort);
-
-        EndFeatureMembership targetEndFeatureMembership = SysmlFactory.eINSTANCE.createEndFeatureMembership();
-        bindingConnectorAsUsage.getOwnedRelationship().add(targetEndFeatureMembership);
-        Feature targetFeature = SysmlFactory.eINSTANCE.createFeature();
-        targetFeature.setIsEnd(true);
-        targetEndFeatureMembership.getOwnedRelatedElement().add(targetFeature);
-        ReferenceSubsetting targetReferenceSubsetting = SysmlFactory.eINSTANCE.createReferenceSubsetting();
-        targetFeature.getOwnedRelationship().add(targetReferenceSubsetting);
-        targetReferenceSubsetting.setReferencedFeature(targetPort);
-
-        return bindingConnectorAsUsage;
+        return this.bulkCreateService.createBindingConnectors(containerPart, List.of(sourcePort), List.of(targetPort)).get(0);
     }
 }
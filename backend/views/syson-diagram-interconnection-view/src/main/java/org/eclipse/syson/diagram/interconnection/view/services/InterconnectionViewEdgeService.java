@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,23 +12,21 @@
  *******************************************************************************/
 package org.eclipse.syson.diagram.interconnection.view.services;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
-import org.eclipse.emf.common.util.EList;
 import org.eclipse.sirius.components.core.api.IFeedbackMessageService;
 import org.eclipse.sirius.components.representations.Message;
 import org.eclipse.sirius.components.representations.MessageLevel;
 import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
 import org.eclipse.syson.sysml.BindingConnectorAsUsage;
 import org.eclipse.syson.sysml.Element;
-import org.eclipse.syson.sysml.EndFeatureMembership;
 import org.eclipse.syson.sysml.Feature;
-import org.eclipse.syson.sysml.FeatureChaining;
 import org.eclipse.syson.sysml.PartUsage;
 import org.eclipse.syson.sysml.PortUsage;
 import org.eclipse.syson.sysml.ReferenceSubsetting;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.util.PortConnectivityIndex;
 
 /**
  * Edge-related Java services used by the {@link InterconnectionViewDiagramDescriptionProvider}.
@@ -43,6 +41,22 @@ public class InterconnectionViewEdgeService {
         this.feedbackMessageService = Objects.requireNonNull(feedbackMessageService);
     }
 
+    /**
+     * Return the {@link BindingConnectorAsUsage}s reachable in the {@link org.eclipse.emf.ecore.resource.ResourceSet}
+     * of the given {@link Element}.
+     *
+     * @param element
+     *            the given {@link Element}.
+     * @return the {@link BindingConnectorAsUsage}s of the connectivity graph of the editing context.
+     */
+    public List<BindingConnectorAsUsage> getAllReachableBindingConnectors(Element element) {
+        List<BindingConnectorAsUsage> bindingConnectors = List.of();
+        if (element.eResource() != null) {
+            bindingConnectors = PortConnectivityIndex.getBindingConnectors(element.eResource().getResourceSet());
+        }
+        return bindingConnectors;
+    }
+
     /**
      * Return the source {@link PortUsage} of the given {@link BindingConnectorAsUsage}.
      *
@@ -51,33 +65,7 @@ public class InterconnectionViewEdgeService {
      * @return the source {@link PortUsage} if found, <code>null</code> otherwise.
      */
     public PortUsage getSourcePort(BindingConnectorAsUsage bind) {
-        PortUsage sourcePort = null;
-        Optional<EndFeatureMembership> endFeatureMembership = bind.getOwnedFeatureMembership().stream()
-            .filter(EndFeatureMembership.class::isInstance)
-            .map(EndFeatureMembership.class::cast)
-            .findFirst();
-        if (endFeatureMembership.isPresent()) {
-            Optional<Feature> referencedFeature = endFeatureMembership.get().getOwnedRelatedElement().stream()
-                .filter(Feature.class::isInstance)
-                .map(Feature.class::cast)
-                .findFirst()
-                .map(Feature::getOwnedReferenceSubsetting)
-                .map(ReferenceSubsetting::getReferencedFeature);
-            if (referencedFeature.isPresent()) {
-                Feature feature = referencedFeature.get();
-                if (feature instanceof PortUsage portUsage) {
-                    sourcePort = portUsage;
-                } else {
-                    EList<FeatureChaining> ownedFeatureChaining = feature.getOwnedFeatureChaining();
-                    FeatureChaining lastFeatureChaining = ownedFeatureChaining.get(Math.max(0, ownedFeatureChaining.size() - 1));
-                    Feature chainingFeature = lastFeatureChaining.getChainingFeature();
-                    if (chainingFeature instanceof PortUsage portUsage) {
-                        sourcePort = portUsage;
-                    }
-                }
-            }
-        }
-        return sourcePort;
+        return PortConnectivityIndex.getSourcePort(bind);
     }
 
     /**
@@ -88,33 +76,18 @@ public class InterconnectionViewEdgeService {
      * @return the target {@link PortUsage} if found, <code>null</code> otherwise.
      */
     public PortUsage getTargetPort(BindingConnectorAsUsage bind) {
-        PortUsage targetPort = null;
-        Optional<EndFeatureMembership> endFeatureMembership = bind.getOwnedFeatureMembership().stream()
-            .filter(EndFeatureMembership.class::isInstance)
-            .map(EndFeatureMembership.class::cast)
-            .reduce((first, second) -> second);
-        if (endFeatureMembership.isPresent()) {
-            Optional<Feature> referencedFeature = endFeatureMembership.get().getOwnedRelatedElement().stream()
-                .filter(Feature.class::isInstance)
-                .map(Feature.class::cast)
-                .findFirst()
-                .map(Feature::getOwnedReferenceSubsetting)
-                .map(ReferenceSubsetting::getReferencedFeature);
-            if (referencedFeature.isPresent()) {
-                Feature feature = referencedFeature.get();
-                if (feature instanceof PortUsage portUsage) {
-                    targetPort = portUsage;
-                } else {
-                    EList<FeatureChaining> ownedFeatureChaining = feature.getOwnedFeatureChaining();
-                    FeatureChaining lastFeatureChaining = ownedFeatureChaining.get(Math.max(0, ownedFeatureChaining.size() - 1));
-                    Feature chainingFeature = lastFeatureChaining.getChainingFeature();
-                    if (chainingFeature instanceof PortUsage portUsage) {
-                        targetPort = portUsage;
-                    }
-                }
-            }
-        }
-        return targetPort;
+        return PortConnectivityIndex.getTargetPort(bind);
+    }
+
+    /**
+     * Return the {@link PortUsage}s connected to the given {@link PortUsage} by a {@link BindingConnectorAsUsage}.
+     *
+     * @param portUsage
+     *            the given {@link PortUsage}.
+     * @return the connected {@link PortUsage}s.
+     */
+    public List<PortUsage> getConnectedPorts(PortUsage portUsage) {
+        return PortConnectivityIndex.getConnectedPorts(portUsage);
     }
 
     /**
@@ -129,25 +102,14 @@ public class InterconnectionViewEdgeService {
      */
     public BindingConnectorAsUsage setSourcePort(BindingConnectorAsUsage bind, Element newSource) {
         if (newSource instanceof PortUsage newSourcePort) {
-            Optional<EndFeatureMembership> endFeatureMembership = bind.getOwnedFeatureMembership().stream()
-                    .filter(EndFeatureMembership.class::isInstance)
-                    .map(EndFeatureMembership.class::cast)
-                    .findFirst();
-            if (endFeatureMembership.isPresent()) {
-                endFeatureMembership.get().getOwnedRelatedElement().stream()
-                    .filter(Feature.class::isInstance)
-                    .map(Feature.class::cast)
-                    .findFirst()
-                    .map(Feature::getOwnedReferenceSubsetting)
-                    .ifPresent(refSub -> {
-                        refSub.setReferencedFeature(newSourcePort);
-                        // move the given connector into the parent (i.e. should be a PartUsage) of the new source
-                        Usage owningUsage = newSourcePort.getOwningUsage();
-                        if (owningUsage instanceof PartUsage partUsage) {
-                            partUsage.getOwnedRelationship().add(bind.getOwningRelationship());
-                        }
-                    });
-
+            ReferenceSubsetting referenceSubsetting = this.getEndReferenceSubsetting(bind, true);
+            if (referenceSubsetting != null) {
+                referenceSubsetting.setReferencedFeature(newSourcePort);
+                // move the given connector into the parent (i.e. should be a PartUsage) of the new source
+                Usage owningUsage = newSourcePort.getOwningUsage();
+                if (owningUsage instanceof PartUsage partUsage) {
+                    partUsage.getOwnedRelationship().add(bind.getOwningRelationship());
+                }
             }
         } else {
             this.feedbackMessageService.addFeedbackMessage(new Message("The source of the BindingConnectorAsUsage can only be connected to a PortUsage", MessageLevel.WARNING));
@@ -166,21 +128,32 @@ public class InterconnectionViewEdgeService {
      */
     public BindingConnectorAsUsage setTargetPort(BindingConnectorAsUsage bind, Element newTarget) {
         if (newTarget instanceof PortUsage newTargetPort) {
-            Optional<EndFeatureMembership> endFeatureMembership = bind.getOwnedFeatureMembership().stream()
-                    .filter(EndFeatureMembership.class::isInstance)
-                    .map(EndFeatureMembership.class::cast)
-                    .reduce((first, second) -> second);
-            if (endFeatureMembership.isPresent()) {
-                endFeatureMembership.get().getOwnedRelatedElement().stream()
-                .filter(Feature.class::isInstance)
-                .map(Feature.class::cast)
-                .findFirst()
-                .map(Feature::getOwnedReferenceSubsetting)
-                .ifPresent(refSub -> refSub.setReferencedFeature(newTargetPort));
+            ReferenceSubsetting referenceSubsetting = this.getEndReferenceSubsetting(bind, false);
+            if (referenceSubsetting != null) {
+                referenceSubsetting.setReferencedFeature(newTargetPort);
             }
         } else {
             this.feedbackMessageService.addFeedbackMessage(new Message("The target of the BindingConnectorAsUsage can only be connected to a PortUsage", MessageLevel.WARNING));
         }
         return bind;
     }
+
+    /**
+     * Get the {@link ReferenceSubsetting} of the first (source) or last (target) end of the given
+     * {@link BindingConnectorAsUsage}.
+     */
+    private ReferenceSubsetting getEndReferenceSubsetting(BindingConnectorAsUsage bind, boolean source) {
+        ReferenceSubsetting referenceSubsetting = null;
+        List<Feature> connectorEnds = bind.getConnectorEnd();
+        if (!connectorEnds.isEmpty()) {
+            Feature connectorEnd;
+            if (source) {
+                connectorEnd = connectorEnds.get(0);
+            } else {
+                connectorEnd = connectorEnds.get(connectorEnds.size() - 1);
+            }
+            referenceSubsetting = connectorEnd.getOwnedReferenceSubsetting();
+        }
+        return referenceSubsetting;
+    }
 }
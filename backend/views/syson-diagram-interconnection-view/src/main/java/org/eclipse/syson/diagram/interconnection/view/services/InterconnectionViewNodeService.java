@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.interconnection.view.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
+import org.eclipse.syson.diagram.interconnection.view.InterconnectionViewDiagramDescriptionProvider;
+import org.eclipse.syson.services.DiagramNodeIndex;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Usage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Node-related Java services used by the {@link InterconnectionViewDiagramDescriptionProvider}.
+ * <p>
+ * The nested parts and ports of a part are only computed when the node of the part is expanded. The candidates of a
+ * collapsed node are the elements of its previous child and border nodes, so that they are kept (and hidden) until the
+ * node is expanded again. The duration of the computation of the candidates is recorded by depth (the root part
+ * having a depth of 0) in the <code>syson.interconnection.candidates.duration</code> timer.
+ * </p>
+ * <p>
+ * The nested parts are not limited by depth: a node is always rendered expanded the first time, so the nested parts of
+ * a node deeper than such a limit would never be computed, and the node could not be expanded to compute them.
+ * <code>org.eclipse.syson.interconnection.maxDepth</code>, which used to set this limit, is rejected.
+ * </p>
+ *
+ * @author arichard
+ */
+public class InterconnectionViewNodeService {
+
+    /**
+     * The name of the rejected property which used to hold the depth after which the nested parts were not computed.
+     */
+    public static final String MAX_DEPTH_PROPERTY = "org.eclipse.syson.interconnection.maxDepth";
+
+    private static final int MAX_DEPTH_TAG = 10;
+
+    private static final int INDEXED_DIAGRAM_COUNT = 16;
+
+    private static final String PART_KIND = "part";
+
+    private static final String PORT_KIND = "port";
+
+    private final Logger logger = LoggerFactory.getLogger(InterconnectionViewNodeService.class);
+
+    private final IObjectService objectService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final DiagramNodeIndex.Cache previousDiagramIndexes = new DiagramNodeIndex.Cache(INDEXED_DIAGRAM_COUNT);
+
+    public InterconnectionViewNodeService(IObjectService objectService, MeterRegistry meterRegistry, Environment environment) {
+        this.objectService = Objects.requireNonNull(objectService);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        if (environment.getProperty(MAX_DEPTH_PROPERTY, Integer.class, 0) != 0) {
+            this.logger.warn("{} is not supported and is ignored, the nested parts are rendered at any depth until their part is collapsed", MAX_DEPTH_PROPERTY);
+        }
+    }
+
+    /**
+     * Get the nested {@link PartUsage}s of the given {@link Usage} to render in the diagram.
+     *
+     * @param usage
+     *            the given {@link Usage}.
+     * @param editingContext
+     *            the {@link IEditingContext} retrieved from the Variable Manager.
+     * @param diagramContext
+     *            the {@link IDiagramContext} retrieved from the Variable Manager.
+     * @param previousDiagram
+     *            the previous {@link Diagram} retrieved from the Variable Manager.
+     * @return the nested {@link PartUsage}s to render.
+     */
+    public List<PartUsage> getNestedPartsToRender(Usage usage, IEditingContext editingContext, IDiagramContext diagramContext, Diagram previousDiagram) {
+        Node node = this.getPreviousNode(usage, previousDiagram);
+        List<PartUsage> nestedParts;
+        if (this.isCollapsed(node)) {
+            nestedParts = this.getPreviousCandidates(node, Node::getChildNodes, PartUsage.class, editingContext, diagramContext);
+            this.getSkippedCounter(PART_KIND).increment();
+        } else {
+            nestedParts = this.getTimer(PART_KIND, this.getDepth(usage, diagramContext)).record(usage::getNestedPart);
+        }
+        return nestedParts;
+    }
+
+    /**
+     * Get the nested {@link PortUsage}s of the given {@link Usage} to render in the diagram.
+     *
+     * @param usage
+     *            the given {@link Usage}.
+     * @param editingContext
+     *            the {@link IEditingContext} retrieved from the Variable Manager.
+     * @param diagramContext
+     *            the {@link IDiagramContext} retrieved from the Variable Manager.
+     * @param previousDiagram
+     *            the previous {@link Diagram} retrieved from the Variable Manager.
+     * @return the nested {@link PortUsage}s to render.
+     */
+    public List<PortUsage> getNestedPortsToRender(Usage usage, IEditingContext editingContext, IDiagramContext diagramContext, Diagram previousDiagram) {
+        Node node = this.getPreviousNode(usage, previousDiagram);
+        List<PortUsage> nestedPorts;
+        if (this.isCollapsed(node)) {
+            nestedPorts = this.getPreviousCandidates(node, Node::getBorderNodes, PortUsage.class, editingContext, diagramContext);
+            this.getSkippedCounter(PORT_KIND).increment();
+        } else {
+            nestedPorts = this.getTimer(PORT_KIND, this.getDepth(usage, diagramContext)).record(usage::getNestedPort);
+        }
+        return nestedPorts;
+    }
+
+    /**
+     * Get the depth of the given {@link Usage} in the diagram, i.e. its number of owning usages up to the target of the
+     * diagram.
+     */
+    private int getDepth(Usage usage, IDiagramContext diagramContext) {
+        String targetObjectId = null;
+        if (diagramContext != null && diagramContext.getDiagram() != null) {
+            targetObjectId = diagramContext.getDiagram().getTargetObjectId();
+        }
+        int depth = 0;
+        Usage current = usage;
+        while (current != null && !Objects.equals(this.objectService.getId(current), targetObjectId)) {
+            depth++;
+            current = current.getOwningUsage();
+        }
+        return depth;
+    }
+
+    private boolean isCollapsed(Node node) {
+        return node != null && node.getCollapsingState() == CollapsingState.COLLAPSED;
+    }
+
+    /**
+     * Get the elements of the previous child (or border) nodes of the given node, and the elements of the views to
+     * create in it, without computing the nested elements of its semantic element.
+     */
+    private <T> List<T> getPreviousCandidates(Node node, Function<Node, List<Node>> getChildren, Class<T> type, IEditingContext editingContext, IDiagramContext diagramContext) {
+        Set<String> targetObjectIds = new LinkedHashSet<>();
+        if (node != null) {
+            getChildren.apply(node).forEach(child -> targetObjectIds.add(child.getTargetObjectId()));
+        }
+        if (node != null && diagramContext != null) {
+            for (ViewCreationRequest request : diagramContext.getViewCreationRequests()) {
+                if (Objects.equals(node.getId(), request.getParentElementId())) {
+                    targetObjectIds.add(request.getTargetObjectId());
+                }
+            }
+        }
+        List<T> candidates = new ArrayList<>(targetObjectIds.size());
+        for (String targetObjectId : targetObjectIds) {
+            this.objectService.getObject(editingContext, targetObjectId)
+                    .filter(type::isInstance)
+                    .map(type::cast)
+                    .ifPresent(candidates::add);
+        }
+        return candidates;
+    }
+
+    /**
+     * Get the node of the given {@link Usage} in the previous diagram, the nodes of the previous diagram being indexed
+     * by target object id once per rendering.
+     */
+    private Node getPreviousNode(Usage usage, Diagram previousDiagram) {
+        Node node = null;
+        if (previousDiagram != null) {
+            node = this.previousDiagramIndexes.get(previousDiagram).getNode(this.objectService.getId(usage));
+        }
+        return node;
+    }
+
+    private Timer getTimer(String kind, int depth) {
+        String depthTag = String.valueOf(depth);
+        if (depth >= MAX_DEPTH_TAG) {
+            depthTag = MAX_DEPTH_TAG + "+";
+        }
+        return Timer.builder("syson.interconnection.candidates.duration")
+                .description("Duration of the computation of the nested elements of the parts of the Interconnection View")
+                .tag("kind", kind)
+                .tag("depth", depthTag)
+                .register(this.meterRegistry);
+    }
+
+    private Counter getSkippedCounter(String kind) {
+        return Counter.builder("syson.interconnection.candidates.skipped")
+                .description("Number of computations of the nested elements of the parts of the Interconnection View skipped")
+                .tag("kind", kind)
+                .register(this.meterRegistry);
+    }
+}
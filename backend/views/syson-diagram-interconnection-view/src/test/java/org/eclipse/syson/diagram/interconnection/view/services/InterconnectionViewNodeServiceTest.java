@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.diagram.interconnection.view.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.CollapsingState;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Usage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link InterconnectionViewNodeService} tests.
+ *
+ * @author arichard
+ */
+public class InterconnectionViewNodeServiceTest {
+
+    private final Map<String, Element> elements = new HashMap<>();
+
+    private final IEditingContext editingContext = mock(IEditingContext.class);
+
+    private MeterRegistry meterRegistry;
+
+    private InterconnectionViewNodeService nodeService;
+
+    private PartUsage system;
+
+    private IDiagramContext diagramContext;
+
+    @BeforeEach
+    void setUp() {
+        IObjectService objectService = mock(IObjectService.class);
+        when(objectService.getId(any())).thenAnswer(invocation -> ((Element) invocation.getArgument(0)).getElementId());
+        when(objectService.getObject(any(), anyString())).thenAnswer(invocation -> Optional.ofNullable(this.elements.get(invocation.getArgument(1))));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.nodeService = new InterconnectionViewNodeService(objectService, this.meterRegistry, new MockEnvironment());
+        this.system = this.register(SysmlFactory.eINSTANCE.createPartUsage());
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getTargetObjectId()).thenReturn(this.system.getElementId());
+        this.diagramContext = mock(IDiagramContext.class);
+        when(this.diagramContext.getDiagram()).thenReturn(diagram);
+        when(this.diagramContext.getViewCreationRequests()).thenReturn(List.of());
+    }
+
+    @Test
+    void testNestedElementsOfCollapsedNodes() {
+        PartUsage engine = this.addNestedPart(this.system);
+        PartUsage wheel = this.addNestedPart(this.system);
+        PortUsage port = this.addNestedPort(this.system);
+
+        // Without previous diagram, the nested elements are computed
+        assertEquals(List.of(engine, wheel), this.nodeService.getNestedPartsToRender(this.system, this.editingContext, this.diagramContext, null));
+        assertEquals(List.of(port), this.nodeService.getNestedPortsToRender(this.system, this.editingContext, this.diagramContext, null));
+
+        // The candidates of a collapsed node are the elements of its previous child and border nodes
+        Node engineNode = this.createNode(engine, CollapsingState.EXPANDED, List.of(), List.of());
+        Node systemNode = this.createNode(this.system, CollapsingState.COLLAPSED, List.of(engineNode), List.of());
+        Diagram previousDiagram = this.createDiagram(systemNode);
+        assertEquals(List.of(engine), this.nodeService.getNestedPartsToRender(this.system, this.editingContext, this.diagramContext, previousDiagram));
+        assertEquals(List.of(), this.nodeService.getNestedPortsToRender(this.system, this.editingContext, this.diagramContext, previousDiagram));
+        assertEquals(2, this.meterRegistry.get("syson.interconnection.candidates.skipped").counters().stream().mapToDouble(counter -> counter.count()).sum());
+
+        // Once expanded, the nested elements are computed again
+        Node expandedSystemNode = this.createNode(this.system, CollapsingState.EXPANDED, List.of(engineNode), List.of());
+        Diagram nextDiagram = this.createDiagram(expandedSystemNode);
+        assertEquals(List.of(engine, wheel), this.nodeService.getNestedPartsToRender(this.system, this.editingContext, this.diagramContext, nextDiagram));
+        assertEquals(List.of(port), this.nodeService.getNestedPortsToRender(this.system, this.editingContext, this.diagramContext, nextDiagram));
+    }
+
+    @Test
+    void testPreviousDiagramsAreIndexedOncePerRendering() {
+        PartUsage engine = this.addNestedPart(this.system);
+        PartUsage wheel = this.addNestedPart(this.system);
+        Node engineNode = this.createNode(engine, CollapsingState.EXPANDED, List.of(), List.of());
+        Diagram collapsedDiagram = this.createDiagram(this.createNode(this.system, CollapsingState.COLLAPSED, List.of(engineNode), List.of()));
+        Diagram expandedDiagram = this.createDiagram(this.createNode(this.system, CollapsingState.EXPANDED, List.of(engineNode), List.of()));
+
+        // Two renderings of different diagrams in progress at the same time
+        for (int i = 0; i < 3; i++) {
+            assertEquals(List.of(engine), this.nodeService.getNestedPartsToRender(this.system, this.editingContext, this.diagramContext, collapsedDiagram));
+            assertEquals(List.of(engine, wheel), this.nodeService.getNestedPartsToRender(this.system, this.editingContext, this.diagramContext, expandedDiagram));
+        }
+        verify(collapsedDiagram, times(1)).getNodes();
+        verify(expandedDiagram, times(1)).getNodes();
+    }
+
+    private <T extends Element> T register(T element) {
+        this.elements.put(element.getElementId(), element);
+        return element;
+    }
+
+    private PartUsage addNestedPart(Usage usage) {
+        PartUsage partUsage = this.register(SysmlFactory.eINSTANCE.createPartUsage());
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        usage.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(partUsage);
+        return partUsage;
+    }
+
+    private PortUsage addNestedPort(Usage usage) {
+        PortUsage portUsage = this.register(SysmlFactory.eINSTANCE.createPortUsage());
+        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+        usage.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(portUsage);
+        return portUsage;
+    }
+
+    private Node createNode(Element element, CollapsingState collapsingState, List<Node> childNodes, List<Node> borderNodes) {
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn("node " + element.getElementId());
+        when(node.getTargetObjectId()).thenReturn(element.getElementId());
+        when(node.getCollapsingState()).thenReturn(collapsingState);
+        when(node.getChildNodes()).thenReturn(childNodes);
+        when(node.getBorderNodes()).thenReturn(borderNodes);
+        return node;
+    }
+
+    private Diagram createDiagram(Node... nodes) {
+        Diagram diagram = mock(Diagram.class);
+        when(diagram.getTargetObjectId()).thenReturn(this.system.getElementId());
+        when(diagram.getNodes()).thenReturn(List.of(nodes));
+        return diagram;
+    }
+}